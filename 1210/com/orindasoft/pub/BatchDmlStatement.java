@@ -0,0 +1,818 @@
+package com.orindasoft.pub;
+
+// We are working with JDBC
+import java.sql.*;
+
+// We bind whole arrays using Oracle's PL/SQL index by table support
+import oracle.jdbc.OraclePreparedStatement;
+import oracle.jdbc.OracleTypes;
+
+// We split arrays into chunks
+import java.util.Arrays;
+import java.math.BigDecimal;
+
+/**
+* An INSERT, UPDATE, DELETE or MERGE statement that sends many sets of parameters to the
+* database at once.
+* <p>
+* Parameters are set in the usual way with <tt>setParam()</tt>. Each call to <tt>addBatch()</tt>
+* binds the current parameters and adds them to the batch. When <tt>getBatchSize()</tt> sets
+* have been added the batch is sent to the database automatically. <tt>executeBatch()</tt> sends
+* whatever is left and returns the update count for every set added since the last call to
+* <tt>executeBatch()</tt>, including those that were sent automatically. Loading a million rows
+* therefore takes a thousand round trips instead of a million.
+* <p>
+* Each time a batch is sent any results in the shared QueryResultCache that were read from
+* the tables the statement changes are removed.
+* <p>
+* If sending a batch fails the whole batch is discarded and a CSDBException is thrown. Unlike
+* <tt>executeUpdate()</tt> we don't try again as some of the rows may already have been changed.
+* <p>
+* Data that is already in arrays can be sent with <tt>executeBulk()</tt> instead, which takes
+* one array per parameter. The statement is wrapped in an anonymous PL/SQL block that binds each
+* array as a PL/SQL index by table and runs the statement once per element with FORALL, so
+* each chunk of up to <tt>getBatchSize()</tt> rows is a single call that only binds once per column.
+* <p>
+* <br>(c) Copyright 2003 - 2015 Orinda Software Ltd<p>
+*
+* @see DmlStatement#executeUpdate()
+* @version 6.0
+* @author  <a href="http://www.orindasoft.com/?pdsrc=api" target="_blank" class=news>Orinda Software</a>
+*/
+public class BatchDmlStatement extends DmlStatement implements OracleResourceUser
+                                                             , StatsInterface
+{
+  /**
+  * How many sets of parameters are sent at once unless we are told otherwise.
+  */
+  public static final int DEFAULT_BATCH_SIZE = 1000;
+
+  /**
+  * How many sets of parameters are sent at once. 0 means they are only sent by executeBatch().
+  */
+  int batchSize = DEFAULT_BATCH_SIZE;
+
+  /**
+  * How many sets of parameters have been added to the PreparedStatement but not sent.
+  */
+  int pendingRows = 0;
+
+  /**
+  * Update counts for sets that have been sent since executeBatch() was last called.
+  */
+  int[] sentUpdateCounts = new int[16];
+
+  /**
+  * How many entries of sentUpdateCounts are in use.
+  */
+  int sentRows = 0;
+
+  /**
+  * The anonymous block used by executeBulk(), prepared when first needed.
+  */
+  CallableStatement bulkStatement = null;
+
+  /**
+  * The text of bulkStatement. It depends on the data types of the arrays.
+  */
+  String bulkStatementSqlText = null;
+
+  /**
+  * Counter for number of Parses - used by StatsInterface
+  * @see StatsInterface
+  */
+  long parseCount = 0;
+
+  /**
+  * Counter for amount of time spent parsing in milliseconds - used by StatsInterface
+  * @see StatsInterface
+  */
+  long parseTimeMilliseconds = 0;
+
+  /**
+  * Counter for number of batches sent - used by StatsInterface
+  * @see StatsInterface
+  */
+  long executionCount = 0;
+
+  /**
+  * Counter for amount of time spent sending batches - used by StatsInterface
+  * @see StatsInterface
+  */
+  long executionTimeMilliseconds = 0;
+
+  /**
+  * Counter for amount of time spent binding parameters - used by StatsInterface
+  * @see StatsInterface
+  */
+  long retrieveTimeMilliseconds = 0;
+
+  /**
+  * Counter for number of Connection Releases - used by StatsInterface
+  * @see StatsInterface
+  */
+  long releaseCount = 0;
+
+  /**
+  * Counter for number of Errors - used by StatsInterface
+  * @see StatsInterface
+  */
+  long errorCount = 0;
+
+  /**
+  * Counter for how long a statement has spent executing or parsing - used by StatsInterface
+  * @see StatsInterface
+  */
+  long statsEventTimer = 0;
+
+  /**
+  * Create a BatchDmlStatement object and give it a connection
+  */
+  public BatchDmlStatement(String statementSqlText, LogInterface theLog, Connection theConnection)
+    {
+    super(statementSqlText,theLog);
+    setConnection(theConnection);
+    }
+
+  /**
+  * Create a BatchDmlStatement object.
+  */
+  public BatchDmlStatement(String statementSqlText, LogInterface theLog)
+    {
+    super(statementSqlText,theLog);
+    }
+
+  /**
+  * Specify how many sets of parameters are sent to the database at once.
+  * @param int newBatchSize How many sets to send at once, or 0 to only send them when executeBatch() is called.
+  */
+  public void setBatchSize(int newBatchSize)
+    {
+    if (newBatchSize >= 0)
+      {
+      batchSize = newBatchSize;
+      }
+    }
+
+  /**
+  * Return how many sets of parameters are sent to the database at once.
+  * @return int batchSize
+  */
+  public int getBatchSize()
+    {
+    return(batchSize);
+    }
+
+  /**
+  * Return how many sets of parameters have been added but not yet sent to the database.
+  * @return int the number of pending sets.
+  */
+  public int getPendingRows()
+    {
+    return(pendingRows);
+    }
+
+  /**
+  * Add the current parameters to the batch. If this fills the batch it is sent to the database.
+  * Parameters keep their values afterwards, so only the ones that change need to be set again.
+  * @throws CSException if the parameters can't be bound or a full batch can't be sent.
+  */
+  public void addBatch() throws CSException
+    {
+    // Complain if we are without a connection...
+    testConnection();
+
+    try
+      {
+      prepareAndBind();
+      thePreparedStatement.addBatch();
+      }
+    catch (SQLException e)
+      {
+      // If nothing is waiting our prepared statement may just be stale. Try once more.
+      if (pendingRows > 0)
+        {
+        discardBatch();
+        discardPreparedStatement();
+        incErrorCount();
+        throw new CSDBException(e.getErrorCode(),e.getSQLState(),statementSqlText
+          ,"Unable to add to batch. " + e.getMessage());
+        }
+
+      discardPreparedStatement();
+
+      try
+        {
+        prepareAndBind();
+        thePreparedStatement.addBatch();
+        }
+      catch (SQLException e2)
+        {
+        discardPreparedStatement();
+        incErrorCount();
+        throw new CSDBException(e2.getErrorCode(),e2.getSQLState(),statementSqlText
+          ,"Unable to add to batch. First Message:" + e.getMessage()
+          +" Second Message:" + e2.getMessage());
+        }
+      }
+
+    pendingRows++;
+
+    if (batchSize > 0 && pendingRows >= batchSize)
+      {
+      sendBatch();
+      }
+    }
+
+  /**
+  * Send any sets of parameters that are waiting to the database.
+  * @return int[] One update count for every set added since executeBatch() was last called,
+  * in the order they were added. A count may be Statement.SUCCESS_NO_INFO if the driver
+  * doesn't say how many rows each set changed.
+  * @throws CSException if the batch can't be sent.
+  */
+  public int[] executeBatch() throws CSException
+    {
+    if (pendingRows > 0)
+      {
+      sendBatch();
+      }
+
+    int[] updateCounts = new int[sentRows];
+    System.arraycopy(sentUpdateCounts, 0, updateCounts, 0, sentRows);
+    sentRows = 0;
+
+    return(updateCounts);
+    }
+
+  /**
+  * Throw away any sets of parameters that have not been sent, along with the update counts
+  * of sets that have been sent since executeBatch() was last called.
+  */
+  public void clearBatch()
+    {
+    discardBatch();
+    sentRows = 0;
+    }
+
+  /**
+  * Run the statement once for every element of a set of arrays, sending up to
+  * <tt>getBatchSize()</tt> rows at a time.
+  * <p>
+  * There must be one array per parameter, all the same length. Each can be a
+  * PlsqlIndexByTable2 of NUMBER or VARCHAR, an int[], long[], float[] or double[], or a String[] or BigDecimal[].
+  * Use <tt>setBatchSize()</tt> to change how many rows are sent at a time.
+  * Because the rows are sent as PL/SQL index by tables only numbers and strings can be used;
+  * convert dates with TO_DATE in the SQL. Any sets added with <tt>addBatch()</tt> are sent first.
+  * @param Object[] columnValues One array per parameter.
+  * @return int How many rows were changed in total.
+  * @throws CSException if the arrays are unsuitable or a chunk can't be sent. Earlier chunks
+  * will already have been run.
+  */
+  public int executeBulk(Object[] columnValues) throws CSException
+    {
+    testConnection();
+
+    if (columnValues == null || columnValues.length != parameterArray.length)
+      {
+      throw new CSException("executeBulk needs one array for each of the " + parameterArray.length
+                           + " parameters in " + statementSqlText);
+      }
+
+    if (pendingRows > 0)
+      {
+      sendBatch();
+      }
+
+    PlsqlIndexByTable2[] columnTables = new PlsqlIndexByTable2[columnValues.length];
+    int rowCount = -1;
+    int chunkRows = Integer.MAX_VALUE;
+
+    for (int i=0; i < columnValues.length; i++)
+      {
+      columnTables[i] = toIndexByTable(columnValues[i], i+1);
+
+      if (rowCount == -1)
+        {
+        rowCount = columnTables[i].getArrayLength();
+        }
+      else if (rowCount != columnTables[i].getArrayLength())
+        {
+        throw new CSException("executeBulk: array for parameter " + (i+1) + " has " + columnTables[i].getArrayLength()
+                             + " elements but the first has " + rowCount);
+        }
+      }
+
+    if (batchSize > 0)
+      {
+      chunkRows = batchSize;
+      }
+
+    if (rowCount <= 0)
+      {
+      return(0);
+      }
+
+    int rowsChanged = 0;
+
+    try
+      {
+      prepareBulkStatement(columnTables);
+
+      for (int chunkStart=0; chunkStart < rowCount; chunkStart += chunkRows)
+        {
+        int chunkEnd = Math.min(rowCount, chunkStart + chunkRows);
+
+        startStatsTimer();
+
+        for (int i=0; i < columnTables.length; i++)
+          {
+          PlsqlIndexByTable2 theChunk = getChunk(columnTables[i], chunkStart, chunkEnd);
+
+          ((OraclePreparedStatement)bulkStatement).setPlsqlIndexTable(i+1
+             ,theChunk.getArray()            // Array Elements
+             ,chunkEnd - chunkStart          // Max number of elements
+             ,theChunk.getArrayLength()      // Current number of elements
+             ,theChunk.getRealDataTypeCode() // Oracle Data type code
+             ,theChunk.getElementMaxLength());  // max length of an element
+          }
+
+        incRetrieveTime();
+
+        startStatsTimer();
+        bulkStatement.execute();
+        incExecutionCount();
+
+        rowsChanged += bulkStatement.getInt(columnTables.length + 1);
+        }
+      }
+    catch (SQLException e)
+      {
+      closeBulkStatement();
+      incErrorCount();
+
+      // Some chunks may have been run before it failed.
+      invalidateChangedTables();
+
+      throw new CSDBException(e.getErrorCode(),e.getSQLState(),statementSqlText
+        ,"Unable to execute bulk statement after changing " + rowsChanged + " rows: " + e.getMessage());
+      }
+
+    invalidateChangedTables();
+
+    return(rowsChanged);
+    }
+
+  /**
+  * Return the anonymous PL/SQL block executeBulk() would use for arrays of these types.
+  * @param PlsqlIndexByTable2[] columnTables One table per parameter.
+  * @return String An anonymous block that runs our statement with FORALL.
+  */
+  protected String getBulkStatementSqlText(PlsqlIndexByTable2[] columnTables)
+    {
+    String[] elementNames = new String[columnTables.length];
+    StringBuffer bulkSql = new StringBuffer("DECLARE\n");
+
+    for (int i=0; i < columnTables.length; i++)
+      {
+      // Use index by table types that Oracle already provides so nothing needs to be created.
+      bulkSql.append("  c").append(i+1);
+
+      if (columnTables[i].getRealDataTypeCode() == OracleTypes.VARCHAR)
+        {
+        bulkSql.append(" DBMS_SQL.VARCHAR2A;\n");
+        }
+      else
+        {
+        bulkSql.append(" DBMS_SQL.NUMBER_TABLE;\n");
+        }
+
+      elementNames[i] = "c" + (i+1) + "(i)";
+      }
+
+    bulkSql.append("BEGIN\n");
+
+    for (int i=0; i < columnTables.length; i++)
+      {
+      bulkSql.append("  c").append(i+1).append(" := ?;\n");
+      }
+
+    bulkSql.append("  FORALL i IN 1 .. c1.COUNT\n    ");
+    bulkSql.append(SqlUtils.replaceParameters(statementSqlText, elementNames));
+    bulkSql.append(";\n  ? := SQL%ROWCOUNT;\nEND;");
+
+    return(bulkSql.toString());
+    }
+
+  /**
+  * Prepare the anonymous block for arrays of these types, unless we already have it.
+  * @param PlsqlIndexByTable2[] columnTables One table per parameter.
+  * @throws SQLException
+  */
+  private void prepareBulkStatement(PlsqlIndexByTable2[] columnTables) throws SQLException
+    {
+    String newBulkSqlText = getBulkStatementSqlText(columnTables);
+
+    if (bulkStatement == null || ! newBulkSqlText.equals(bulkStatementSqlText))
+      {
+      closeBulkStatement();
+
+      startStatsTimer();
+      bulkStatement = theConnection.prepareCall(newBulkSqlText);
+      bulkStatement.registerOutParameter(columnTables.length + 1, Types.INTEGER);
+      bulkStatementSqlText = newBulkSqlText;
+      incParseCount();
+      }
+    }
+
+  /**
+  * Close the anonymous block used by executeBulk().
+  */
+  private void closeBulkStatement()
+    {
+    if (bulkStatement != null)
+      {
+      try
+        {
+        bulkStatement.close();
+        }
+      catch (SQLException e)
+        {
+        theLog.error("Unable to close bulk statement for " + statementSqlText + " :" + e.getMessage());
+        }
+
+      bulkStatement = null;
+      bulkStatementSqlText = null;
+      }
+    }
+
+  /**
+  * Turn one of the arrays given to executeBulk() into a PlsqlIndexByTable2.
+  * @param Object columnValue A PlsqlIndexByTable2 or an array.
+  * @param int parameterId Which parameter it is for. Used in error messages.
+  * @return PlsqlIndexByTable2 The array as a PlsqlIndexByTable2.
+  * @throws CSException if we can't use it.
+  */
+  private PlsqlIndexByTable2 toIndexByTable(Object columnValue, int parameterId) throws CSException
+    {
+    if (columnValue instanceof PlsqlIndexByTable2)
+      {
+      int realDataTypeCode = ((PlsqlIndexByTable2)columnValue).getRealDataTypeCode();
+
+      // getBulkStatementSqlText() only knows how to declare tables of these.
+      if (realDataTypeCode != OracleTypes.VARCHAR && realDataTypeCode != OracleTypes.NUMBER)
+        {
+        throw new CSException("executeBulk: PlsqlIndexByTable2 for parameter " + parameterId
+                             + " has data type " + realDataTypeCode + " - only NUMBER and VARCHAR can be used");
+        }
+
+      return((PlsqlIndexByTable2)columnValue);
+      }
+
+    PlsqlIndexByTable2 newTable = null;
+
+    if (columnValue instanceof String[])
+      {
+      String[] stringValues = (String[])columnValue;
+      int maxLength = 1;
+
+      for (int i=0; i < stringValues.length; i++)
+        {
+        if (stringValues[i] != null && stringValues[i].length() > maxLength)
+          {
+          maxLength = stringValues[i].length();
+          }
+        }
+
+      newTable = new PlsqlIndexByTable2(OracleTypes.VARCHAR, 0);
+      newTable.setArray(stringValues);
+      newTable.setElementMaxLength(maxLength);
+      return(newTable);
+      }
+
+    newTable = new PlsqlIndexByTable2(OracleTypes.NUMBER, 0);
+
+    if (columnValue instanceof BigDecimal[])
+      {
+      newTable.setArray((BigDecimal[])columnValue);
+      }
+    else if (columnValue instanceof int[])
+      {
+      newTable.setArray((int[])columnValue);
+      }
+    else if (columnValue instanceof long[])
+      {
+      newTable.setArray((long[])columnValue);
+      }
+    else if (columnValue instanceof float[])
+      {
+      newTable.setArray((float[])columnValue);
+      }
+    else if (columnValue instanceof double[])
+      {
+      newTable.setArray((double[])columnValue);
+      }
+    else
+      {
+      String typeName = "null";
+
+      if (columnValue != null)
+        {
+        typeName = columnValue.getClass().getName();
+        }
+
+      throw new CSException("executeBulk: Don't know how to bind parameter " + parameterId + " of type " + typeName);
+      }
+
+    return(newTable);
+    }
+
+  /**
+  * Return part of a PlsqlIndexByTable2.
+  * @param PlsqlIndexByTable2 theTable A table.
+  * @param int chunkStart The first element we want.
+  * @param int chunkEnd The element after the last one we want.
+  * @return PlsqlIndexByTable2 A table containing just those elements, or <tt>theTable</tt> if that is all of it.
+  */
+  private PlsqlIndexByTable2 getChunk(PlsqlIndexByTable2 theTable, int chunkStart, int chunkEnd)
+    {
+    if (chunkStart == 0 && chunkEnd == theTable.getArrayLength())
+      {
+      return(theTable);
+      }
+
+    PlsqlIndexByTable2 theChunk = new PlsqlIndexByTable2(theTable.getRealDataTypeCode(), 0);
+    theChunk.setArray(Arrays.copyOfRange(theTable.getArray(), chunkStart, chunkEnd));
+    theChunk.setElementMaxLength(theTable.getElementMaxLength());
+
+    return(theChunk);
+    }
+
+  /**
+  * Release the current connection. Any sets of parameters that have not been sent are lost.
+  */
+  public void freeConnection()
+    {
+    if (pendingRows > 0)
+      {
+      theLog.warning("Discarding " + pendingRows + " unsent rows for " + statementSqlText);
+      }
+
+    // Don't leave our rows in a PreparedStatement that goes back in the StatementCache.
+    discardBatch();
+    sentRows = 0;
+    closeBulkStatement();
+    incReleaseCount();
+    super.freeConnection();
+    }
+
+  /**
+  * Prepare the statement if needed and bind the current parameters.
+  * @throws SQLException
+  * @throws CSException
+  */
+  private void prepareAndBind() throws SQLException, CSException
+    {
+    startStatsTimer();
+
+    if (createPreparedStatement())
+      {
+      incParseCount();
+      startStatsTimer();
+      }
+
+    bindParameters(thePreparedStatement);
+    incRetrieveTime();
+    }
+
+  /**
+  * Send the pending sets of parameters to the database and keep their update counts.
+  * @throws CSException if the batch can't be sent.
+  */
+  private void sendBatch() throws CSException
+    {
+    int[] batchUpdateCounts = null;
+
+    try
+      {
+      startStatsTimer();
+      batchUpdateCounts = thePreparedStatement.executeBatch();
+      incExecutionCount();
+      }
+    catch (SQLException e)
+      {
+      int failedRows = pendingRows;
+      discardPreparedStatement();
+      pendingRows = 0;
+      incErrorCount();
+
+      // Some rows may have been changed before it failed.
+      invalidateChangedTables();
+
+      throw new CSDBException(e.getErrorCode(),e.getSQLState(),statementSqlText
+        ,"Unable to execute batch of " + failedRows + " rows: " + e.getMessage());
+      }
+
+    pendingRows = 0;
+
+    if (sentRows + batchUpdateCounts.length > sentUpdateCounts.length)
+      {
+      int[] newUpdateCounts = new int[Math.max(sentUpdateCounts.length * 2, sentRows + batchUpdateCounts.length)];
+      System.arraycopy(sentUpdateCounts, 0, newUpdateCounts, 0, sentRows);
+      sentUpdateCounts = newUpdateCounts;
+      }
+
+    System.arraycopy(batchUpdateCounts, 0, sentUpdateCounts, sentRows, batchUpdateCounts.length);
+    sentRows += batchUpdateCounts.length;
+
+    invalidateChangedTables();
+    }
+
+  /**
+  * Throw away sets of parameters that have not been sent.
+  */
+  private void discardBatch()
+    {
+    if (pendingRows > 0 && thePreparedStatement != null)
+      {
+      try
+        {
+        thePreparedStatement.clearBatch();
+        }
+      catch (SQLException e)
+        {
+        // Start again with a new PreparedStatement.
+        discardPreparedStatement();
+        }
+      }
+
+    pendingRows = 0;
+    }
+
+  /**
+  * Reset all stats counters to 0. Used to implement StatsInterface
+  * @see StatsInterface
+  */
+  public void resetStatsCounters()
+    {
+    parseCount = 0;
+    executionCount = 0;
+    parseTimeMilliseconds = 0;
+    executionTimeMilliseconds = 0;
+    retrieveTimeMilliseconds = 0;
+    releaseCount = 0;
+    errorCount = 0;
+    }
+
+  /**
+  * Return counter containing number of parses. Used to implement StatsInterface
+  * @see StatsInterface
+  */
+  public long getParses()
+    {
+    return (parseCount);
+    }
+
+  /**
+  * Return counter containing time spent parsing in milliseconds. Used to implement StatsInterface
+  * @see StatsInterface
+  */
+  public long getParseTime()
+    {
+    return (parseTimeMilliseconds);
+    }
+
+  /**
+  * Return counter containing number of batches sent. Used to implement StatsInterface
+  * @see StatsInterface
+  */
+  public long getExecutions()
+    {
+    return (executionCount);
+    }
+
+  /**
+  * Return counter containing time spent sending batches in milliseconds. Used to implement StatsInterface
+  * @see StatsInterface
+  */
+  public long getExecutionTime()
+    {
+    return (executionTimeMilliseconds);
+    }
+
+  /**
+  * Return counter containing time spent binding parameters in milliseconds. Used to implement StatsInterface
+  * @see StatsInterface
+  */
+  public long getRetrievalTime()
+    {
+    return (retrieveTimeMilliseconds);
+    }
+
+  /**
+  * Return counter containing number of releases. Used to implement StatsInterface
+  * @see StatsInterface
+  */
+  public long getReleases()
+    {
+    return (releaseCount);
+    }
+
+  /**
+  * Return counter containing number of errors. Used to implement StatsInterface
+  * @see StatsInterface
+  */
+  public long getErrors()
+    {
+    return (errorCount);
+    }
+
+  /**
+  * Start timer used to keep track of parse and execution time - used to implement StatsInterface
+  * @see StatsInterface
+  */
+  protected void startStatsTimer()
+    {
+    statsEventTimer = System.currentTimeMillis();
+    }
+
+  /**
+  * Increment counter used to keep track of parses - used to implement StatsInterface
+  * @see StatsInterface
+  */
+  private void incParseCount()
+    {
+    parseTimeMilliseconds = parseTimeMilliseconds + (System.currentTimeMillis() - statsEventTimer);
+    statsEventTimer=0;
+
+    if (parseCount < Long.MAX_VALUE)
+      {
+      parseCount++;
+      }
+    else
+      {
+      theLog.syserror("parse counter is greater than " + parseCount);
+      }
+    }
+
+  /**
+  * Increment counter used to keep track of executions - used to implement StatsInterface
+  * @see StatsInterface
+  */
+  private void incExecutionCount()
+    {
+    executionTimeMilliseconds = executionTimeMilliseconds + (System.currentTimeMillis() - statsEventTimer);
+    statsEventTimer=0;
+
+    if (executionCount < Long.MAX_VALUE)
+      {
+      executionCount++;
+      }
+    else
+      {
+      theLog.syserror("execution counter is greater than " + executionCount);
+      }
+    }
+
+  /**
+  * Increment variable used to keep track of binding time - used to implement StatsInterface
+  * @see StatsInterface
+  */
+  protected void incRetrieveTime()
+    {
+    retrieveTimeMilliseconds = retrieveTimeMilliseconds + (System.currentTimeMillis() - statsEventTimer);
+    statsEventTimer=0;
+    }
+
+  /**
+  * Increment counter used to keep track of releases - used to implement StatsInterface
+  * @see StatsInterface
+  */
+  private void incReleaseCount()
+    {
+    if (releaseCount < Long.MAX_VALUE)
+      {
+      releaseCount++;
+      }
+    else
+      {
+      theLog.syserror("release counter is greater than " + releaseCount);
+      }
+    }
+
+  /**
+  * Increment counter used to keep track of errors - used to implement StatsInterface
+  * @see StatsInterface
+  */
+  private void incErrorCount()
+    {
+    if (errorCount < Long.MAX_VALUE)
+      {
+      errorCount++;
+      }
+    else
+      {
+      theLog.syserror("error counter is greater than " + errorCount);
+      }
+    }
+}
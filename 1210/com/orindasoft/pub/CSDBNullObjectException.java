@@ -1,20 +1,20 @@
-package com.orindasoft.pub;
-
-/**
-* Thrown when a <code>null</code> is found where an object is required
-*
-* <br>(c) Copyright 2003 - 2015 Orinda Software Ltd<p>
-*
-* @version 6.0
-* @author  <a href="http://www.orindasoft.com/?pdsrc=api" target="_blank" class=news>Orinda Software</a>
-*/
-public class CSDBNullObjectException extends CSDBException
-{
-
-public CSDBNullObjectException()
-  {
-  }
-} 
-
-
+package com.orindasoft.pub;
+
+/**
+* Thrown when a <code>null</code> is found where an object is required
+*
+* <br>(c) Copyright 2003 - 2015 Orinda Software Ltd<p>
+*
+* @version 6.0
+* @author  <a href="http://www.orindasoft.com/?pdsrc=api" target="_blank" class=news>Orinda Software</a>
+*/
+public class CSDBNullObjectException extends CSDBException
+{
+
+public CSDBNullObjectException()
+  {
+  }
+} 
+
+
 
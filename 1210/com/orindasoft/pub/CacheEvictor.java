@@ -0,0 +1,428 @@
+package com.orindasoft.pub;
+
+// We keep the entries in each slot of the wheel in a HashSet so they can be removed quickly
+import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+
+/**
+* A background thread that removes entries from a QueryResultCache when they expire.
+* <p>
+* Entries are kept in a hierarchical timer wheel keyed on their expiry time. The wheel
+* has WHEEL_LEVELS levels of WHEEL_SLOTS slots each. A slot on the first level covers
+* one tick; a slot on each level above covers a whole turn of the level below. An entry
+* goes into the lowest level whose span reaches its expiry time and moves down a level
+* each time the level above turns past its slot, so every tick only the entries that are
+* due - plus the occasional slot moving down a level - are looked at. Scheduling and
+* cancelling an entry take constant time no matter how many entries there are.
+* <p>
+* When an entry expires it is removed from the cache. When any entry leaves the cache -
+* because it expired, was evicted or its tables were invalidated - and its ReadOnlyRowSet
+* was created with <tt>keepFiles == false</tt>, the files it downloaded for LOB and LONG
+* columns, and any page file, are deleted <tt>fileGraceMillis</tt> later. Rows kept in direct memory
+* with STORAGE_OFF_HEAP are freed at the same time, whatever <tt>keepFiles</tt> is. If a RowView on the
+* ReadOnlyRowSet is still in use then - one that hasn't been garbage collected - we wait another
+* <tt>fileGraceMillis</tt> and look again, so callers that are still reading the rows never
+* lose their files.
+* <p>
+* Under normal circumstances <a href="http://www.orindasoft.com/?adsrc=api" target="_blank class="manual">OrindaBuild</a> users
+* will have no reason to use this class directly - QueryResultCache will use it.
+* <p>
+* <br>(c) Copyright 2003 - 2015 Orinda Software Ltd<p>
+*
+* @see QueryResultCache#startEvictor()
+* @version 6.0
+* @author  <a href="http://www.orindasoft.com/?pdsrc=api" target="_blank" class=news>Orinda Software</a>
+*/
+public class CacheEvictor implements Runnable
+{
+  /**
+  * How long a tick lasts unless we are told otherwise.
+  */
+  public static final long DEFAULT_TICK_MILLIS = 250;
+
+  /**
+  * How long we wait after an entry expires before deleting its files unless we are told otherwise.
+  */
+  public static final long DEFAULT_FILE_GRACE_MILLIS = 60000;
+
+  /**
+  * How many bits of the tick number each level of the wheel uses.
+  */
+  private static final int WHEEL_BITS = 6;
+
+  /**
+  * How many slots each level of the wheel has.
+  */
+  public static final int WHEEL_SLOTS = 1 << WHEEL_BITS;
+
+  /**
+  * How many levels the wheel has. With the default tick the top level turns
+  * once every 48 days; entries due later than that are kept in its last slot
+  * until they come into range.
+  */
+  public static final int WHEEL_LEVELS = 4;
+
+  /**
+  * The cache we remove entries from.
+  */
+  private QueryResultCache theCache = null;
+
+  /**
+  * How long a tick lasts.
+  */
+  private long tickMillis = DEFAULT_TICK_MILLIS;
+
+  /**
+  * How long we wait after an entry expires before deleting its files.
+  */
+  private long fileGraceMillis = DEFAULT_FILE_GRACE_MILLIS;
+
+  /**
+  * The wheel. wheelSlots[level][slot] is a HashSet of QueryResultCacheEntry.
+  */
+  private HashSet[][] wheelSlots = new HashSet[WHEEL_LEVELS][WHEEL_SLOTS];
+
+  /**
+  * The tick the wheel has reached.
+  */
+  private long currentTick = 0;
+
+  /**
+  * How many entries are in the wheel.
+  */
+  private int scheduledCount = 0;
+
+  /**
+  * The thread that turns the wheel, or null if we are stopped.
+  */
+  private Thread evictorThread = null;
+
+  /**
+  * Create a CacheEvictor for a cache. It does nothing until <tt>start()</tt> is called.
+  * @param QueryResultCache theCache The cache to remove expired entries from.
+  * @param long tickMillis How often to look for expired entries.
+  * @param long fileGraceMillis How long to wait after an entry expires before deleting its files.
+  */
+  public CacheEvictor(QueryResultCache theCache, long tickMillis, long fileGraceMillis)
+    {
+    this.theCache = theCache;
+
+    if (tickMillis > 0)
+      {
+      this.tickMillis = tickMillis;
+      }
+
+    if (fileGraceMillis >= 0)
+      {
+      this.fileGraceMillis = fileGraceMillis;
+      }
+
+    for (int level=0; level < WHEEL_LEVELS; level++)
+      {
+      for (int slot=0; slot < WHEEL_SLOTS; slot++)
+        {
+        wheelSlots[level][slot] = new HashSet();
+        }
+      }
+
+    currentTick = System.currentTimeMillis() / this.tickMillis;
+    }
+
+  /**
+  * Start the background thread. It is a daemon thread so it will not keep the JVM alive.
+  */
+  public synchronized void start()
+    {
+    if (evictorThread == null)
+      {
+      evictorThread = new Thread(this, "QueryResultCache evictor");
+      evictorThread.setDaemon(true);
+      evictorThread.start();
+      }
+    }
+
+  /**
+  * Stop the background thread. Entries already in the wheel stay there and will be
+  * dealt with if <tt>start()</tt> is called again.
+  */
+  public synchronized void stop()
+    {
+    if (evictorThread != null)
+      {
+      Thread oldThread = evictorThread;
+      evictorThread = null;
+      oldThread.interrupt();
+      }
+    }
+
+  /**
+  * Return <tt>true</tt> if the background thread is running.
+  * @return boolean <tt>true</tt> if we have been started and not stopped.
+  */
+  public synchronized boolean isRunning()
+    {
+    return(evictorThread != null);
+    }
+
+  /**
+  * Return how many entries are waiting to expire or have their files deleted.
+  * @return int the number of entries in the wheel.
+  */
+  public synchronized int getScheduledCount()
+    {
+    return(scheduledCount);
+    }
+
+  /**
+  * Add an entry to the wheel so it is removed when it expires. Entries that never
+  * expire are ignored.
+  * @param QueryResultCacheEntry theEntry An entry that has just been added to the cache.
+  */
+  public synchronized void schedule(QueryResultCacheEntry theEntry)
+    {
+    if (theEntry.expiresMillis > 0 && theEntry.wheelLevel < 0)
+      {
+      if (scheduledCount == 0)
+        {
+        // The wheel may not have moved for a while. As it is empty we can just jump ahead.
+        currentTick = Math.max(currentTick, System.currentTimeMillis() / tickMillis);
+        }
+
+      // Round up so we never fire early.
+      theEntry.wheelDueTick = (theEntry.expiresMillis + tickMillis - 1) / tickMillis;
+      placeEntry(theEntry);
+      scheduledCount++;
+
+      if (scheduledCount == 1)
+        {
+        // The thread may be waiting for something to do.
+        notifyAll();
+        }
+      }
+    }
+
+  /**
+  * Deal with an entry that has left the cache, for whatever reason. It is taken out of the
+  * wheel and, if its files are to be deleted, put back in to have them deleted
+  * <tt>fileGraceMillis</tt> from now. Entries already waiting for their files to be deleted
+  * are left alone.
+  * @param QueryResultCacheEntry theEntry An entry that is no longer in the cache.
+  * @param boolean deleteFiles <tt>true</tt> if nobody else has been given the ReadOnlyRowSet itself, so its
+  * files can be deleted once its RowViews have gone if it was created with <tt>keepFiles == false</tt>,
+  * and any off heap rows freed.
+  */
+  public synchronized void release(QueryResultCacheEntry theEntry, boolean deleteFiles)
+    {
+    if (theEntry.filesPending)
+      {
+      return;
+      }
+
+    if (theEntry.wheelLevel >= 0)
+      {
+      wheelSlots[theEntry.wheelLevel][theEntry.wheelSlot].remove(theEntry);
+      theEntry.wheelLevel = -1;
+      scheduledCount--;
+      }
+
+    if (deleteFiles && (! theEntry.cachedRowSet.keepFiles || theEntry.cachedRowSet.hasOffHeapRows()))
+      {
+      if (scheduledCount == 0)
+        {
+        currentTick = Math.max(currentTick, System.currentTimeMillis() / tickMillis);
+        }
+
+      theEntry.filesPending = true;
+      scheduleFileDeletion(theEntry);
+
+      if (scheduledCount == 1)
+        {
+        notifyAll();
+        }
+      }
+    }
+
+  /**
+  * Put an entry whose files are to be deleted into the wheel <tt>fileGraceMillis</tt> from now.
+  * @param QueryResultCacheEntry theEntry
+  */
+  synchronized void scheduleFileDeletion(QueryResultCacheEntry theEntry)
+    {
+    theEntry.wheelDueTick = (System.currentTimeMillis() + fileGraceMillis + tickMillis - 1) / tickMillis;
+    placeEntry(theEntry);
+    scheduledCount++;
+    }
+
+  /**
+  * Turn the wheel once per tick until we are stopped.
+  */
+  public void run()
+    {
+    while (true)
+      {
+      ArrayList dueEntries = null;
+
+      synchronized (this)
+        {
+        if (evictorThread != Thread.currentThread())
+          {
+          return;
+          }
+
+        try
+          {
+          if (scheduledCount == 0)
+            {
+            // Nothing to do until something is scheduled.
+            wait();
+            }
+          else
+            {
+            wait(tickMillis);
+            }
+          }
+        catch (InterruptedException e)
+          {
+          // stop() was called, or something else wants us to look again.
+          continue;
+          }
+
+        dueEntries = advance(System.currentTimeMillis() / tickMillis);
+        }
+
+      // Don't hold our lock while we talk to the cache or delete files.
+      for (int i=0; i < dueEntries.size(); i++)
+        {
+        handleDueEntry((QueryResultCacheEntry)dueEntries.get(i));
+        }
+      }
+    }
+
+  /**
+  * Move the wheel forward to <tt>targetTick</tt>.
+  * @param long targetTick The tick we should now be on.
+  * @return ArrayList the entries that are now due.
+  */
+  synchronized ArrayList advance(long targetTick)
+    {
+    ArrayList dueEntries = new ArrayList();
+
+    while (currentTick < targetTick)
+      {
+      currentTick++;
+
+      // When a level has turned all the way round move the next slot of the level
+      // above down. Each level only turns when the one below has.
+      for (int level=1; level < WHEEL_LEVELS; level++)
+        {
+        long levelMask = (1L << (WHEEL_BITS * level)) - 1;
+
+        if ((currentTick & levelMask) != 0)
+          {
+          break;
+          }
+
+        int slot = (int)((currentTick >> (WHEEL_BITS * level)) & (WHEEL_SLOTS - 1));
+        HashSet movingEntries = wheelSlots[level][slot];
+        wheelSlots[level][slot] = new HashSet();
+
+        Iterator entryIterator = movingEntries.iterator();
+
+        while (entryIterator.hasNext())
+          {
+          placeEntry((QueryResultCacheEntry)entryIterator.next());
+          }
+        }
+
+      int slot = (int)(currentTick & (WHEEL_SLOTS - 1));
+      HashSet slotEntries = wheelSlots[0][slot];
+      wheelSlots[0][slot] = new HashSet();
+
+      Iterator entryIterator = slotEntries.iterator();
+
+      while (entryIterator.hasNext())
+        {
+        QueryResultCacheEntry anEntry = (QueryResultCacheEntry)entryIterator.next();
+
+        if (anEntry.wheelDueTick <= currentTick)
+          {
+          anEntry.wheelLevel = -1;
+          scheduledCount--;
+          dueEntries.add(anEntry);
+          }
+        else
+          {
+          placeEntry(anEntry);
+          }
+        }
+      }
+
+    return(dueEntries);
+    }
+
+  /**
+  * Put an entry into the right slot for its due tick.
+  */
+  private void placeEntry(QueryResultCacheEntry theEntry)
+    {
+    long ticksToGo = theEntry.wheelDueTick - currentTick;
+    long placementTick = theEntry.wheelDueTick;
+    int level = 0;
+
+    if (ticksToGo <= 0)
+      {
+      // Overdue - deal with it on the next tick.
+      placementTick = currentTick + 1;
+      }
+    else
+      {
+      while (level < WHEEL_LEVELS - 1 && ticksToGo >= (1L << (WHEEL_BITS * (level + 1))))
+        {
+        level++;
+        }
+
+      // Too far away for the wheel. Park it in the furthest slot; it will be
+      // placed again when that slot moves down.
+      long maxTicks = (1L << (WHEEL_BITS * WHEEL_LEVELS)) - 1;
+
+      if (ticksToGo > maxTicks)
+        {
+        placementTick = currentTick + maxTicks;
+        }
+      }
+
+    theEntry.wheelLevel = level;
+    theEntry.wheelSlot = (int)((placementTick >> (WHEEL_BITS * level)) & (WHEEL_SLOTS - 1));
+    wheelSlots[level][theEntry.wheelSlot].add(theEntry);
+    }
+
+  /**
+  * Remove an expired entry from the cache, or delete its files if it has already gone.
+  */
+  private void handleDueEntry(QueryResultCacheEntry theEntry)
+    {
+    if (theEntry.filesPending)
+      {
+      if (theEntry.cachedRowSet.hasRowViews())
+        {
+        // Someone may still be reading the rows. Look again later.
+        scheduleFileDeletion(theEntry);
+        }
+      else if (theEntry.cachedRowSet.keepFiles)
+        {
+        theEntry.cachedRowSet.releaseOffHeapRows();
+        }
+      else
+        {
+        theEntry.cachedRowSet.deleteGeneratedFiles();
+        }
+      }
+    else
+      {
+      // The cache will hand it back to release() once it is removed.
+      theCache.expireEntry(theEntry);
+      }
+    }
+}
+
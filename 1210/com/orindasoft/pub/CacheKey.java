@@ -0,0 +1,435 @@
+package com.orindasoft.pub;
+
+// We need to compare arrays of bytes and of key parts
+import java.util.Arrays;
+
+// We use SHA-256 to stand in for large byte arrays, files and LOBs
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+// We read files, streams and LOBs to hash them
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.IOException;
+
+// We work with BigDecimal and JDBC types
+import java.math.BigDecimal;
+import java.sql.SQLException;
+
+/**
+* A key for a cached query result, made from the SQL text and the parameter values.
+* <p>
+* Keys are compared by value. Strings, numbers and booleans are used as they are. Dates
+* are reduced to their class, milliseconds and nanoseconds, as a Date can be changed after it is bound.
+* Oracle datatypes such as NUMBER and TIMESTAMP are compared by their bytes. Byte arrays,
+* Files, BLOBs and CLOBs are compared by their contents - small byte arrays are copied and
+* anything else is reduced to its length and a SHA-256 hash, so two different arrays or files
+* with the same contents give the same key. The hash code is worked out once when the key is made.
+* <p>
+* Some parameters can't be part of a key. InputStreams can only be read once and reading
+* them would leave nothing to bind. For these <tt>StatementParameters2.getCacheKey()</tt>
+* returns <tt>null</tt> and the query is not cached.
+* <p>
+* Under normal circumstances <a href="http://www.orindasoft.com/?adsrc=api" target="_blank class="manual">OrindaBuild</a> users
+* will have no reason to use this class directly - QueryStatement will use it.
+* <p>
+* <br>(c) Copyright 2003 - 2015 Orinda Software Ltd<p>
+*
+* @see StatementParameters2#getCacheKey(String)
+* @see QueryResultCache
+* @version 6.0
+* @author  <a href="http://www.orindasoft.com/?pdsrc=api" target="_blank" class=news>Orinda Software</a>
+*/
+public class CacheKey
+{
+  /**
+  * Byte arrays up to this length are copied into the key. Longer ones are hashed.
+  */
+  public static final int MAX_COPIED_BYTES = 256;
+
+  /**
+  * Returned by makeKeyPart for values that can't be part of a key.
+  */
+  static final Object NOT_CACHEABLE = new Object();
+
+  /**
+  * Stands in for a null parameter.
+  */
+  private static final Object NULL_PARAMETER = new KeyContent("null", new byte[0]);
+
+  /**
+  * The SQL text of the statement.
+  */
+  private String sqlText = null;
+
+  /**
+  * One part per parameter.
+  */
+  private Object[] keyParts = null;
+
+  /**
+  * The values of parameters that were set as numbers or booleans rather than objects,
+  * or null if there weren't any. The matching entry in keyParts says what kind of value it is.
+  */
+  private long[] primitiveParts = null;
+
+  /**
+  * Our hash code.
+  */
+  private int hashCode = 0;
+
+  /**
+  * Create a CacheKey from a statement and its parameters.
+  * @param String sqlText The SQL text of the statement.
+  * @param Object[] keyParts One value per parameter, each made by makeKeyPart.
+  */
+  CacheKey(String sqlText, Object[] keyParts)
+    {
+    this(sqlText, keyParts, null);
+    }
+
+  /**
+  * Create a CacheKey from a statement and its parameters, some of which are numbers or booleans.
+  * @param String sqlText The SQL text of the statement.
+  * @param Object[] keyParts One value per parameter, each made by makeKeyPart or saying what kind of value
+  * is in <tt>primitiveParts</tt>.
+  * @param long[] primitiveParts The values of number and boolean parameters, or null.
+  */
+  CacheKey(String sqlText, Object[] keyParts, long[] primitiveParts)
+    {
+    this.sqlText = sqlText;
+    this.keyParts = keyParts;
+    this.primitiveParts = primitiveParts;
+    hashCode = (((sqlText.hashCode() * 31) + Arrays.hashCode(keyParts)) * 31) + Arrays.hashCode(primitiveParts);
+    }
+
+  /**
+  * Turn a parameter value into something that can be compared by value.
+  * @param Object parameterValue A parameter value.
+  * @return Object The key part, or NOT_CACHEABLE.
+  */
+  static Object makeKeyPart(Object parameterValue)
+    {
+    try
+      {
+      if (parameterValue == null)
+        {
+        return(NULL_PARAMETER);
+        }
+      else if (   parameterValue instanceof String
+               || parameterValue instanceof BigDecimal
+               || parameterValue instanceof Boolean)
+        {
+        // These types already compare by value and can't be changed. BigDecimals of
+        // different scales are different keys, which is correct as they bind differently.
+        return(parameterValue);
+        }
+      else if (parameterValue instanceof java.util.Date)
+        {
+        // Dates can be changed after they are bound, and Date.equals(Timestamp) isn't
+        // symmetric, so keep their class and value instead of the Date itself.
+        return(new KeyContent(parameterValue.getClass().getName(), getDateBytes((java.util.Date)parameterValue)));
+        }
+      else if (parameterValue instanceof byte[])
+        {
+        return(new KeyContent("byte[]", (byte[])parameterValue));
+        }
+      else if (parameterValue instanceof File)
+        {
+        return(new KeyContent("File", (File)parameterValue));
+        }
+      else if (parameterValue instanceof InputStream)
+        {
+        // Reading it would leave nothing to bind.
+        return(NOT_CACHEABLE);
+        }
+      else if (parameterValue instanceof oracle.sql.BLOB)
+        {
+        return(new KeyContent("BLOB", ((oracle.sql.BLOB)parameterValue).getBinaryStream()));
+        }
+      else if (parameterValue instanceof oracle.sql.CLOB)
+        {
+        return(new KeyContent("CLOB", ((oracle.sql.CLOB)parameterValue).getCharacterStream()));
+        }
+      else if (   parameterValue instanceof oracle.sql.Datum
+               && ! (parameterValue instanceof oracle.sql.STRUCT)
+               && ! (parameterValue instanceof oracle.sql.ARRAY)
+               && ! (parameterValue instanceof oracle.sql.OPAQUE))
+        {
+        // NUMBER, DATE, TIMESTAMP, ROWID, INTERVAL, BFILE etc are defined by their bytes.
+        return(new KeyContent(parameterValue.getClass().getName(), ((oracle.sql.Datum)parameterValue).getBytes()));
+        }
+      }
+    catch (IOException e)
+      {
+      return(NOT_CACHEABLE);
+      }
+    catch (SQLException e)
+      {
+      return(NOT_CACHEABLE);
+      }
+
+    // Anything else is treated the same way as getSignature() treats it.
+    return(parameterValue.getClass().getName() + "=" + parameterValue.toString());
+    }
+
+  /**
+  * Return a Date's milliseconds and, for a Timestamp, nanoseconds as 12 bytes.
+  * @param java.util.Date theDate
+  * @return byte[] the bytes.
+  */
+  private static byte[] getDateBytes(java.util.Date theDate)
+    {
+    long theMillis = theDate.getTime();
+    int theNanos = 0;
+
+    if (theDate instanceof java.sql.Timestamp)
+      {
+      theNanos = ((java.sql.Timestamp)theDate).getNanos();
+      }
+
+    byte[] theBytes = new byte[12];
+
+    for (int i=0; i < 8; i++)
+      {
+      theBytes[i] = (byte)(theMillis >>> (56 - (i * 8)));
+      }
+
+    for (int i=0; i < 4; i++)
+      {
+      theBytes[8 + i] = (byte)(theNanos >>> (24 - (i * 8)));
+      }
+
+    return(theBytes);
+    }
+
+  /**
+  * Return the SQL text of the statement.
+  * @return String the SQL text.
+  */
+  public String getSqlText()
+    {
+    return(sqlText);
+    }
+
+  /**
+  * Return our hash code.
+  * @return int the hash code.
+  */
+  public int hashCode()
+    {
+    return(hashCode);
+    }
+
+  /**
+  * Return <tt>true</tt> if another CacheKey has the same SQL and parameter values.
+  * @param Object otherObject Another object.
+  * @return boolean <tt>true</tt> if the keys are the same.
+  */
+  public boolean equals(Object otherObject)
+    {
+    if (otherObject == this)
+      {
+      return(true);
+      }
+
+    if (! (otherObject instanceof CacheKey))
+      {
+      return(false);
+      }
+
+    CacheKey otherKey = (CacheKey)otherObject;
+
+    return(   hashCode == otherKey.hashCode
+           && sqlText.equals(otherKey.sqlText)
+           && Arrays.equals(keyParts, otherKey.keyParts)
+           && Arrays.equals(primitiveParts, otherKey.primitiveParts));
+    }
+
+  /**
+  * Return a String representation of this CacheKey
+  * @return String the SQL text and parameter values.
+  */
+  public String toString()
+    {
+    StringBuffer theBuffer = new StringBuffer(sqlText);
+
+    for (int i=0; i < keyParts.length; i++)
+      {
+      theBuffer.append(" [");
+      theBuffer.append(i + 1);
+      theBuffer.append("]=");
+      theBuffer.append(keyParts[i]);
+
+      if (primitiveParts != null && keyParts[i] == StatementParameters2.DOUBLE_PARAMETER)
+        {
+        theBuffer.append("(" + Double.longBitsToDouble(primitiveParts[i]) + ")");
+        }
+      else if (primitiveParts != null
+               && (keyParts[i] == StatementParameters2.LONG_PARAMETER || keyParts[i] == StatementParameters2.BOOLEAN_PARAMETER))
+        {
+        theBuffer.append("(" + primitiveParts[i] + ")");
+        }
+      }
+
+    return(theBuffer.toString());
+    }
+
+  /**
+  * The contents of a byte array, File or LOB. Small contents are kept as they are
+  * and larger ones are reduced to their length and a SHA-256 hash.
+  */
+  private static class KeyContent
+  {
+    /**
+    * What kind of thing the contents came from.
+    */
+    String typeName = null;
+
+    /**
+    * How many bytes or characters there were.
+    */
+    long contentLength = 0;
+
+    /**
+    * The contents, or their hash.
+    */
+    byte[] contentBytes = null;
+
+    /**
+    * Our hash code.
+    */
+    int hashCode = 0;
+
+    KeyContent(String typeName, byte[] theBytes)
+      {
+      this.typeName = typeName;
+      contentLength = theBytes.length;
+
+      if (theBytes.length <= MAX_COPIED_BYTES)
+        {
+        contentBytes = (byte[])theBytes.clone();
+        }
+      else
+        {
+        MessageDigest theDigest = createDigest();
+        theDigest.update(theBytes);
+        contentBytes = theDigest.digest();
+        }
+
+      setHashCode();
+      }
+
+    KeyContent(String typeName, File theFile) throws IOException
+      {
+      this(typeName, new FileInputStream(theFile));
+      }
+
+    KeyContent(String typeName, InputStream theStream) throws IOException
+      {
+      this.typeName = typeName;
+      MessageDigest theDigest = createDigest();
+      byte[] theBuffer = new byte[8192];
+
+      try
+        {
+        int bytesRead = theStream.read(theBuffer);
+
+        while (bytesRead > -1)
+          {
+          theDigest.update(theBuffer, 0, bytesRead);
+          contentLength += bytesRead;
+          bytesRead = theStream.read(theBuffer);
+          }
+        }
+      finally
+        {
+        theStream.close();
+        }
+
+      contentBytes = theDigest.digest();
+      setHashCode();
+      }
+
+    KeyContent(String typeName, Reader theReader) throws IOException
+      {
+      this.typeName = typeName;
+      MessageDigest theDigest = createDigest();
+      char[] theBuffer = new char[4096];
+
+      try
+        {
+        int charsRead = theReader.read(theBuffer);
+
+        while (charsRead > -1)
+          {
+          for (int i=0; i < charsRead; i++)
+            {
+            theDigest.update((byte)(theBuffer[i] >> 8));
+            theDigest.update((byte)theBuffer[i]);
+            }
+
+          contentLength += charsRead;
+          charsRead = theReader.read(theBuffer);
+          }
+        }
+      finally
+        {
+        theReader.close();
+        }
+
+      contentBytes = theDigest.digest();
+      setHashCode();
+      }
+
+    public int hashCode()
+      {
+      return(hashCode);
+      }
+
+    public boolean equals(Object otherObject)
+      {
+      if (! (otherObject instanceof KeyContent))
+        {
+        return(false);
+        }
+
+      KeyContent otherContent = (KeyContent)otherObject;
+
+      return(   contentLength == otherContent.contentLength
+             && typeName.equals(otherContent.typeName)
+             && Arrays.equals(contentBytes, otherContent.contentBytes));
+      }
+
+    public String toString()
+      {
+      if (this == NULL_PARAMETER)
+        {
+        return("null");
+        }
+
+      return(typeName + "(" + contentLength + ")");
+      }
+
+    private void setHashCode()
+      {
+      hashCode = (typeName.hashCode() * 31) + Arrays.hashCode(contentBytes);
+      }
+
+    private static MessageDigest createDigest()
+      {
+      try
+        {
+        return(MessageDigest.getInstance("SHA-256"));
+        }
+      catch (NoSuchAlgorithmException e)
+        {
+        // Every Java platform has to support SHA-256
+        throw new IllegalStateException(e.getMessage());
+        }
+      }
+  }
+}
+
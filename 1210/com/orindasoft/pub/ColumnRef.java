@@ -0,0 +1,111 @@
+package com.orindasoft.pub;
+
+/**
+* A reusable handle for a column that is known by name.
+* <p>
+* Looking a column up by name every time you read it costs a hash lookup per call.
+* A ColumnRef does the lookup once and remembers the answer, so code that reads the
+* same columns from many rows - or from many rowsets produced by the same query - can
+* do this:
+* <pre>
+* static final ColumnRef AMOUNT = new ColumnRef("AMOUNT");
+* ...
+* int amountId = AMOUNT.resolve(theRowSet);
+* do
+*   {
+*   total = total.add(theRowSet.getBigDecimal(amountId));
+*   }
+* while (theRowSet.nextRow());
+* </pre>
+* The column id is remembered along with the rowset's column names. Passing in a
+* different rowset with the same column names array - such as the same cached
+* ReadOnlyRowSet - returns the remembered id straight away. Any other rowset is looked
+* up again. ColumnRefs are safe to share between threads.
+* <p>
+* <br>(c) Copyright 2003 - 2015 Orinda Software Ltd<p>
+*
+* @see ReadOnlyRowSet#getColumnId(ColumnRef)
+* @version 6.0
+* @author  <a href="http://www.orindasoft.com/?pdsrc=api" target="_blank" class=news>Orinda Software</a>
+*/
+public class ColumnRef
+{
+  /**
+  * The name of the column
+  */
+  private String columnName = null;
+
+  /**
+  * The most recent answer. Replaced as a whole so that threads never see
+  * the names from one lookup with the id from another.
+  */
+  private volatile Resolution latestResolution = null;
+
+  /**
+  * Create a ColumnRef for a named column.
+  * @param String columnName The name of the column. Case is not significant.
+  */
+  public ColumnRef(String columnName)
+    {
+    this.columnName = columnName;
+    }
+
+  /**
+  * Return the name of the column.
+  * @return String the column name.
+  */
+  public String getColumnName()
+    {
+    return(columnName);
+    }
+
+  /**
+  * Find the id of our column in a rowset.
+  * @param ReadOnlyRowSet theRowSet The rowset we want to read.
+  * @return int The id of the first column with our name, or -1 if there isn't one.
+  */
+  public int resolve(ReadOnlyRowSet theRowSet)
+    {
+    Resolution theResolution = latestResolution;
+
+    if (theResolution == null || theResolution.columnNames != theRowSet.columnNames)
+      {
+      theResolution = new Resolution(theRowSet.columnNames, theRowSet.getColumnId(columnName));
+      latestResolution = theResolution;
+      }
+
+    return(theResolution.columnId);
+    }
+
+  /**
+  * Return a String representation of this ColumnRef
+  * @return String the column name.
+  */
+  public String toString()
+    {
+    return(columnName);
+    }
+
+  /**
+  * A column id and the column names it was worked out from.
+  */
+  private static class Resolution
+  {
+    /**
+    * The column names the id was found in.
+    */
+    String[] columnNames = null;
+
+    /**
+    * The id of the column.
+    */
+    int columnId = -1;
+
+    Resolution(String[] columnNames, int columnId)
+      {
+      this.columnNames = columnNames;
+      this.columnId = columnId;
+      }
+  }
+}
+
@@ -0,0 +1,558 @@
+package com.orindasoft.pub;
+
+// Oracle always returns numbers as BigDecimal
+import java.math.BigDecimal;
+
+// DATE columns are handed back as Timestamps
+import java.sql.Timestamp;
+
+/**
+* A column oriented store for the rows of a ReadOnlyRowSet.
+* <p>
+* Instead of keeping each row as an array of Object this class keeps one array
+* per column. NUMBER columns whose precision and scale will fit into a <tt>long</tt>
+* are stored as unscaled <tt>long</tt> values and DATE columns are stored as
+* milliseconds since the epoch, each with a bitmap to record nulls. NUMBER columns
+* also keep the scale of each value in a byte so that 5 doesn't come back as 5.00. Everything
+* else is stored as an array of Object. A 10,000 row NUMBER/DATE query therefore
+* needs a handful of arrays instead of tens of thousands of BigDecimal and Timestamp
+* objects.
+* <p>
+* Which representation a column uses is decided from <tt>columnLengths</tt> and
+* <tt>columnDecimalPlaces</tt> when the store is created. If a value turns up that
+* does not fit - Oracle does not always report precision accurately - the column is
+* quietly converted to an array of Object and no data is lost.
+* <p>
+* Under normal circumstances <a href="http://www.orindasoft.com/?adsrc=api" target="_blank class="manual">OrindaBuild</a> users
+* will have no reason to use this class directly - ReadOnlyRowSet will use it.
+* <p>
+* <br>(c) Copyright 2003 - 2015 Orinda Software Ltd<p>
+*
+* @see ReadOnlyRowSet#STORAGE_COLUMNAR
+* @version 6.0
+* @author  <a href="http://www.orindasoft.com/?pdsrc=api" target="_blank" class=news>Orinda Software</a>
+*/
+public class ColumnarRowStore implements RowStoreInterface
+{
+  /**
+  * Column is stored as an array of Object.
+  */
+  public static final int COLUMN_OBJECT = 0;
+
+  /**
+  * Column is stored as an array of unscaled long values with a fixed scale.
+  */
+  public static final int COLUMN_SCALED_LONG = 1;
+
+  /**
+  * Column is stored as an array of long values containing milliseconds since the epoch.
+  */
+  public static final int COLUMN_EPOCH_MILLIS = 2;
+
+  /**
+  * The largest precision we will try to fit into a long. 10^18 < Long.MAX_VALUE.
+  */
+  public static final int MAX_LONG_PRECISION = 18;
+
+  /**
+  * How many rows we allocate space for to start with.
+  */
+  public static final int INITIAL_CAPACITY = 64;
+
+  /**
+  * Powers of ten up to 10^MAX_LONG_PRECISION, used to remove the scale from COLUMN_SCALED_LONG values.
+  */
+  static final long[] LONG_POWERS_OF_TEN = makePowersOfTen();
+
+  /**
+  * The largest long that can be turned into a double without losing precision. 2^53.
+  */
+  static final long MAX_EXACT_DOUBLE_LONG = 9007199254740992L;
+
+  /**
+  * How many columns are in this store
+  */
+  int colCount = 0;
+
+  /**
+  * How many rows are in this store
+  */
+  int rowCount = 0;
+
+  /**
+  * How many rows the arrays can currently hold
+  */
+  int capacity = 0;
+
+  /**
+  * How each column is stored - COLUMN_OBJECT, COLUMN_SCALED_LONG or COLUMN_EPOCH_MILLIS
+  */
+  int[] columnStorageTypes = null;
+
+  /**
+  * The scale used for COLUMN_SCALED_LONG columns.
+  */
+  int[] columnScales = null;
+
+  /**
+  * The scale each COLUMN_SCALED_LONG value had when it was added. Null for other columns.
+  */
+  byte[][] valueScales = null;
+
+  /**
+  * Storage for COLUMN_SCALED_LONG and COLUMN_EPOCH_MILLIS columns. Null for COLUMN_OBJECT columns.
+  */
+  long[][] longColumns = null;
+
+  /**
+  * One bit per row, set if the value is null. Null for COLUMN_OBJECT columns.
+  */
+  long[][] nullBitmaps = null;
+
+  /**
+  * Storage for COLUMN_OBJECT columns. Null for primitive columns.
+  */
+  Object[][] objectColumns = null;
+
+  /**
+  * Create a new, empty ColumnarRowStore.
+  * @param int[] underlyingOracleDatatypes SqlUtils datatype codes for each column.
+  * @param long[] columnLengths The precision of each column.
+  * @param int[] columnDecimalPlaces The scale of each column.
+  */
+  public ColumnarRowStore(int[] underlyingOracleDatatypes
+                         ,long[] columnLengths
+                         ,int[] columnDecimalPlaces)
+    {
+    colCount = underlyingOracleDatatypes.length;
+    capacity = INITIAL_CAPACITY;
+    columnStorageTypes = new int[colCount];
+    columnScales = new int[colCount];
+    valueScales = new byte[colCount][];
+    longColumns = new long[colCount][];
+    nullBitmaps = new long[colCount][];
+    objectColumns = new Object[colCount][];
+
+    for (int i=0; i < colCount; i++)
+      {
+      if (   underlyingOracleDatatypes[i] == SqlUtils.ORACLE_NUMBER_DATATYPE
+          && columnLengths[i] > 0
+          && columnLengths[i] <= MAX_LONG_PRECISION
+          && columnDecimalPlaces[i] >= 0
+          && columnDecimalPlaces[i] <= columnLengths[i])
+        {
+        columnStorageTypes[i] = COLUMN_SCALED_LONG;
+        columnScales[i] = columnDecimalPlaces[i];
+        }
+      else if (underlyingOracleDatatypes[i] == SqlUtils.ORACLE_DATE_DATATYPE)
+        {
+        columnStorageTypes[i] = COLUMN_EPOCH_MILLIS;
+        }
+      else
+        {
+        columnStorageTypes[i] = COLUMN_OBJECT;
+        }
+
+      if (columnStorageTypes[i] == COLUMN_OBJECT)
+        {
+        objectColumns[i] = new Object[capacity];
+        }
+      else
+        {
+        longColumns[i] = new long[capacity];
+        nullBitmaps[i] = new long[bitmapLength(capacity)];
+        }
+
+      if (columnStorageTypes[i] == COLUMN_SCALED_LONG)
+        {
+        valueScales[i] = new byte[capacity];
+        }
+      }
+    }
+
+  /**
+  * Add a row to the end of the store.
+  * @param Object[] theRow An array of Object containing one value per column.
+  */
+  public void addRow(Object[] theRow)
+    {
+    if (rowCount == capacity)
+      {
+      resize(Math.max(INITIAL_CAPACITY, capacity * 2));
+      }
+
+    for (int i=0; i < colCount; i++)
+      {
+      setValue(rowCount, i, theRow[i]);
+      }
+
+    rowCount++;
+    }
+
+  /**
+  * Store a single value, converting the column to COLUMN_OBJECT if the value won't fit.
+  */
+  private void setValue(int rowNumber, int columnId, Object theValue)
+    {
+    switch (columnStorageTypes[columnId])
+      {
+      case COLUMN_SCALED_LONG:
+        {
+        if (theValue == null)
+          {
+          setNull(rowNumber, columnId);
+          }
+        else if (   theValue instanceof BigDecimal
+                 && ((BigDecimal)theValue).scale() >= Byte.MIN_VALUE
+                 && ((BigDecimal)theValue).scale() <= Byte.MAX_VALUE)
+          {
+          try
+            {
+            // Will throw ArithmeticException if the value has more decimal
+            // places than the column claims or won't fit in a long.
+            longColumns[columnId][rowNumber] = ((BigDecimal)theValue).movePointRight(columnScales[columnId]).longValueExact();
+            valueScales[columnId][rowNumber] = (byte)((BigDecimal)theValue).scale();
+            }
+          catch (ArithmeticException e)
+            {
+            convertToObjectColumn(columnId);
+            objectColumns[columnId][rowNumber] = theValue;
+            }
+          }
+        else
+          {
+          convertToObjectColumn(columnId);
+          objectColumns[columnId][rowNumber] = theValue;
+          }
+        break;
+        }
+      case COLUMN_EPOCH_MILLIS:
+        {
+        if (theValue == null)
+          {
+          setNull(rowNumber, columnId);
+          }
+        else if (   theValue instanceof Timestamp
+                 && ((Timestamp)theValue).getNanos() % 1000000 == 0)
+          {
+          longColumns[columnId][rowNumber] = ((Timestamp)theValue).getTime();
+          }
+        else
+          {
+          convertToObjectColumn(columnId);
+          objectColumns[columnId][rowNumber] = theValue;
+          }
+        break;
+        }
+      default:
+        {
+        objectColumns[columnId][rowNumber] = theValue;
+        break;
+        }
+      }
+    }
+
+  /**
+  * Return a row as an array of Object.
+  * @param int rowNumber The row we want. Row numbers start at 0.
+  * @return Object[] A newly built array containing the row.
+  */
+  public Object[] getRow(int rowNumber)
+    {
+    Object[] theRow = new Object[colCount];
+
+    for (int i=0; i < colCount; i++)
+      {
+      theRow[i] = getValue(rowNumber, i);
+      }
+
+    return(theRow);
+    }
+
+  /**
+  * Return a single value. NUMBER columns are returned as BigDecimal and DATE
+  * columns as java.sql.Timestamp, just as they would be if they had been stored as Objects.
+  * @param int rowNumber The row we want. Row numbers start at 0.
+  * @param int columnId The column we want. Column numbers start at 0.
+  * @return Object The value, or <tt>null</tt>.
+  */
+  public Object getValue(int rowNumber, int columnId)
+    {
+    Object theValue = null;
+
+    switch (columnStorageTypes[columnId])
+      {
+      case COLUMN_SCALED_LONG:
+        {
+        if (! isNull(rowNumber, columnId))
+          {
+          theValue = getScaledLongValue(rowNumber, columnId);
+          }
+        break;
+        }
+      case COLUMN_EPOCH_MILLIS:
+        {
+        if (! isNull(rowNumber, columnId))
+          {
+          theValue = new Timestamp(longColumns[columnId][rowNumber]);
+          }
+        break;
+        }
+      default:
+        {
+        theValue = objectColumns[columnId][rowNumber];
+        break;
+        }
+      }
+
+    return(theValue);
+    }
+
+  /**
+  * Turn a COLUMN_SCALED_LONG value back into a BigDecimal with the scale it was added with,
+  * so that <tt>equals()</tt> and <tt>toString()</tt> give the same answers as they would with STORAGE_ROWS.
+  */
+  private BigDecimal getScaledLongValue(int rowNumber, int columnId)
+    {
+    long unscaledValue = longColumns[columnId][rowNumber];
+    int columnScale = columnScales[columnId];
+    int valueScale = valueScales[columnId][rowNumber];
+
+    if (valueScale == columnScale)
+      {
+      return(BigDecimal.valueOf(unscaledValue, columnScale));
+      }
+
+    if (valueScale >= 0 && valueScale < columnScale)
+      {
+      // The digits we are removing are all zero because the value had this scale to start with.
+      return(BigDecimal.valueOf(unscaledValue / LONG_POWERS_OF_TEN[columnScale - valueScale], valueScale));
+      }
+
+    return(BigDecimal.valueOf(unscaledValue, columnScale).setScale(valueScale));
+    }
+
+  /**
+  * Return <tt>true</tt> if a value is null.
+  * @param int rowNumber The row we want. Row numbers start at 0.
+  * @param int columnId The column we want. Column numbers start at 0.
+  * @return boolean <tt>true</tt> if the value is null.
+  */
+  public boolean isNull(int rowNumber, int columnId)
+    {
+    if (columnStorageTypes[columnId] == COLUMN_OBJECT)
+      {
+      return(objectColumns[columnId][rowNumber] == null);
+      }
+
+    return((nullBitmaps[columnId][rowNumber >> 6] & (1L << (rowNumber & 63))) != 0);
+    }
+
+  /**
+  * Return the integer part of a COLUMN_SCALED_LONG value, truncated towards zero
+  * in the same way as <tt>BigDecimal.longValue()</tt>. Nothing is allocated.
+  * Callers must check <tt>isNull</tt> and <tt>getColumnStorageType</tt> first.
+  * @param int rowNumber The row we want. Row numbers start at 0.
+  * @param int columnId The column we want. Column numbers start at 0.
+  * @return long The integer part of the value.
+  */
+  public long getTruncatedLong(int rowNumber, int columnId)
+    {
+    return(longColumns[columnId][rowNumber] / LONG_POWERS_OF_TEN[columnScales[columnId]]);
+    }
+
+  /**
+  * Return a COLUMN_SCALED_LONG value as a double. The result is the same as
+  * <tt>BigDecimal.doubleValue()</tt> would give. Nothing is allocated unless the
+  * unscaled value is too big to be turned into a double exactly.
+  * Callers must check <tt>isNull</tt> and <tt>getColumnStorageType</tt> first.
+  * @param int rowNumber The row we want. Row numbers start at 0.
+  * @param int columnId The column we want. Column numbers start at 0.
+  * @return double The value.
+  */
+  public double getDouble(int rowNumber, int columnId)
+    {
+    long unscaledValue = longColumns[columnId][rowNumber];
+
+    if (unscaledValue > MAX_EXACT_DOUBLE_LONG || unscaledValue < -MAX_EXACT_DOUBLE_LONG)
+      {
+      return(BigDecimal.valueOf(unscaledValue, columnScales[columnId]).doubleValue());
+      }
+
+    // Both operands are exact so the division is correctly rounded.
+    return(((double)unscaledValue) / LONG_POWERS_OF_TEN[columnScales[columnId]]);
+    }
+
+  /**
+  * Return how a column is stored.
+  * @param int columnId The column we want. Column numbers start at 0.
+  * @return int COLUMN_OBJECT, COLUMN_SCALED_LONG or COLUMN_EPOCH_MILLIS
+  */
+  public int getColumnStorageType(int columnId)
+    {
+    return(columnStorageTypes[columnId]);
+    }
+
+  /**
+  * Return the number of rows in the store.
+  * @return int the number of rows
+  */
+  public int size()
+    {
+    return(rowCount);
+    }
+
+  /**
+  * Release unused capacity once all rows have been added.
+  */
+  public void trimToSize()
+    {
+    if (capacity > rowCount)
+      {
+      resize(rowCount);
+      }
+    }
+
+  /**
+  * Estimate how many bytes of heap the store is using.
+  * @return long the estimated size in bytes.
+  */
+  public long getEstimatedBytes()
+    {
+    long estimatedBytes = 0;
+
+    for (int i=0; i < colCount; i++)
+      {
+      if (objectColumns[i] != null)
+        {
+        estimatedBytes += SizeEstimator.estimateArrayBytes(objectColumns[i].length, SizeEstimator.REFERENCE_BYTES);
+
+        for (int j=0; j < rowCount; j++)
+          {
+          estimatedBytes += SizeEstimator.estimateObjectBytes(objectColumns[i][j]);
+          }
+        }
+
+      if (longColumns[i] != null)
+        {
+        estimatedBytes += SizeEstimator.estimateArrayBytes(longColumns[i].length, 8);
+        }
+
+      if (nullBitmaps[i] != null)
+        {
+        estimatedBytes += SizeEstimator.estimateArrayBytes(nullBitmaps[i].length, 8);
+        }
+
+      if (valueScales[i] != null)
+        {
+        estimatedBytes += SizeEstimator.estimateArrayBytes(valueScales[i].length, 1);
+        }
+      }
+
+    return(estimatedBytes);
+    }
+
+  /**
+  * Return every row as an array of Object arrays.
+  * @return Object[] An array containing one Object[] per row.
+  */
+  public Object[] toArray()
+    {
+    Object[] allRows = new Object[rowCount];
+
+    for (int i=0; i < rowCount; i++)
+      {
+      allRows[i] = getRow(i);
+      }
+
+    return(allRows);
+    }
+
+  /**
+  * Mark a value as null.
+  */
+  private void setNull(int rowNumber, int columnId)
+    {
+    nullBitmaps[columnId][rowNumber >> 6] |= (1L << (rowNumber & 63));
+    }
+
+  /**
+  * Turn a primitive column into an array of Object. This happens when a value
+  * arrives that the primitive form can't represent exactly.
+  */
+  private void convertToObjectColumn(int columnId)
+    {
+    Object[] newColumn = new Object[capacity];
+
+    for (int i=0; i < rowCount; i++)
+      {
+      newColumn[i] = getValue(i, columnId);
+      }
+
+    columnStorageTypes[columnId] = COLUMN_OBJECT;
+    objectColumns[columnId] = newColumn;
+    longColumns[columnId] = null;
+    nullBitmaps[columnId] = null;
+    valueScales[columnId] = null;
+    }
+
+  /**
+  * Change the capacity of every column array.
+  */
+  private void resize(int newCapacity)
+    {
+    for (int i=0; i < colCount; i++)
+      {
+      if (columnStorageTypes[i] == COLUMN_OBJECT)
+        {
+        Object[] newColumn = new Object[newCapacity];
+        System.arraycopy(objectColumns[i], 0, newColumn, 0, rowCount);
+        objectColumns[i] = newColumn;
+        }
+      else
+        {
+        long[] newColumn = new long[newCapacity];
+        System.arraycopy(longColumns[i], 0, newColumn, 0, rowCount);
+        longColumns[i] = newColumn;
+
+        long[] newBitmap = new long[bitmapLength(newCapacity)];
+        System.arraycopy(nullBitmaps[i], 0, newBitmap, 0, Math.min(nullBitmaps[i].length, newBitmap.length));
+        nullBitmaps[i] = newBitmap;
+        }
+
+      if (valueScales[i] != null)
+        {
+        byte[] newScales = new byte[newCapacity];
+        System.arraycopy(valueScales[i], 0, newScales, 0, rowCount);
+        valueScales[i] = newScales;
+        }
+      }
+
+    capacity = newCapacity;
+    }
+
+  /**
+  * Build LONG_POWERS_OF_TEN.
+  */
+  private static long[] makePowersOfTen()
+    {
+    long[] powersOfTen = new long[MAX_LONG_PRECISION + 1];
+    powersOfTen[0] = 1;
+
+    for (int i=1; i < powersOfTen.length; i++)
+      {
+      powersOfTen[i] = powersOfTen[i-1] * 10;
+      }
+
+    return(powersOfTen);
+    }
+
+  /**
+  * How many longs are needed for a bitmap with one bit per row.
+  */
+  private static int bitmapLength(int rowCapacity)
+    {
+    return((rowCapacity + 63) >> 6);
+    }
+}
+
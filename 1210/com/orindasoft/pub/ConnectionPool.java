@@ -0,0 +1,909 @@
+package com.orindasoft.pub;
+
+// We are working with JDBC
+import java.sql.*;
+
+// We can get our connections from any DataSource
+import javax.sql.DataSource;
+
+// We keep track of idle and borrowed connections
+import java.util.LinkedList;
+import java.util.IdentityHashMap;
+
+// Client info is held as Properties
+import java.util.Properties;
+
+/**
+* A small, bounded pool of JDBC connections.
+* <p>
+* Connections are created when they are needed, up to <tt>getMaxSize()</tt>. A thread that
+* asks for a connection when they are all in use waits for up to <tt>getMaxWaitMilliseconds()</tt>
+* for one to be given back. Idle connections are checked with <tt>Connection.isValid()</tt> before
+* they are handed out, and ones that have been idle for longer than <tt>getMaxIdleMilliseconds()</tt>
+* are closed. The pool counts how often and for how long callers had to wait.
+* <p>
+* DmlStatement and its subclasses borrow a connection when they first need one if they have
+* been given a pool with <tt>setConnectionPool()</tt>, and give it back when
+* <tt>freeConnection()</tt> or <tt>releaseResources()</tt> is called. Connections can also be borrowed
+* and given back directly with <tt>borrowConnection()</tt> and <tt>returnConnection()</tt>.
+* <p>
+* Calling <tt>releaseResources()</tt> closes the idle connections. Borrowed connections aren't touched.
+* <p>
+* When a connection is given back any uncommitted work is rolled back, and its auto-commit, read only,
+* transaction isolation and client info settings are put back to what they were when it was created, so
+* the next borrower doesn't inherit them. A connection that can't be put back is closed instead.
+* <p>
+* <br>(c) Copyright 2003 - 2015 Orinda Software Ltd<p>
+*
+* @version 6.0
+* @author  <a href="http://www.orindasoft.com/?pdsrc=api" target="_blank" class=news>Orinda Software</a>
+* @since 6.0
+*/
+public class ConnectionPool implements OracleResourceUser
+{
+  /**
+  * The default maximum number of connections.
+  */
+  public static final int DEFAULT_MAX_SIZE = 10;
+
+  /**
+  * The default maximum time we wait for a connection, in milliseconds.
+  */
+  public static final long DEFAULT_MAX_WAIT_MILLISECONDS = 30000;
+
+  /**
+  * The default maximum time a connection can be idle before it is closed, in milliseconds.
+  */
+  public static final long DEFAULT_MAX_IDLE_MILLISECONDS = 600000;
+
+  /**
+  * The default time allowed for Connection.isValid() when checking a connection, in seconds.
+  */
+  public static final int DEFAULT_VALIDATION_TIMEOUT_SECONDS = 5;
+
+  /**
+  * Where new connections come from if we were given a DataSource.
+  */
+  DataSource theDataSource = null;
+
+  /**
+  * JDBC URL used for new connections if we weren't given a DataSource.
+  */
+  String jdbcUrl = null;
+
+  /**
+  * Username used for new connections if we weren't given a DataSource.
+  */
+  String username = null;
+
+  /**
+  * Password used for new connections if we weren't given a DataSource.
+  */
+  String password = null;
+
+  /**
+  * Log Interface Object
+  */
+  LogInterface theLog = null;
+
+  /**
+  * The most connections we will have open at once.
+  */
+  int maxSize = DEFAULT_MAX_SIZE;
+
+  /**
+  * How long borrowConnection() waits for a connection to be given back.
+  */
+  long maxWaitMilliseconds = DEFAULT_MAX_WAIT_MILLISECONDS;
+
+  /**
+  * How long a connection can be idle before we close it.
+  */
+  long maxIdleMilliseconds = DEFAULT_MAX_IDLE_MILLISECONDS;
+
+  /**
+  * Whether we check idle connections before handing them out.
+  */
+  boolean validateOnBorrow = true;
+
+  /**
+  * Time allowed for Connection.isValid().
+  */
+  int validationTimeoutSeconds = DEFAULT_VALIDATION_TIMEOUT_SECONDS;
+
+  /**
+  * Connections that aren't in use, most recently returned first.
+  */
+  LinkedList idleConnections = new LinkedList();
+
+  /**
+  * When each idle connection was given back, as a Long.
+  */
+  IdentityHashMap idleSinceTimes = new IdentityHashMap();
+
+  /**
+  * Connections that are in use.
+  */
+  IdentityHashMap borrowedConnections = new IdentityHashMap();
+
+  /**
+  * The ConnectionState each open connection had when it was created.
+  */
+  IdentityHashMap initialStates = new IdentityHashMap();
+
+  /**
+  * How many connections are being created right now. They count towards maxSize.
+  */
+  int pendingCreates = 0;
+
+  /**
+  * True once close() has been called.
+  */
+  boolean isClosed = false;
+
+  /**
+  * Number of times a connection was handed out.
+  */
+  long borrowCount = 0;
+
+  /**
+  * Number of times a caller had to wait for a connection.
+  */
+  long waitCount = 0;
+
+  /**
+  * Total time spent waiting for connections.
+  */
+  long waitTimeMilliseconds = 0;
+
+  /**
+  * Longest time spent waiting for a connection.
+  */
+  long maxWaitTimeMilliseconds = 0;
+
+  /**
+  * Number of times a caller gave up waiting.
+  */
+  long timeoutCount = 0;
+
+  /**
+  * Number of connections created.
+  */
+  long createCount = 0;
+
+  /**
+  * Number of connections closed because they failed validation.
+  */
+  long invalidCount = 0;
+
+  /**
+  * Number of connections closed because they were idle for too long.
+  */
+  long idleCloseCount = 0;
+
+  /**
+  * Create a pool that gets its connections from a DataSource.
+  * @param DataSource theDataSource Where connections come from.
+  * @param int maxSize The most connections to have open at once.
+  * @param LogInterface theLog
+  */
+  public ConnectionPool(DataSource theDataSource, int maxSize, LogInterface theLog)
+    {
+    this.theDataSource = theDataSource;
+    this.theLog = theLog;
+    setMaxSize(maxSize);
+    }
+
+  /**
+  * Create a pool that gets its connections from a DataSource.
+  * @param DataSource theDataSource Where connections come from.
+  * @param LogInterface theLog
+  */
+  public ConnectionPool(DataSource theDataSource, LogInterface theLog)
+    {
+    this(theDataSource, DEFAULT_MAX_SIZE, theLog);
+    }
+
+  /**
+  * Create a pool that gets its connections from DriverManager.
+  * @param String jdbcUrl e.g. jdbc:oracle:thin:@localhost:1521:orcl
+  * @param String username
+  * @param String password
+  * @param int maxSize The most connections to have open at once.
+  * @param LogInterface theLog
+  */
+  public ConnectionPool(String jdbcUrl, String username, String password, int maxSize, LogInterface theLog)
+    {
+    this.jdbcUrl = jdbcUrl;
+    this.username = username;
+    this.password = password;
+    this.theLog = theLog;
+    setMaxSize(maxSize);
+    }
+
+  /**
+  * Create a pool that gets its connections from DriverManager.
+  * @param String jdbcUrl e.g. jdbc:oracle:thin:@localhost:1521:orcl
+  * @param String username
+  * @param String password
+  * @param LogInterface theLog
+  */
+  public ConnectionPool(String jdbcUrl, String username, String password, LogInterface theLog)
+    {
+    this(jdbcUrl, username, password, DEFAULT_MAX_SIZE, theLog);
+    }
+
+  /**
+  * Get a connection, waiting for up to <tt>getMaxWaitMilliseconds()</tt> if they are all in use.
+  * The connection must be given back with <tt>returnConnection()</tt>.
+  * @return Connection A connection that has passed validation if validation is on.
+  * @throws CSDBException if the pool is closed, no connection became free in time or a new one couldn't be made.
+  */
+  public Connection borrowConnection() throws CSDBException
+    {
+    long startTime = System.currentTimeMillis();
+    long giveUpTime = startTime + maxWaitMilliseconds;
+    boolean hadToWait = false;
+
+    while (true)
+      {
+      Connection idleConnection = null;
+
+      // Closing connections can take a while, so it is done without holding the lock.
+      closeConnections(removeIdleConnections(maxIdleMilliseconds));
+
+      synchronized(this)
+        {
+        if (isClosed)
+          {
+          throw new CSDBException(0,"Pool Closed","","borrowConnection called after pool was closed");
+          }
+
+        if (idleConnections.size() > 0)
+          {
+          idleConnection = (Connection)idleConnections.removeFirst();
+          idleSinceTimes.remove(idleConnection);
+          borrowedConnections.put(idleConnection, idleConnection);
+          }
+        else if (getSize() < maxSize)
+          {
+          pendingCreates++;
+          }
+        else
+          {
+          long waitMilliseconds = giveUpTime - System.currentTimeMillis();
+
+          if (waitMilliseconds <= 0)
+            {
+            timeoutCount++;
+            recordWait(startTime, hadToWait);
+            throw new CSDBException(0,"Pool Exhausted",""
+              ,"No connection became free within " + maxWaitMilliseconds + "ms. All " + maxSize + " are in use");
+            }
+
+          hadToWait = true;
+
+          try
+            {
+            wait(waitMilliseconds);
+            }
+          catch (InterruptedException e)
+            {
+            Thread.currentThread().interrupt();
+            recordWait(startTime, hadToWait);
+            throw new CSDBException(0,"Interrupted","","Interrupted while waiting for a connection");
+            }
+
+          continue;
+          }
+        }
+
+      // Check or create connections outside the lock so other threads aren't held up.
+      if (idleConnection != null)
+        {
+        if (! validateOnBorrow || isUsable(idleConnection))
+          {
+          synchronized(this)
+            {
+            borrowCount++;
+            recordWait(startTime, hadToWait);
+            }
+
+          return(idleConnection);
+          }
+
+        theLog.warning("Discarding connection that failed validation");
+
+        synchronized(this)
+          {
+          invalidCount++;
+          borrowedConnections.remove(idleConnection);
+          notifyAll();
+          }
+
+        closeQuietly(idleConnection);
+        continue;
+        }
+
+      Connection newConnection = null;
+      ConnectionState newState = null;
+
+      try
+        {
+        newConnection = createConnection();
+        newState = new ConnectionState(newConnection);
+        }
+      catch (SQLException e)
+        {
+        synchronized(this)
+          {
+          pendingCreates--;
+          notifyAll();
+          }
+
+        if (newConnection != null)
+          {
+          closeQuietly(newConnection);
+          }
+
+        throw new CSDBException(e.getErrorCode(),e.getSQLState(),"","Unable to create connection: " + e.getMessage());
+        }
+
+      boolean poolWasClosed = false;
+
+      synchronized(this)
+        {
+        pendingCreates--;
+        notifyAll();
+
+        // close() may have been called while we were connecting.
+        if (isClosed)
+          {
+          poolWasClosed = true;
+          }
+        else
+          {
+          createCount++;
+          borrowCount++;
+          borrowedConnections.put(newConnection, newConnection);
+          initialStates.put(newConnection, newState);
+          recordWait(startTime, hadToWait);
+          }
+        }
+
+      if (poolWasClosed)
+        {
+        closeQuietly(newConnection);
+        throw new CSDBException(0,"Pool Closed","","Pool was closed while a connection was being created");
+        }
+
+      return(newConnection);
+      }
+    }
+
+  /**
+  * Give back a connection that came from <tt>borrowConnection()</tt>. Any uncommitted work
+  * is rolled back, so commit first if you want to keep it. Auto-commit, read only, transaction
+  * isolation and client info are put back to how they were when the connection was created.
+  * If the connection is closed, can't be put back, or the pool is closed, the connection is discarded.
+  * @param Connection theConnection The connection to give back.
+  */
+  public void returnConnection(Connection theConnection)
+    {
+    if (theConnection == null)
+      {
+      return;
+      }
+
+    synchronized(this)
+      {
+      if (! borrowedConnections.containsKey(theConnection))
+        {
+        theLog.warning("Ignoring connection that wasn't borrowed from this pool");
+        return;
+        }
+      }
+
+    boolean keepConnection = false;
+    ConnectionState initialState = null;
+
+    synchronized(this)
+      {
+      initialState = (ConnectionState)initialStates.get(theConnection);
+      }
+
+    try
+      {
+      if (! theConnection.isClosed())
+        {
+        if (! theConnection.getAutoCommit())
+          {
+          theConnection.rollback();
+          }
+
+        // Don't let the next borrower inherit this one's settings.
+        if (initialState != null)
+          {
+          initialState.restore(theConnection);
+          }
+
+        keepConnection = true;
+        }
+      }
+    catch (SQLException e)
+      {
+      theLog.warning("Discarding connection that couldn't be reset: " + e.getMessage());
+      }
+
+    // Move it to the idle list in one step so nobody else creates one in the meantime.
+    synchronized(this)
+      {
+      borrowedConnections.remove(theConnection);
+      notifyAll();
+
+      if (keepConnection && ! isClosed)
+        {
+        idleConnections.addFirst(theConnection);
+        idleSinceTimes.put(theConnection, Long.valueOf(System.currentTimeMillis()));
+        return;
+        }
+      }
+
+    closeQuietly(theConnection);
+    }
+
+  /**
+  * Close connections that have been idle for longer than a given time.
+  * @param long howManyMilliseconds How long a connection can be idle for.
+  * @return int How many connections were closed.
+  */
+  public int purgeIdleConnections(long howManyMilliseconds)
+    {
+    LinkedList expiredConnections = removeIdleConnections(howManyMilliseconds);
+    closeConnections(expiredConnections);
+    return(expiredConnections.size());
+    }
+
+  /**
+  * Take connections that have been idle for longer than a given time out of the pool.
+  * The caller must close them once it has let go of the lock.
+  * @param long howManyMilliseconds How long a connection can be idle for.
+  * @return LinkedList The connections that were taken out. May be empty.
+  */
+  private synchronized LinkedList removeIdleConnections(long howManyMilliseconds)
+    {
+    LinkedList expiredConnections = new LinkedList();
+    long oldestAllowed = System.currentTimeMillis() - howManyMilliseconds;
+
+    // The least recently used connections are at the end.
+    while (idleConnections.size() > 0)
+      {
+      Connection oldestConnection = (Connection)idleConnections.getLast();
+
+      if (((Long)idleSinceTimes.get(oldestConnection)).longValue() > oldestAllowed)
+        {
+        break;
+        }
+
+      idleConnections.removeLast();
+      idleSinceTimes.remove(oldestConnection);
+      expiredConnections.add(oldestConnection);
+      idleCloseCount++;
+      }
+
+    if (expiredConnections.size() > 0)
+      {
+      notifyAll();
+      }
+
+    return(expiredConnections);
+    }
+
+  /**
+  * Close a list of connections. Must not be called while synchronized.
+  * @param LinkedList theConnections
+  */
+  private void closeConnections(LinkedList theConnections)
+    {
+    for (int i=0; i < theConnections.size(); i++)
+      {
+      closeQuietly((Connection)theConnections.get(i));
+      }
+    }
+
+  /**
+  * Close the pool and all idle connections. Borrowed connections are closed when given back.
+  */
+  public void close()
+    {
+    synchronized(this)
+      {
+      isClosed = true;
+      notifyAll();
+      }
+
+    releaseResources();
+    }
+
+  /**
+  * Used to tell if the pool has any open connections.
+  * @return <tt>true</tt> if any connections are open.
+  */
+  public synchronized boolean hasResources()
+    {
+    return(getSize() > 0);
+    }
+
+  /**
+  * Close all the idle connections. Borrowed connections are left alone.
+  * @return <tt>true</tt> if there were any idle connections.
+  */
+  public boolean releaseResources()
+    {
+    return(purgeIdleConnections(-1) > 0);
+    }
+
+  /**
+  * Create a new connection.
+  * @return Connection
+  * @throws SQLException
+  */
+  protected Connection createConnection() throws SQLException
+    {
+    if (theDataSource != null)
+      {
+      return(theDataSource.getConnection());
+      }
+
+    return(DriverManager.getConnection(jdbcUrl, username, password));
+    }
+
+  /**
+  * See if a connection can still be used.
+  * @param Connection theConnection
+  * @return <tt>true</tt> if it can.
+  */
+  protected boolean isUsable(Connection theConnection)
+    {
+    try
+      {
+      return(theConnection.isValid(validationTimeoutSeconds));
+      }
+    catch (SQLException e)
+      {
+      return(false);
+      }
+    }
+
+  /**
+  * Close a connection and forget its StatementCache, logging but otherwise ignoring any errors.
+  * @param Connection theConnection
+  */
+  void closeQuietly(Connection theConnection)
+    {
+    synchronized(this)
+      {
+      initialStates.remove(theConnection);
+      }
+
+    // Its cached statements go with it.
+    StatementCache.closeStatementCache(theConnection);
+
+    try
+      {
+      theConnection.close();
+      }
+    catch (SQLException e)
+      {
+      theLog.warning("Unable to close pooled connection: " + e.getMessage());
+      }
+    }
+
+  /**
+  * Update the wait statistics at the end of a call to borrowConnection(). Must be called while synchronized.
+  * @param long startTime When borrowConnection() was called.
+  * @param boolean hadToWait Whether the caller waited.
+  */
+  private void recordWait(long startTime, boolean hadToWait)
+    {
+    if (hadToWait)
+      {
+      long waitedMilliseconds = System.currentTimeMillis() - startTime;
+
+      waitCount++;
+      waitTimeMilliseconds += waitedMilliseconds;
+
+      if (waitedMilliseconds > maxWaitTimeMilliseconds)
+        {
+        maxWaitTimeMilliseconds = waitedMilliseconds;
+        }
+      }
+    }
+
+  /**
+  * Return how many connections are open or being opened.
+  * @return int idle + borrowed + being created.
+  */
+  public synchronized int getSize()
+    {
+    return(idleConnections.size() + borrowedConnections.size() + pendingCreates);
+    }
+
+  /**
+  * Return how many connections are not in use.
+  * @return int idle connections.
+  */
+  public synchronized int getIdleCount()
+    {
+    return(idleConnections.size());
+    }
+
+  /**
+  * Return how many connections are in use.
+  * @return int borrowed connections.
+  */
+  public synchronized int getBorrowedCount()
+    {
+    return(borrowedConnections.size());
+    }
+
+  /**
+  * Set the most connections that can be open at once. Values less than 1 are ignored.
+  * @param int newMaxSize
+  */
+  public synchronized void setMaxSize(int newMaxSize)
+    {
+    if (newMaxSize > 0)
+      {
+      maxSize = newMaxSize;
+      notifyAll();
+      }
+    }
+
+  /**
+  * Return the most connections that can be open at once.
+  * @return int maxSize
+  */
+  public int getMaxSize()
+    {
+    return(maxSize);
+    }
+
+  /**
+  * Set how long borrowConnection() waits for a connection to be given back.
+  * @param long newMaxWaitMilliseconds 0 means don't wait.
+  */
+  public void setMaxWaitMilliseconds(long newMaxWaitMilliseconds)
+    {
+    if (newMaxWaitMilliseconds >= 0)
+      {
+      maxWaitMilliseconds = newMaxWaitMilliseconds;
+      }
+    }
+
+  /**
+  * Return how long borrowConnection() waits for a connection to be given back.
+  * @return long maxWaitMilliseconds
+  */
+  public long getMaxWaitMilliseconds()
+    {
+    return(maxWaitMilliseconds);
+    }
+
+  /**
+  * Set how long a connection can be idle before it is closed.
+  * @param long newMaxIdleMilliseconds
+  */
+  public void setMaxIdleMilliseconds(long newMaxIdleMilliseconds)
+    {
+    if (newMaxIdleMilliseconds >= 0)
+      {
+      maxIdleMilliseconds = newMaxIdleMilliseconds;
+      }
+    }
+
+  /**
+  * Return how long a connection can be idle before it is closed.
+  * @return long maxIdleMilliseconds
+  */
+  public long getMaxIdleMilliseconds()
+    {
+    return(maxIdleMilliseconds);
+    }
+
+  /**
+  * Specify whether idle connections are checked with Connection.isValid() before they are handed out.
+  * @param boolean validateOnBorrow
+  */
+  public void setValidateOnBorrow(boolean validateOnBorrow)
+    {
+    this.validateOnBorrow = validateOnBorrow;
+    }
+
+  /**
+  * Return whether idle connections are checked before they are handed out.
+  * @return boolean validateOnBorrow
+  */
+  public boolean getValidateOnBorrow()
+    {
+    return(validateOnBorrow);
+    }
+
+  /**
+  * Set how long Connection.isValid() can take when checking a connection.
+  * @param int newValidationTimeoutSeconds
+  */
+  public void setValidationTimeoutSeconds(int newValidationTimeoutSeconds)
+    {
+    if (newValidationTimeoutSeconds >= 0)
+      {
+      validationTimeoutSeconds = newValidationTimeoutSeconds;
+      }
+    }
+
+  /**
+  * Return how many times a connection has been handed out.
+  * @return long borrowCount
+  */
+  public synchronized long getBorrowCount()
+    {
+    return(borrowCount);
+    }
+
+  /**
+  * Return how many times a caller had to wait for a connection.
+  * @return long waitCount
+  */
+  public synchronized long getWaitCount()
+    {
+    return(waitCount);
+    }
+
+  /**
+  * Return the total time callers have spent waiting for connections.
+  * @return long waitTimeMilliseconds
+  */
+  public synchronized long getWaitTimeMilliseconds()
+    {
+    return(waitTimeMilliseconds);
+    }
+
+  /**
+  * Return the longest time a caller has waited for a connection.
+  * @return long maxWaitTimeMilliseconds
+  */
+  public synchronized long getMaxWaitTimeMilliseconds()
+    {
+    return(maxWaitTimeMilliseconds);
+    }
+
+  /**
+  * Return how many times a caller gave up waiting for a connection.
+  * @return long timeoutCount
+  */
+  public synchronized long getTimeoutCount()
+    {
+    return(timeoutCount);
+    }
+
+  /**
+  * Return how many connections have been created.
+  * @return long createCount
+  */
+  public synchronized long getCreateCount()
+    {
+    return(createCount);
+    }
+
+  /**
+  * Return how many connections have been closed because they failed validation.
+  * @return long invalidCount
+  */
+  public synchronized long getInvalidCount()
+    {
+    return(invalidCount);
+    }
+
+  /**
+  * Return how many connections have been closed because they were idle for too long.
+  * @return long idleCloseCount
+  */
+  public synchronized long getIdleCloseCount()
+    {
+    return(idleCloseCount);
+    }
+
+  /**
+  * Return a one line summary of the pool's state and statistics.
+  * @return String
+  */
+  public synchronized String toString()
+    {
+    return("ConnectionPool: size=" + getSize() + "/" + maxSize + " idle=" + idleConnections.size()
+          + " borrowed=" + borrowedConnections.size() + " borrows=" + borrowCount + " waits=" + waitCount
+          + " waitMs=" + waitTimeMilliseconds + " maxWaitMs=" + maxWaitTimeMilliseconds + " timeouts=" + timeoutCount
+          + " created=" + createCount + " invalid=" + invalidCount + " idleClosed=" + idleCloseCount);
+    }
+
+  /**
+  * The settings a borrower can change on a connection that we put back when it is returned.
+  */
+  private static class ConnectionState
+  {
+    /**
+    * Connection.getAutoCommit()
+    */
+    boolean autoCommit = true;
+
+    /**
+    * Connection.isReadOnly()
+    */
+    boolean readOnly = false;
+
+    /**
+    * Connection.getTransactionIsolation()
+    */
+    int transactionIsolation = Connection.TRANSACTION_NONE;
+
+    /**
+    * Connection.getClientInfo(), or null if the driver doesn't support it.
+    */
+    Properties clientInfo = null;
+
+    /**
+    * Record the settings a connection has now.
+    * @param Connection theConnection
+    * @throws SQLException if they can't be read.
+    */
+    ConnectionState(Connection theConnection) throws SQLException
+      {
+      autoCommit = theConnection.getAutoCommit();
+      readOnly = theConnection.isReadOnly();
+      transactionIsolation = theConnection.getTransactionIsolation();
+
+      try
+        {
+        Properties currentClientInfo = theConnection.getClientInfo();
+
+        if (currentClientInfo != null)
+          {
+          clientInfo = new Properties();
+          clientInfo.putAll(currentClientInfo);
+          }
+        }
+      catch (SQLException e)
+        {
+        // Not supported, so there is nothing for a borrower to change either.
+        clientInfo = null;
+        }
+      }
+
+    /**
+    * Put back any settings that have changed. Any transaction must already have been ended.
+    * @param Connection theConnection
+    * @throws SQLException if they can't be put back.
+    */
+    void restore(Connection theConnection) throws SQLException
+      {
+      if (theConnection.getAutoCommit() != autoCommit)
+        {
+        theConnection.setAutoCommit(autoCommit);
+        }
+
+      if (theConnection.isReadOnly() != readOnly)
+        {
+        theConnection.setReadOnly(readOnly);
+        }
+
+      if (theConnection.getTransactionIsolation() != transactionIsolation)
+        {
+        theConnection.setTransactionIsolation(transactionIsolation);
+        }
+
+      if (clientInfo != null && ! clientInfo.equals(theConnection.getClientInfo()))
+        {
+        theConnection.setClientInfo(clientInfo);
+        }
+      }
+  }
+}
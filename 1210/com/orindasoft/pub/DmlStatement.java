@@ -1,195 +1,552 @@
-package com.orindasoft.pub;
-
-// We are working wih JDBC
-import java.sql.*;
-
-/**
-* A parameterized SQL statement
-* that continues to exist even if the connection it uses is withdrawn.
-* <p>
-* Under normal circumstances <a href="http://www.orindasoft.com/?adsrc=api" target="_blank class="manual">OrindaBuild</a> users
-* will have no reason to use this class directly - the generated code will use it.
-* <p>
-* <br>(c) Copyright 2003 - 2015 Orinda Software Ltd<p>
-*
-* @version 6.0
-* @author  <a href="http://www.orindasoft.com/?pdsrc=api" target="_blank" class=news>Orinda Software</a>
-*/
-public abstract class DmlStatement extends StatementParameters2 implements OracleResourceUser
-{
-  /**
-  * Text of SQL DML statement
-  */
-  String statementSqlText = null;
-
-  /**
-  * What kind of DML statement this is - SELECT, INSERT, UPDATE or DELETE, etc
-  * @see 
-  */
-  int statementType;
-
-  /**
-  * Database connection
-  */
-  Connection theConnection = null;
-
-  /**
-  * Prepared form of Sql Statement
-  */
-  PreparedStatement thePreparedStatement = null;
-
-  /**
-  * Log Interface Object
-  */
-  LogInterface theLog = null;
-
-  /**
-  * Create a DML Statement object and give it a connection
-  */
-  public DmlStatement(String statementSqlText, LogInterface theLog, Connection theConnection)
-    {
-    this(statementSqlText,theLog);
-    setConnection(theConnection);
-    }
-
-  /**
-  * Create a DML Statement object.
-  */
-  public DmlStatement(String statementSqlText, LogInterface theLog)
-    {
-    super(statementSqlText,theLog);
-    this.theLog = theLog;
-    this.statementSqlText = new String(statementSqlText);
-    statementType = SqlUtils.getStatementType(statementSqlText);
-    }
-
-  /**
-  * Provide a connection
-  * @param Connection theConnection
-  */
-  public void setConnection(Connection theConnection)
-    {
-    this.theConnection = theConnection;
-    }
-
-
-  /**
-  * Complain if the connection does not exist.
-  * @throws CSDBException No database connection was available when this method was called
-  */
-  protected void testConnection() throws CSDBException
-    {
-    // Complain if we are without a connection...
-    if (theConnection == null)
-      {
-      throw new CSDBException(0,"No Connection Provided",statementSqlText,"Execute method called with no Connection present");
-      }
-    }
-
-  /**
-  * Prepare the statement if needed.
-  * @return <code>true</code> if we had to prepare the statement
-  * @return <code>false</code> if the statement was already prepared
-  * @throws CSDBException We were unable to prepare the statement
-  */
-  protected boolean createPreparedStatement() throws CSDBException
-    {
-    boolean prepareDoneThisTime = false;
-
-    if (thePreparedStatement == null)
-      {
-      prepareDoneThisTime = true;
-      try
-        {
-        thePreparedStatement = theConnection.prepareStatement(statementSqlText);
-        }
-      catch (java.sql.SQLException e)
-        {
-        thePreparedStatement = null;
-        throw new CSDBException(e.getErrorCode(),e.toString(),statementSqlText,"Unable to prepare this statement");
-        }
-      }
-    return(prepareDoneThisTime);
-    }
-
-  /**
-  * Release the current connection
-  * <p>
-  * The prepared Statement will be closed and nullified. 
-  */
-  public void freeConnection()
-    {
-    if (thePreparedStatement != null)
-      {
-      try
-        {
-        thePreparedStatement.close();
-        thePreparedStatement = null;
-        }
-      catch (SQLException e)
-        {
-        theLog.error("Unable to close " + statementSqlText + " :" + e.getMessage());
-        }
-      }
-    this.theConnection = null;
-    }
-
-  /**
-  * Check if our connection is usable
-  * @return <tt>true</tt> if our connecion is usable
-  * @return <tt>false</tt> if our connecion is not usable
-  */
-  public boolean connectionIsUsable()
-    {
-    if (theConnection == null || theLog == null)
-      {
-      return(false);
-      }
-    return (true);
-    }
-
-  /**
-  * Used to tell if the object is using Oracle resources.
-  * @return <tt>true</tt> if the object holds a resource.
-  * @return <tt>false</tt> if the object does not hold a resource.
-  */
-  public boolean hasResources()
-  {
-  if (theConnection != null)
-    {
-    return(true);
-    }
-  return(false);
-  }
-
-  /**
-  * Used to tell an object to release its Oracle resources. This method never throws an exception. If
-  * releasing the resource will create problems they should be dealt with by the implementing class, not
-  * escalated to the calling class.
-  * @return <tt>true</tt> if the objects held an open PreparedStatement, ResultSet or similer resource.
-  */
-  public boolean releaseResources()
-  {
-  freeConnection();
-  return(true);
-  }
-
-  /**
-  * Return underlying java.sql.Statement Object. This method exists so that users
-  * can call the various methods such as 'setQueryTimeout' that are defined in
-  * the java.sql.Statement interface. Do not use it to replace the Statement
-  * object.
-  * @return java.sql.Statement
-  * @throws CSDBException If we had to try to create the Statement before we could return it and something went wrong.
-  * @since 5.0.2267 Retuens Statement Object.
-  */
-  public java.sql.Statement getUnderlyingStatement() throws CSDBException
-  {
-  createPreparedStatement();
-  return(thePreparedStatement);
-  }
-
-}
-
-
+package com.orindasoft.pub;
+
+// We are working wih JDBC
+import java.sql.*;
+
+/**
+* A parameterized SQL statement
+* that continues to exist even if the connection it uses is withdrawn.
+* <p>
+* Under normal circumstances <a href="http://www.orindasoft.com/?adsrc=api" target="_blank class="manual">OrindaBuild</a> users
+* will have no reason to use this class directly - the generated code will use it.
+* <p>
+* A statement can be given a ConnectionPool instead of a Connection. It then borrows a connection
+* the first time it needs one and gives it back when <tt>freeConnection()</tt> or
+* <tt>releaseResources()</tt> is called, so a unit of work doesn't pay for connection setup.
+* The pool rolls back anything uncommitted when the connection is given back, so if auto-commit is off
+* call <tt>commit()</tt> before <tt>freeConnection()</tt>, or use <tt>setCommitBeforeReturn(true)</tt>.
+* <p>
+* If <tt>setUseStatementCache(true)</tt> is called, a statement that gives up its connection keeps
+* its PreparedStatement open in that connection's StatementCache, so the next statement with the same
+* SQL on the same connection doesn't have to prepare it again. Otherwise it is closed as before.
+* <p>
+* <br>(c) Copyright 2003 - 2015 Orinda Software Ltd<p>
+*
+* @version 6.0
+* @author  <a href="http://www.orindasoft.com/?pdsrc=api" target="_blank" class=news>Orinda Software</a>
+*/
+public abstract class DmlStatement extends StatementParameters2 implements OracleResourceUser
+{
+  /**
+  * Text of SQL DML statement
+  */
+  String statementSqlText = null;
+
+  /**
+  * What kind of DML statement this is - SELECT, INSERT, UPDATE or DELETE, etc
+  * @see 
+  */
+  int statementType;
+
+  /**
+  * Database connection
+  */
+  Connection theConnection = null;
+
+  /**
+  * Where we borrow a connection from if we haven't been given one.
+  */
+  ConnectionPool theConnectionPool = null;
+
+  /**
+  * True if theConnection was borrowed from theConnectionPool and must be given back.
+  */
+  boolean connectionIsPooled = false;
+
+  /**
+  * Whether we commit a borrowed connection before giving it back to theConnectionPool.
+  */
+  boolean commitBeforeReturn = false;
+
+  /**
+  * Whether we keep our PreparedStatement in the connection's StatementCache instead of closing it.
+  */
+  boolean useStatementCache = false;
+
+  /**
+  * True if getUnderlyingStatement() has handed out thePreparedStatement. Its settings may
+  * have been changed, so it mustn't be passed on to someone else through the StatementCache.
+  */
+  boolean statementHandedOut = false;
+
+  /**
+  * Prepared form of Sql Statement
+  */
+  PreparedStatement thePreparedStatement = null;
+
+  /**
+  * Log Interface Object
+  */
+  LogInterface theLog = null;
+
+  /**
+  * The tables this statement changes. Worked out from the SQL when first needed.
+  */
+  String[] affectedTableNames = null;
+
+  /**
+  * True if we have changed tables on a connection that wasn't in auto-commit mode
+  * and haven't invalidated them again since the change was committed.
+  */
+  boolean invalidationPending = false;
+
+  /**
+  * Create a DML Statement object and give it a connection
+  */
+  public DmlStatement(String statementSqlText, LogInterface theLog, Connection theConnection)
+    {
+    this(statementSqlText,theLog);
+    setConnection(theConnection);
+    }
+
+  /**
+  * Create a DML Statement object.
+  */
+  public DmlStatement(String statementSqlText, LogInterface theLog)
+    {
+    super(statementSqlText,theLog);
+    this.theLog = theLog;
+    this.statementSqlText = new String(statementSqlText);
+    statementType = SqlUtils.getStatementType(statementSqlText);
+    }
+
+  /**
+  * Provide a connection
+  * @param Connection theConnection
+  */
+  public void setConnection(Connection theConnection)
+    {
+    // Give back any connection we borrowed before replacing it.
+    if (connectionIsPooled && theConnection != this.theConnection)
+      {
+      freeConnection();
+      }
+
+    this.theConnection = theConnection;
+    }
+
+  /**
+  * Provide a pool to borrow a connection from when we need one. A connection given to
+  * <tt>setConnection()</tt> is used in preference to the pool.
+  * @param ConnectionPool theConnectionPool The pool, or null to stop using one.
+  * @since 6.0
+  */
+  public void setConnectionPool(ConnectionPool theConnectionPool)
+    {
+    if (connectionIsPooled && theConnectionPool != this.theConnectionPool)
+      {
+      freeConnection();
+      }
+
+    this.theConnectionPool = theConnectionPool;
+    }
+
+  /**
+  * Return the pool we borrow connections from.
+  * @return ConnectionPool the pool or null.
+  * @since 6.0
+  */
+  public ConnectionPool getConnectionPool()
+    {
+    return(theConnectionPool);
+    }
+
+  /**
+  * Specify whether a connection borrowed from our ConnectionPool is committed before it is
+  * given back. The pool rolls back uncommitted work, so without this an update made with
+  * auto-commit off is lost unless <tt>commit()</tt> is called first. The default is false.
+  * @param boolean commitBeforeReturn
+  * @since 6.0
+  */
+  public void setCommitBeforeReturn(boolean commitBeforeReturn)
+    {
+    this.commitBeforeReturn = commitBeforeReturn;
+    }
+
+  /**
+  * Return whether a borrowed connection is committed before it is given back.
+  * @return boolean commitBeforeReturn
+  * @since 6.0
+  */
+  public boolean getCommitBeforeReturn()
+    {
+    return(commitBeforeReturn);
+    }
+
+
+  /**
+  * Complain if the connection does not exist. If we have a ConnectionPool
+  * and no connection we borrow one.
+  * @throws CSDBException No database connection was available when this method was called
+  */
+  protected void testConnection() throws CSDBException
+    {
+    if (theConnection == null && theConnectionPool != null)
+      {
+      theConnection = theConnectionPool.borrowConnection();
+      connectionIsPooled = true;
+      }
+
+    // Complain if we are without a connection...
+    if (theConnection == null)
+      {
+      throw new CSDBException(0,"No Connection Provided",statementSqlText,"Execute method called with no Connection present");
+      }
+    }
+
+  /**
+  * Prepare the statement if needed. If the connection's StatementCache has one
+  * for our SQL we use that instead.
+  * @return <code>true</code> if we had to prepare the statement
+  * @return <code>false</code> if the statement was already prepared
+  * @throws CSDBException We were unable to prepare the statement
+  */
+  protected boolean createPreparedStatement() throws CSDBException
+    {
+    boolean prepareDoneThisTime = false;
+
+    if (thePreparedStatement == null && useStatementCache)
+      {
+      thePreparedStatement = StatementCache.getStatementCache(theConnection).borrowStatement(statementSqlText);
+      }
+
+    if (thePreparedStatement == null)
+      {
+      prepareDoneThisTime = true;
+      try
+        {
+        thePreparedStatement = theConnection.prepareStatement(statementSqlText);
+        }
+      catch (java.sql.SQLException e)
+        {
+        thePreparedStatement = null;
+        throw new CSDBException(e.getErrorCode(),e.toString(),statementSqlText,"Unable to prepare this statement");
+        }
+      }
+    return(prepareDoneThisTime);
+    }
+
+  /**
+  * Execute an INSERT, UPDATE, DELETE or MERGE statement.
+  * <p>
+  * If the statement succeeds any results in the shared QueryResultCache that were
+  * read from the tables it changes are removed. If the connection isn't in auto-commit mode
+  * they are removed again by <tt>commit()</tt> or <tt>freeConnection()</tt>.
+  * If the first attempt fails because the prepared statement had gone stale - see
+  * <tt>SqlUtils.isStaleStatementError()</tt> - the statement is prepared again and re-tried once.
+  * Any other error is thrown straight away, as the statement may already have done some of its work.
+  * @return int How many rows were changed.
+  * @throws CSException
+  * @since 6.0
+  */
+  public int executeUpdate() throws CSException
+    {
+    int rowsChanged = 0;
+
+    // Complain if we are without a connection...
+    testConnection();
+
+    try
+      {
+      createPreparedStatement();
+      bindParameters(thePreparedStatement);
+      rowsChanged = thePreparedStatement.executeUpdate();
+      }
+    catch (SQLException e)
+      {
+      discardPreparedStatement();
+
+      // Running it again could do its work twice, unless it failed because
+      // our prepared statement was no longer usable.
+      if (! SqlUtils.isStaleStatementError(e))
+        {
+        throw new CSDBException(e.getErrorCode(),e.getSQLState(),statementSqlText
+          ,"Unable to execute this statement: " + e.getMessage());
+        }
+
+      try
+        {
+        createPreparedStatement();
+        bindParameters(thePreparedStatement);
+        rowsChanged = thePreparedStatement.executeUpdate();
+        }
+      catch (SQLException e2)
+        {
+        discardPreparedStatement();
+        throw new CSDBException(e2.getErrorCode(),e2.getSQLState(),statementSqlText
+          ,"Unable to execute this statement. First Message:" + e.getMessage()
+          +" Second Message:" + e2.getMessage());
+        }
+      }
+
+    invalidateChangedTables();
+
+    return(rowsChanged);
+    }
+
+  /**
+  * Commit the connection's current transaction. Results read from the tables we have changed are
+  * removed from the shared QueryResultCache again, as other sessions may have cached the old rows
+  * between our change and the commit.
+  * @throws CSDBException if we don't have a connection or the commit fails.
+  * @since 6.0
+  */
+  public void commit() throws CSDBException
+    {
+    if (theConnection == null)
+      {
+      throw new CSDBException(0,"No Connection",statementSqlText,"Unable to commit - no connection");
+      }
+
+    try
+      {
+      theConnection.commit();
+      }
+    catch (SQLException e)
+      {
+      throw new CSDBException(e.getErrorCode(),e.getSQLState(),statementSqlText,"Unable to commit: " + e.getMessage());
+      }
+
+    if (invalidationPending)
+      {
+      invalidationPending = false;
+      invalidateCachedResults();
+      }
+    }
+
+  /**
+  * Remove results read from the tables we have just changed from the shared QueryResultCache.
+  * If the change hasn't been committed yet remember to do it again at commit time.
+  */
+  protected void invalidateChangedTables()
+    {
+    invalidateCachedResults();
+
+    if (getAffectedTableNames().length > 0)
+      {
+      try
+        {
+        if (theConnection != null && ! theConnection.getAutoCommit())
+          {
+          invalidationPending = true;
+          }
+        }
+      catch (SQLException e)
+        {
+        // We can't tell, so assume the change is still to be committed.
+        invalidationPending = true;
+        }
+      }
+    }
+
+  /**
+  * Remove results read from the tables this statement changes from the shared QueryResultCache.
+  * <p>
+  * <tt>executeUpdate()</tt> calls this for you, and calls it again when you use <tt>commit()</tt>
+  * or <tt>freeConnection()</tt>. If you run the statement some other way, or commit the connection
+  * yourself while keeping it, call it yourself after COMMIT as well.
+  * @return int How many cached results were removed.
+  * @since 6.0
+  */
+  public int invalidateCachedResults()
+    {
+    return(QueryResultCache.getSharedCache().invalidateTables(getAffectedTableNames()));
+    }
+
+  /**
+  * Specify which tables this statement changes. By default the names are found by looking
+  * at the SQL of INSERT, UPDATE, DELETE and MERGE statements. PL/SQL and other statements
+  * are assumed to change nothing unless you call this.
+  * @param String[] newAffectedTableNames The table names.
+  * @since 6.0
+  */
+  public void setAffectedTableNames(String[] newAffectedTableNames)
+    {
+    affectedTableNames = newAffectedTableNames;
+    }
+
+  /**
+  * Return the names of the tables this statement changes.
+  * @return String[] the table names. May be empty but never null.
+  * @since 6.0
+  */
+  public String[] getAffectedTableNames()
+    {
+    if (affectedTableNames == null)
+      {
+      if (   statementType == SqlUtils.INSERT || statementType == SqlUtils.UPDATE
+          || statementType == SqlUtils.DELETE || statementType == SqlUtils.MERGE)
+        {
+        affectedTableNames = SqlUtils.getTableNames(statementSqlText);
+        }
+      else
+        {
+        affectedTableNames = new String[0];
+        }
+      }
+
+    return(affectedTableNames);
+    }
+
+  /**
+  * Close our PreparedStatement after an error so that it is neither used again
+  * nor put back in the StatementCache.
+  */
+  protected void discardPreparedStatement()
+    {
+    if (thePreparedStatement != null)
+      {
+      StatementCache.closeQuietly(thePreparedStatement);
+      thePreparedStatement = null;
+      }
+    }
+
+  /**
+  * Specify whether our PreparedStatement is kept in the connection's StatementCache
+  * when we give up the connection, and whether we look there before preparing one. The default is false.
+  * A cached statement holds an open cursor on the database, so allow for
+  * <tt>StatementCache.getDefaultMaxStatements()</tt> of them per connection in OPEN_CURSORS.
+  * @param boolean useStatementCache
+  * @since 6.0
+  */
+  public void setUseStatementCache(boolean useStatementCache)
+    {
+    this.useStatementCache = useStatementCache;
+    }
+
+  /**
+  * Return whether we use the connection's StatementCache.
+  * @return boolean useStatementCache
+  * @since 6.0
+  */
+  public boolean getUseStatementCache()
+    {
+    return(useStatementCache);
+    }
+
+  /**
+  * Release the current connection
+  * <p>
+  * The prepared Statement will be closed and nullified. If we use the StatementCache it is put there
+  * instead, unless <tt>getUnderlyingStatement()</tt> has handed it out. If the connection was borrowed from our
+  * ConnectionPool it is given back, and the pool rolls back anything uncommitted unless
+  * <tt>setCommitBeforeReturn(true)</tt> was called. If we changed tables and haven't been through <tt>commit()</tt>
+  * since, results read from them are removed from the shared QueryResultCache again.
+  */
+  public void freeConnection()
+    {
+    if (connectionIsPooled && commitBeforeReturn && theConnection != null)
+      {
+      try
+        {
+        if (! theConnection.getAutoCommit())
+          {
+          commit();
+          }
+        }
+      catch (SQLException e)
+        {
+        theLog.error("Unable to check auto-commit for " + statementSqlText + " :" + e.getMessage());
+        }
+      catch (CSDBException e)
+        {
+        theLog.error("Unable to commit before returning connection: " + e.getMessage());
+        }
+      }
+
+    if (invalidationPending)
+      {
+      invalidationPending = false;
+      invalidateCachedResults();
+      }
+
+    if (thePreparedStatement != null && useStatementCache && ! statementHandedOut && theConnection != null)
+      {
+      StatementCache.getStatementCache(theConnection).returnStatement(statementSqlText, thePreparedStatement);
+      thePreparedStatement = null;
+      }
+    else if (thePreparedStatement != null)
+      {
+      try
+        {
+        thePreparedStatement.close();
+        thePreparedStatement = null;
+        }
+      catch (SQLException e)
+        {
+        theLog.error("Unable to close " + statementSqlText + " :" + e.getMessage());
+        }
+      }
+
+    statementHandedOut = false;
+
+    if (connectionIsPooled)
+      {
+      connectionIsPooled = false;
+      theConnectionPool.returnConnection(theConnection);
+      }
+
+    this.theConnection = null;
+    }
+
+  /**
+  * Check if our connection is usable
+  * @return <tt>true</tt> if our connecion is usable
+  * @return <tt>false</tt> if our connecion is not usable
+  */
+  public boolean connectionIsUsable()
+    {
+    if ((theConnection == null && theConnectionPool == null) || theLog == null)
+      {
+      return(false);
+      }
+    return (true);
+    }
+
+  /**
+  * Used to tell if the object is using Oracle resources.
+  * @return <tt>true</tt> if the object holds a resource.
+  * @return <tt>false</tt> if the object does not hold a resource.
+  */
+  public boolean hasResources()
+  {
+  if (theConnection != null)
+    {
+    return(true);
+    }
+  return(false);
+  }
+
+  /**
+  * Used to tell an object to release its Oracle resources. This method never throws an exception. If
+  * releasing the resource will create problems they should be dealt with by the implementing class, not
+  * escalated to the calling class.
+  * @return <tt>true</tt> if the objects held an open PreparedStatement, ResultSet or similer resource.
+  */
+  public boolean releaseResources()
+  {
+  freeConnection();
+  return(true);
+  }
+
+  /**
+  * Return underlying java.sql.Statement Object. This method exists so that users
+  * can call the various methods such as 'setQueryTimeout' that are defined in
+  * the java.sql.Statement interface. Do not use it to replace the Statement
+  * object. A statement handed out this way is closed rather than put in the StatementCache
+  * when we give up the connection, so that its settings don't carry over to another DmlStatement.
+  * @return java.sql.Statement
+  * @throws CSDBException If we had to try to create the Statement before we could return it and something went wrong.
+  * @since 5.0.2267 Retuens Statement Object.
+  */
+  public java.sql.Statement getUnderlyingStatement() throws CSDBException
+  {
+  createPreparedStatement();
+  statementHandedOut = true;
+  return(thePreparedStatement);
+  }
+
+}
+
+
 
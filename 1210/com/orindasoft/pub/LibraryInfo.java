@@ -1,38 +1,38 @@
-package com.orindasoft.pub;
-
-/**
-* Static class for providing information about the JDBCWizard Public Library.
-* <p>
-* Under normal circumstances <a href="http://www.orindasoft.com/?adsrc=api" target="_blank class="manual">OrindaBuild</a> users
-* will have no reason to use this class directly - the generated code will use it.
-* <br>(c) 2003-2015 Orinda Software Ltd
-*
-* @version 6.0
-* @author  <a href="http://www.orindasoft.com/?pdsrc=api" target="_blank" class=news>Orinda Software</a>
-*/
-
-public class LibraryInfo
-{
-  public LibraryInfo()
-  {
-  }
-
-  /**
-  * Return version of public library we are using. 
-  */
-  public static String getLibraryVersion()
-  {
-  return("1210");
-  }
-
-  /**
-  * Return build of public library we are using.
-  */
-  public static String getProductVersion()
-  {
-  return("6.0.3145.3145");
-  }
-}
-
-
+package com.orindasoft.pub;
+
+/**
+* Static class for providing information about the JDBCWizard Public Library.
+* <p>
+* Under normal circumstances <a href="http://www.orindasoft.com/?adsrc=api" target="_blank class="manual">OrindaBuild</a> users
+* will have no reason to use this class directly - the generated code will use it.
+* <br>(c) 2003-2015 Orinda Software Ltd
+*
+* @version 6.0
+* @author  <a href="http://www.orindasoft.com/?pdsrc=api" target="_blank" class=news>Orinda Software</a>
+*/
+
+public class LibraryInfo
+{
+  public LibraryInfo()
+  {
+  }
+
+  /**
+  * Return version of public library we are using. 
+  */
+  public static String getLibraryVersion()
+  {
+  return("1210");
+  }
+
+  /**
+  * Return build of public library we are using.
+  */
+  public static String getProductVersion()
+  {
+  return("6.0.3145.3145");
+  }
+}
+
+
 
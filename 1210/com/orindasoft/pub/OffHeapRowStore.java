@@ -0,0 +1,728 @@
+package com.orindasoft.pub;
+
+// We use an Arraylist to keep track of segments and objects we can't encode
+import java.util.ArrayList;
+import java.util.Arrays;
+
+// Values read after we are closed are this Exception
+import java.io.IOException;
+
+// Rows are encoded into direct ByteBuffers
+import java.nio.ByteBuffer;
+
+// We free the direct ByteBuffers ourselves when we are closed
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+// Readers share the segments, close() must have them to itself
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Oracle always returns numbers as BigDecimal
+import java.math.BigDecimal;
+
+// DATE columns are handed back as Timestamps
+import java.sql.Timestamp;
+
+// We keep NUMBERs and DATEs in Oracle's own format
+import oracle.sql.NUMBER;
+import oracle.sql.DATE;
+
+/**
+* A row store that encodes its rows into direct ByteBuffers outside the Java heap.
+* <p>
+* A ReadOnlyRowSet that sits in a QueryStatement cache for minutes or hours
+* normally holds thousands of small objects that the garbage collector has to keep
+* scanning. This class encodes each row into a compact binary form in large direct
+* ByteBuffers so that the only things on the heap are the buffers themselves and an
+* array of row positions.
+* <p>
+* Each value is written as a one byte tag followed by its data:
+* <ul>
+* <li>NUMBER values are kept in Oracle's own variable length format, as returned by <tt>oracle.sql.NUMBER.getBytes()</tt>,
+* followed by a byte holding the value's scale so that 5 doesn't come back as 5.00.
+* <li>DATE values are kept in Oracle's 7 byte format, as returned by <tt>oracle.sql.DATE.getBytes()</tt>.
+* Timestamps with fractions of a second are kept as Objects instead so nothing is lost.
+* <li>Strings are kept as UTF-8 and byte arrays as they are.
+* <li>Anything else - Files, LOB locators, Exceptions and so on - is kept in an ordinary
+* on-heap list and the row holds its position in the list.
+* </ul>
+* Values are decoded back into BigDecimal, Timestamp, String or byte[] each time they are
+* read, so getters see exactly the same types they would with STORAGE_ROWS.
+* <p>
+* The segments count against the JVM's direct memory limit (<tt>-XX:MaxDirectMemorySize</tt>,
+* which defaults to the maximum heap size) rather than the heap. Left to themselves they are only freed
+* when the garbage collector notices their ByteBuffers are unreachable, which with a large heap
+* can be a long time after the rows are finished with. <tt>close()</tt> frees them straight away.
+* ReadOnlyRowSet calls it from <tt>deleteGeneratedFiles()</tt>, and the QueryResultCache's
+* CacheEvictor calls that once an entry has left the cache and its RowViews have gone. After
+* <tt>close()</tt> every value read is an Exception, in the same way as for a closed PagedRowStore.
+* <p>
+* Under normal circumstances <a href="http://www.orindasoft.com/?adsrc=api" target="_blank class="manual">OrindaBuild</a> users
+* will have no reason to use this class directly - ReadOnlyRowSet will use it.
+* <p>
+* <br>(c) Copyright 2003 - 2015 Orinda Software Ltd<p>
+*
+* @see ReadOnlyRowSet#STORAGE_OFF_HEAP
+* @version 6.0
+* @author  <a href="http://www.orindasoft.com/?pdsrc=api" target="_blank" class=news>Orinda Software</a>
+*/
+public class OffHeapRowStore implements RowStoreInterface
+{
+  /**
+  * How big a segment is unless a single row needs more.
+  */
+  public static final int DEFAULT_SEGMENT_BYTES = 1048576;
+
+  /**
+  * How many rows we allocate positions for to start with.
+  */
+  public static final int INITIAL_CAPACITY = 64;
+
+  /**
+  * Tag for a null value
+  */
+  static final byte TAG_NULL = 0;
+
+  /**
+  * Tag for a NUMBER in Oracle format
+  */
+  static final byte TAG_NUMBER = 1;
+
+  /**
+  * Tag for a DATE in Oracle format
+  */
+  static final byte TAG_DATE = 2;
+
+  /**
+  * Tag for a UTF-8 String
+  */
+  static final byte TAG_STRING = 3;
+
+  /**
+  * Tag for a byte array
+  */
+  static final byte TAG_BYTES = 4;
+
+  /**
+  * Tag for an Object kept in heapObjects
+  */
+  static final byte TAG_OBJECT = 5;
+
+  /**
+  * sun.misc.Unsafe, which can free a direct ByteBuffer, or null if we can't get at it.
+  */
+  private static Object theUnsafe = null;
+
+  /**
+  * sun.misc.Unsafe.invokeCleaner(ByteBuffer), or null if we can't get at it.
+  */
+  private static Method invokeCleaner = null;
+
+  static
+    {
+    try
+      {
+      Class unsafeClass = Class.forName("sun.misc.Unsafe");
+      Field unsafeField = unsafeClass.getDeclaredField("theUnsafe");
+      unsafeField.setAccessible(true);
+      theUnsafe = unsafeField.get(null);
+      invokeCleaner = unsafeClass.getMethod("invokeCleaner", new Class[] {ByteBuffer.class});
+      }
+    catch (Throwable e)
+      {
+      // Not available on this JVM. Segments will be freed by the garbage collector instead.
+      theUnsafe = null;
+      invokeCleaner = null;
+      }
+    }
+
+  /**
+  * How many columns are in this store
+  */
+  int colCount = 0;
+
+  /**
+  * How many rows are in this store
+  */
+  int rowCount = 0;
+
+  /**
+  * How big new segments are.
+  */
+  int segmentBytes = DEFAULT_SEGMENT_BYTES;
+
+  /**
+  * The direct ByteBuffers rows are encoded into.
+  */
+  ArrayList segments = new ArrayList();
+
+  /**
+  * Where each row starts. The top 32 bits are the segment number and the
+  * bottom 32 bits the offset within the segment.
+  */
+  long[] rowPositions = new long[INITIAL_CAPACITY];
+
+  /**
+  * Values we don't know how to encode.
+  */
+  ArrayList heapObjects = new ArrayList();
+
+  /**
+  * Held while reading segments, and exclusively while freeing them, so that
+  * a segment is never freed while a RowView on another thread is decoding it.
+  */
+  private final ReentrantReadWriteLock segmentLock = new ReentrantReadWriteLock();
+
+  /**
+  * True once close() has freed the segments.
+  */
+  boolean isClosed = false;
+
+  /**
+  * Used to build each row before it is copied into a segment.
+  */
+  private byte[] rowBuffer = new byte[256];
+
+  /**
+  * How many bytes of rowBuffer are in use.
+  */
+  private int rowBufferLength = 0;
+
+  /**
+  * Create a new, empty OffHeapRowStore with segments of DEFAULT_SEGMENT_BYTES bytes.
+  * @param int colCount How many columns each row has.
+  */
+  public OffHeapRowStore(int colCount)
+    {
+    this(colCount, DEFAULT_SEGMENT_BYTES);
+    }
+
+  /**
+  * Create a new, empty OffHeapRowStore.
+  * @param int colCount How many columns each row has.
+  * @param int segmentBytes How big each direct ByteBuffer is.
+  */
+  public OffHeapRowStore(int colCount, int segmentBytes)
+    {
+    this.colCount = colCount;
+
+    if (segmentBytes > 0)
+      {
+      this.segmentBytes = segmentBytes;
+      }
+    }
+
+  /**
+  * Encode a row and add it to the end of the store.
+  * @param Object[] theRow An array of Object containing one value per column.
+  */
+  public void addRow(Object[] theRow)
+    {
+    rowBufferLength = 0;
+
+    for (int i=0; i < colCount; i++)
+      {
+      encodeValue(theRow[i]);
+      }
+
+    // Find space for the row, starting a new segment if need be.
+    ByteBuffer theSegment = null;
+
+    if (segments.size() > 0)
+      {
+      theSegment = (ByteBuffer)segments.get(segments.size() - 1);
+      }
+
+    if (theSegment == null || theSegment.remaining() < rowBufferLength)
+      {
+      theSegment = ByteBuffer.allocateDirect(Math.max(segmentBytes, rowBufferLength));
+      segments.add(theSegment);
+      }
+
+    if (rowCount == rowPositions.length)
+      {
+      long[] newRowPositions = new long[rowPositions.length * 2];
+      System.arraycopy(rowPositions, 0, newRowPositions, 0, rowCount);
+      rowPositions = newRowPositions;
+      }
+
+    rowPositions[rowCount++] = (((long)(segments.size() - 1)) << 32) | theSegment.position();
+    theSegment.put(rowBuffer, 0, rowBufferLength);
+    }
+
+  /**
+  * Append the encoded form of a value to rowBuffer.
+  */
+  private void encodeValue(Object theValue)
+    {
+    byte[] valueBytes = null;
+    byte theTag = TAG_OBJECT;
+
+    if (theValue == null)
+      {
+      theTag = TAG_NULL;
+      }
+    else if (   theValue instanceof BigDecimal
+             && ((BigDecimal)theValue).scale() >= Byte.MIN_VALUE
+             && ((BigDecimal)theValue).scale() <= Byte.MAX_VALUE)
+      {
+      try
+        {
+        valueBytes = new NUMBER((BigDecimal)theValue).getBytes();
+        theTag = TAG_NUMBER;
+        }
+      catch (Exception e)
+        {
+        // Fall through and keep it as an Object.
+        }
+      }
+    else if (theValue instanceof Timestamp && ((Timestamp)theValue).getNanos() == 0)
+      {
+      valueBytes = new DATE((Timestamp)theValue).getBytes();
+      theTag = TAG_DATE;
+      }
+    else if (theValue instanceof String)
+      {
+      try
+        {
+        valueBytes = ((String)theValue).getBytes("UTF-8");
+        theTag = TAG_STRING;
+        }
+      catch (java.io.UnsupportedEncodingException e)
+        {
+        // Can't happen - every JVM supports UTF-8.
+        }
+      }
+    else if (theValue instanceof byte[])
+      {
+      valueBytes = (byte[])theValue;
+      theTag = TAG_BYTES;
+      }
+
+    if (theTag != TAG_NULL && valueBytes == null)
+      {
+      theTag = TAG_OBJECT;
+      }
+
+    ensureRowBufferSpace(6 + (valueBytes == null ? 0 : valueBytes.length));
+    rowBuffer[rowBufferLength++] = theTag;
+
+    switch (theTag)
+      {
+      case TAG_NULL:
+        {
+        break;
+        }
+      case TAG_NUMBER:
+      case TAG_DATE:
+        {
+        // Both are never more than 22 bytes long.
+        rowBuffer[rowBufferLength++] = (byte)valueBytes.length;
+        System.arraycopy(valueBytes, 0, rowBuffer, rowBufferLength, valueBytes.length);
+        rowBufferLength += valueBytes.length;
+
+        if (theTag == TAG_NUMBER)
+          {
+          rowBuffer[rowBufferLength++] = (byte)((BigDecimal)theValue).scale();
+          }
+        break;
+        }
+      case TAG_STRING:
+      case TAG_BYTES:
+        {
+        putInt(valueBytes.length);
+        System.arraycopy(valueBytes, 0, rowBuffer, rowBufferLength, valueBytes.length);
+        rowBufferLength += valueBytes.length;
+        break;
+        }
+      default:
+        {
+        putInt(heapObjects.size());
+        heapObjects.add(theValue);
+        break;
+        }
+      }
+    }
+
+  /**
+  * Append an int to rowBuffer.
+  */
+  private void putInt(int theInt)
+    {
+    rowBuffer[rowBufferLength++] = (byte)(theInt >>> 24);
+    rowBuffer[rowBufferLength++] = (byte)(theInt >>> 16);
+    rowBuffer[rowBufferLength++] = (byte)(theInt >>> 8);
+    rowBuffer[rowBufferLength++] = (byte)theInt;
+    }
+
+  /**
+  * Make sure rowBuffer has room for another <tt>extraBytes</tt> bytes.
+  */
+  private void ensureRowBufferSpace(int extraBytes)
+    {
+    if (rowBufferLength + extraBytes > rowBuffer.length)
+      {
+      byte[] newRowBuffer = new byte[Math.max(rowBuffer.length * 2, rowBufferLength + extraBytes)];
+      System.arraycopy(rowBuffer, 0, newRowBuffer, 0, rowBufferLength);
+      rowBuffer = newRowBuffer;
+      }
+    }
+
+  /**
+  * Return a row as an array of Object.
+  * @param int rowNumber The row we want. Row numbers start at 0.
+  * @return Object[] A newly built array containing the row.
+  */
+  public Object[] getRow(int rowNumber)
+    {
+    Object[] theRow = new Object[colCount];
+
+    segmentLock.readLock().lock();
+
+    try
+      {
+      if (isClosed)
+        {
+        Arrays.fill(theRow, getClosedException());
+        return(theRow);
+        }
+
+      ByteBuffer theSegment = (ByteBuffer)segments.get((int)(rowPositions[rowNumber] >>> 32));
+      int offset = (int)rowPositions[rowNumber];
+
+      for (int i=0; i < colCount; i++)
+        {
+        theRow[i] = decodeValue(theSegment, offset);
+        offset = skipValue(theSegment, offset);
+        }
+      }
+    finally
+      {
+      segmentLock.readLock().unlock();
+      }
+
+    return(theRow);
+    }
+
+  /**
+  * Return a single value, decoding it from its segment.
+  * @param int rowNumber The row we want. Row numbers start at 0.
+  * @param int columnId The column we want. Column numbers start at 0.
+  * @return Object The value, or <tt>null</tt>.
+  */
+  public Object getValue(int rowNumber, int columnId)
+    {
+    segmentLock.readLock().lock();
+
+    try
+      {
+      if (isClosed)
+        {
+        return(getClosedException());
+        }
+
+      ByteBuffer theSegment = (ByteBuffer)segments.get((int)(rowPositions[rowNumber] >>> 32));
+      int offset = (int)rowPositions[rowNumber];
+
+      for (int i=0; i < columnId; i++)
+        {
+        offset = skipValue(theSegment, offset);
+        }
+
+      return(decodeValue(theSegment, offset));
+      }
+    finally
+      {
+      segmentLock.readLock().unlock();
+      }
+    }
+
+  /**
+  * Return what a value read after close() looks like.
+  * @return Exception
+  */
+  private Exception getClosedException()
+    {
+    return(new IOException("Off heap rows have been released"));
+    }
+
+  /**
+  * Return the offset of the value after the one at <tt>offset</tt>.
+  */
+  private int skipValue(ByteBuffer theSegment, int offset)
+    {
+    switch (theSegment.get(offset))
+      {
+      case TAG_NULL:
+        {
+        return(offset + 1);
+        }
+      case TAG_NUMBER:
+        {
+        return(offset + 3 + theSegment.get(offset + 1));
+        }
+      case TAG_DATE:
+        {
+        return(offset + 2 + theSegment.get(offset + 1));
+        }
+      case TAG_STRING:
+      case TAG_BYTES:
+        {
+        return(offset + 5 + theSegment.getInt(offset + 1));
+        }
+      default:
+        {
+        return(offset + 5);
+        }
+      }
+    }
+
+  /**
+  * Turn the value at <tt>offset</tt> back into an Object.
+  */
+  private Object decodeValue(ByteBuffer theSegment, int offset)
+    {
+    Object theValue = null;
+    byte theTag = theSegment.get(offset);
+
+    switch (theTag)
+      {
+      case TAG_NULL:
+        {
+        break;
+        }
+      case TAG_NUMBER:
+        {
+        try
+          {
+          int numberLength = theSegment.get(offset + 1);
+          BigDecimal theNumber = NUMBER.toBigDecimal(getBytes(theSegment, offset + 2, numberLength));
+          int originalScale = theSegment.get(offset + 2 + numberLength);
+
+          if (theNumber.scale() != originalScale)
+            {
+            // Oracle's format doesn't keep trailing zeros. Put them back.
+            theNumber = theNumber.setScale(originalScale);
+            }
+
+          theValue = theNumber;
+          }
+        catch (Exception e)
+          {
+          // Report the problem the same way unloadObject does.
+          theValue = e;
+          }
+        break;
+        }
+      case TAG_DATE:
+        {
+        theValue = DATE.toTimestamp(getBytes(theSegment, offset + 2, theSegment.get(offset + 1)));
+        break;
+        }
+      case TAG_STRING:
+        {
+        try
+          {
+          theValue = new String(getBytes(theSegment, offset + 5, theSegment.getInt(offset + 1)), "UTF-8");
+          }
+        catch (java.io.UnsupportedEncodingException e)
+          {
+          theValue = e;
+          }
+        break;
+        }
+      case TAG_BYTES:
+        {
+        theValue = getBytes(theSegment, offset + 5, theSegment.getInt(offset + 1));
+        break;
+        }
+      default:
+        {
+        theValue = heapObjects.get(theSegment.getInt(offset + 1));
+        break;
+        }
+      }
+
+    return(theValue);
+    }
+
+  /**
+  * Copy bytes out of a segment without changing its position.
+  */
+  private static byte[] getBytes(ByteBuffer theSegment, int offset, int length)
+    {
+    byte[] theBytes = new byte[length];
+    ByteBuffer theView = theSegment.duplicate();
+    theView.position(offset);
+    theView.get(theBytes);
+    return(theBytes);
+    }
+
+  /**
+  * Return the number of rows in the store.
+  * @return int the number of rows
+  */
+  public int size()
+    {
+    return(rowCount);
+    }
+
+  /**
+  * Release unused capacity once all rows have been added. The last segment is
+  * copied into one that is just big enough.
+  */
+  public void trimToSize()
+    {
+    if (rowPositions.length > rowCount)
+      {
+      long[] newRowPositions = new long[rowCount];
+      System.arraycopy(rowPositions, 0, newRowPositions, 0, rowCount);
+      rowPositions = newRowPositions;
+      }
+
+    if (segments.size() > 0)
+      {
+      ByteBuffer lastSegment = (ByteBuffer)segments.get(segments.size() - 1);
+
+      if (lastSegment.remaining() > 0)
+        {
+        ByteBuffer newLastSegment = ByteBuffer.allocateDirect(lastSegment.position());
+        ByteBuffer oldContents = lastSegment.duplicate();
+        oldContents.flip();
+        newLastSegment.put(oldContents);
+        segments.set(segments.size() - 1, newLastSegment);
+        freeSegment(lastSegment);
+        }
+      }
+
+    segments.trimToSize();
+    heapObjects.trimToSize();
+    rowBuffer = new byte[0];
+    }
+
+  /**
+  * Return every row as an array of Object arrays.
+  * @return Object[] An array containing one Object[] per row.
+  */
+  public Object[] toArray()
+    {
+    Object[] allRows = new Object[rowCount];
+
+    for (int i=0; i < rowCount; i++)
+      {
+      allRows[i] = getRow(i);
+      }
+
+    return(allRows);
+    }
+
+  /**
+  * Estimate how many bytes of memory the store is using. This is the direct memory
+  * used by the segments plus the heap used to find rows and hold objects that could
+  * not be stored off the heap.
+  * @return long the estimated size in bytes.
+  */
+  public long getEstimatedBytes()
+    {
+    long estimatedBytes = getOffHeapBytes()
+                        + SizeEstimator.estimateArrayBytes(rowPositions.length, 8)
+                        + SizeEstimator.estimateArrayBytes(rowBuffer.length, 1)
+                        + SizeEstimator.estimateArrayBytes(heapObjects.size(), SizeEstimator.REFERENCE_BYTES);
+
+    for (int i=0; i < heapObjects.size(); i++)
+      {
+      estimatedBytes += SizeEstimator.estimateObjectBytes(heapObjects.get(i));
+      }
+
+    return(estimatedBytes);
+    }
+
+  /**
+  * Free the segments now instead of waiting for the garbage collector. Rows can't be read after this.
+  * Waits for any reads already under way on other threads to finish.
+  * @return boolean <tt>true</tt> if the store was open.
+  * @since 6.0
+  */
+  public boolean close()
+    {
+    segmentLock.writeLock().lock();
+
+    try
+      {
+      if (isClosed)
+        {
+        return(false);
+        }
+
+      isClosed = true;
+
+      for (int i=0; i < segments.size(); i++)
+        {
+        freeSegment((ByteBuffer)segments.get(i));
+        }
+
+      segments.clear();
+      heapObjects.clear();
+      return(true);
+      }
+    finally
+      {
+      segmentLock.writeLock().unlock();
+      }
+    }
+
+  /**
+  * Return whether close() has been called.
+  * @return boolean isClosed
+  * @since 6.0
+  */
+  public boolean isClosed()
+    {
+    return(isClosed);
+    }
+
+  /**
+  * Free a segment's direct memory if the JVM lets us. Nothing may use it afterwards.
+  * @param ByteBuffer theSegment A direct ByteBuffer we allocated.
+  */
+  private static void freeSegment(ByteBuffer theSegment)
+    {
+    if (invokeCleaner != null)
+      {
+      try
+        {
+        invokeCleaner.invoke(theUnsafe, new Object[] {theSegment});
+        }
+      catch (Exception e)
+        {
+        // It will be freed when it is garbage collected.
+        }
+      }
+    }
+
+  /**
+  * Return how many bytes of direct memory are in use.
+  * @return long the total capacity of all segments.
+  */
+  public long getOffHeapBytes()
+    {
+    long offHeapBytes = 0;
+
+    segmentLock.readLock().lock();
+
+    try
+      {
+      for (int i=0; i < segments.size(); i++)
+        {
+        offHeapBytes += ((ByteBuffer)segments.get(i)).capacity();
+        }
+      }
+    finally
+      {
+      segmentLock.readLock().unlock();
+      }
+
+    return(offHeapBytes);
+    }
+}
+
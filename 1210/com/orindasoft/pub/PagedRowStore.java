@@ -0,0 +1,589 @@
+package com.orindasoft.pub;
+
+// We use an Arraylist to keep track of pages
+import java.util.ArrayList;
+import java.util.Arrays;
+
+// We keep the pages we have read back in least recently used order
+import java.util.LinkedHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+// We write pages to a temporary file and read them back again
+import java.io.*;
+
+// We read spilled pages back when they are needed
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+// We delete the spill file if we are thrown away without being closed
+import java.lang.ref.Cleaner;
+
+/**
+* A row store that keeps most of its rows in a temporary file instead of on the heap.
+* <p>
+* Rows are collected into pages of <tt>pageRows</tt> rows. When a page is full it is
+* serialized and written to the end of a temporary file, after which it no longer
+* takes up any heap. When a row on a spilled page is asked for the page is read back
+* and deserialized. Only the page being filled and the <tt>getMaxResidentPages()</tt> pages
+* most recently read are kept on the heap, so a query can be far larger than the JVM could otherwise
+* hold at the cost of slower access. Pages are read without holding the store's lock, so threads
+* working through different parts of the store - such as those of a parallel Stream - don't wait
+* for each other.
+* <p>
+* A page that can not be serialized - because one of its values is not Serializable -
+* is kept on the heap instead. Any other error writing a page is thrown as a CSIOException.
+* If a spilled page can not be read back the values in the row asked for are replaced by the
+* Exception that was thrown, in the same way that ReadOnlyRowSet reports failed LOB downloads.
+* The page is read again the next time one of its rows is asked for.
+* <p>
+* The temporary file is deleted when <tt>close()</tt> is called, when the store is garbage
+* collected without being closed or when the JVM exits.
+* <p>
+* Under normal circumstances <a href="http://www.orindasoft.com/?adsrc=api" target="_blank class="manual">OrindaBuild</a> users
+* will have no reason to use this class directly - ReadOnlyRowSet will use it.
+* <p>
+* <br>(c) Copyright 2003 - 2015 Orinda Software Ltd<p>
+*
+* @see ReadOnlyRowSet#STORAGE_PAGED
+* @version 6.0
+* @author  <a href="http://www.orindasoft.com/?pdsrc=api" target="_blank" class=news>Orinda Software</a>
+*/
+public class PagedRowStore implements RowStoreInterface
+{
+  /**
+  * How many rows go into a page unless we are told otherwise.
+  */
+  public static final int DEFAULT_PAGE_ROWS = 1000;
+
+  /**
+  * The fewest pages we keep on the heap after reading them back, unless we are told otherwise.
+  * We keep at least one per processor so that each thread of a parallel Stream can have its own.
+  */
+  public static final int DEFAULT_RESIDENT_PAGES = 4;
+
+  /**
+  * Deletes the spill files of stores that were thrown away without being closed.
+  */
+  private static final Cleaner SPILL_FILE_CLEANER = Cleaner.create();
+
+  /**
+  * How many rows go into a page.
+  */
+  int pageRows = DEFAULT_PAGE_ROWS;
+
+  /**
+  * How many rows are in this store
+  */
+  int rowCount = 0;
+
+  /**
+  * How many columns each row has. Set when the first row is added.
+  */
+  int colCount = 0;
+
+  /**
+  * One entry per full page. Each entry is either a long[] containing the offset
+  * and length of the page in the spill file or, if the page couldn't be spilled,
+  * the Object[] page itself.
+  */
+  ArrayList fullPages = new ArrayList();
+
+  /**
+  * The page we are currently adding rows to.
+  */
+  Object[] writePage = null;
+
+  /**
+  * How many rows are in writePage.
+  */
+  int writePageRows = 0;
+
+  /**
+  * How many spilled pages we keep on the heap after reading them back.
+  */
+  int maxResidentPages = Math.max(DEFAULT_RESIDENT_PAGES, Runtime.getRuntime().availableProcessors());
+
+  /**
+  * Spilled pages that have been read back, keyed by page number, least recently used first.
+  */
+  LinkedHashMap residentPages = null;
+
+  /**
+  * The file we spill pages into.
+  */
+  File spillFile = null;
+
+  /**
+  * Used to write to and read from spillFile.
+  */
+  RandomAccessFile spillRandomAccessFile = null;
+
+  /**
+  * Channel for spillFile.
+  */
+  FileChannel spillChannel = null;
+
+  /**
+  * How many bytes have been written to spillFile.
+  */
+  long spillFileLength = 0;
+
+  /**
+  * Closes and deletes spillFile, either when close() is called or when we are garbage collected.
+  */
+  Cleaner.Cleanable spillFileCleanable = null;
+
+  /**
+  * Create a new, empty PagedRowStore with pages of DEFAULT_PAGE_ROWS rows.
+  * @param File spillDir The directory the temporary file will be created in.
+  * @param String tempFilePrefix Prefix for the temporary file.
+  * @param String tempFileSuffix Suffix for the temporary file.
+  * @throws CSIOException if the temporary file can not be created.
+  */
+  public PagedRowStore(File spillDir, String tempFilePrefix, String tempFileSuffix) throws CSIOException
+    {
+    this(spillDir, tempFilePrefix, tempFileSuffix, DEFAULT_PAGE_ROWS);
+    }
+
+  /**
+  * Create a new, empty PagedRowStore.
+  * @param File spillDir The directory the temporary file will be created in.
+  * @param String tempFilePrefix Prefix for the temporary file.
+  * @param String tempFileSuffix Suffix for the temporary file.
+  * @param int pageRows How many rows go into a page.
+  * @throws CSIOException if the temporary file can not be created.
+  */
+  public PagedRowStore(File spillDir, String tempFilePrefix, String tempFileSuffix, int pageRows) throws CSIOException
+    {
+    if (pageRows > 0)
+      {
+      this.pageRows = pageRows;
+      }
+
+    writePage = new Object[this.pageRows];
+
+    residentPages = new LinkedHashMap(16, 0.75f, true)
+      {
+      protected boolean removeEldestEntry(Map.Entry eldest)
+        {
+        return(size() > maxResidentPages);
+        }
+      };
+
+    try
+      {
+      spillFile = File.createTempFile(tempFilePrefix + "_PAGES_", tempFileSuffix, spillDir);
+      spillFile.deleteOnExit();
+      spillRandomAccessFile = new RandomAccessFile(spillFile, "rw");
+      spillChannel = spillRandomAccessFile.getChannel();
+      spillFileCleanable = SPILL_FILE_CLEANER.register(this, new SpillFileRemover(spillFile, spillRandomAccessFile));
+      }
+    catch (IOException e)
+      {
+      throw new CSIOException("Unable to create page file in " + spillDir.getAbsolutePath() + ":" + e.getMessage());
+      }
+    }
+
+  /**
+  * Add a row to the end of the store. If this fills the current page it is written to the spill file.
+  * @param Object[] theRow An array of Object containing one value per column.
+  * @throws CSIOException if the spill file has been closed or a page can't be written to it.
+  */
+  public void addRow(Object[] theRow) throws CSIOException
+    {
+    if (spillChannel == null)
+      {
+      throw new CSIOException("Page file " + spillFile.getAbsolutePath() + " has been closed");
+      }
+
+    if (rowCount == 0)
+      {
+      colCount = theRow.length;
+      }
+
+    writePage[writePageRows++] = theRow;
+    rowCount++;
+
+    if (writePageRows == pageRows)
+      {
+      spillPage();
+      }
+    }
+
+  /**
+  * Write writePage to the end of the spill file and start a new one.
+  * @throws CSIOException if the page couldn't be written. It is kept on the heap.
+  */
+  private void spillPage() throws CSIOException
+    {
+    CSIOException spillError = null;
+
+    try
+      {
+      ByteArrayOutputStream pageBytes = new ByteArrayOutputStream();
+      ObjectOutputStream pageStream = new ObjectOutputStream(pageBytes);
+      pageStream.writeObject(writePage);
+      pageStream.close();
+
+      ByteBuffer pageBuffer = ByteBuffer.wrap(pageBytes.toByteArray());
+      long pageOffset = spillFileLength;
+
+      while (pageBuffer.hasRemaining())
+        {
+        spillFileLength += spillChannel.write(pageBuffer, spillFileLength);
+        }
+
+      fullPages.add(new long[] {pageOffset, spillFileLength - pageOffset});
+      }
+    catch (NotSerializableException e)
+      {
+      // One of the values can't be written. Keep this page on the heap.
+      fullPages.add(writePage);
+      }
+    catch (IOException e)
+      {
+      // Keep the page so our rows stay where we expect them, but don't hide the problem.
+      fullPages.add(writePage);
+      spillError = new CSIOException("Unable to write page to " + spillFile.getAbsolutePath() + ":" + e.getMessage());
+      }
+
+    writePage = new Object[pageRows];
+    writePageRows = 0;
+
+    if (spillError != null)
+      {
+      throw spillError;
+      }
+    }
+
+  /**
+  * Return a row as an array of Object, reading its page back from the spill file if need be.
+  * RowViews on different threads may share this store, so the lock is held while we look
+  * for the page but not while it is read back.
+  * @param int rowNumber The row we want. Row numbers start at 0.
+  * @return Object[] The row. If its page can't be read every value is the Exception that was thrown.
+  */
+  public Object[] getRow(int rowNumber)
+    {
+    int pageNumber = rowNumber / pageRows;
+    int rowInPage = rowNumber % pageRows;
+    Integer pageKey = Integer.valueOf(pageNumber);
+    long[] pageLocation = null;
+    FileChannel readChannel = null;
+
+    synchronized(this)
+      {
+      if (pageNumber == fullPages.size())
+        {
+        return((Object[])writePage[rowInPage]);
+        }
+
+      Object fullPage = fullPages.get(pageNumber);
+
+      if (fullPage instanceof Object[])
+        {
+        return((Object[])((Object[])fullPage)[rowInPage]);
+        }
+
+      Object[] residentPage = (Object[])residentPages.get(pageKey);
+
+      if (residentPage != null)
+        {
+        return((Object[])residentPage[rowInPage]);
+        }
+
+      pageLocation = (long[])fullPage;
+      readChannel = spillChannel;
+      }
+
+    Object[] thePage = null;
+
+    try
+      {
+      thePage = readPage(readChannel, pageLocation);
+      }
+    catch (Exception e)
+      {
+      // Don't keep this, so that the page is read again next time.
+      Object[] errorRow = new Object[colCount];
+      Arrays.fill(errorRow, e);
+      return(errorRow);
+      }
+
+    synchronized(this)
+      {
+      // Another thread may have read it too, in which case it doesn't matter whose we keep.
+      if (spillChannel != null)
+        {
+        residentPages.put(pageKey, thePage);
+        }
+      }
+
+    return((Object[])thePage[rowInPage]);
+    }
+
+  /**
+  * Read a page in the spill file back and deserialize it.
+  * @param FileChannel readChannel The spill file's channel, or null if it has been closed.
+  * @param long[] pageLocation The offset and length of the page.
+  * @return Object[] The page.
+  * @throws Exception if it can't be read.
+  */
+  private Object[] readPage(FileChannel readChannel, long[] pageLocation) throws Exception
+    {
+    if (readChannel == null)
+      {
+      throw new IOException("Page file " + spillFile.getAbsolutePath() + " has been closed");
+      }
+
+    int pageLength = (int)pageLocation[1];
+    byte[] pageBytes = new byte[pageLength];
+    ByteBuffer pageBuffer = ByteBuffer.wrap(pageBytes);
+
+    // Positional reads, so threads reading different pages don't disturb each other.
+    while (pageBuffer.hasRemaining())
+      {
+      if (readChannel.read(pageBuffer, pageLocation[0] + pageBuffer.position()) < 0)
+        {
+        throw new EOFException("Page file " + spillFile.getAbsolutePath() + " is shorter than expected");
+        }
+      }
+
+    ObjectInputStream pageStream = new ObjectInputStream(new ByteArrayInputStream(pageBytes));
+    Object[] thePage = (Object[])pageStream.readObject();
+    pageStream.close();
+
+    return(thePage);
+    }
+
+  /**
+  * Set how many spilled pages are kept on the heap after being read back. Any over the new limit are dropped.
+  * @param int newMaxResidentPages At least 1.
+  * @since 6.0
+  */
+  public synchronized void setMaxResidentPages(int newMaxResidentPages)
+    {
+    if (newMaxResidentPages > 0)
+      {
+      maxResidentPages = newMaxResidentPages;
+
+      Iterator it = residentPages.values().iterator();
+
+      while (residentPages.size() > maxResidentPages && it.hasNext())
+        {
+        it.next();
+        it.remove();
+        }
+      }
+    }
+
+  /**
+  * Return how many spilled pages are kept on the heap after being read back.
+  * @return int maxResidentPages
+  * @since 6.0
+  */
+  public synchronized int getMaxResidentPages()
+    {
+    return(maxResidentPages);
+    }
+
+  /**
+  * Return a single value.
+  * @param int rowNumber The row we want. Row numbers start at 0.
+  * @param int columnId The column we want. Column numbers start at 0.
+  * @return Object The value, or <tt>null</tt>.
+  */
+  public Object getValue(int rowNumber, int columnId)
+    {
+    Object[] theRow = getRow(rowNumber);
+
+    if (columnId >= theRow.length)
+      {
+      return(null);
+      }
+
+    return(theRow[columnId]);
+    }
+
+  /**
+  * Return the number of rows in the store.
+  * @return int the number of rows
+  */
+  public int size()
+    {
+    return(rowCount);
+    }
+
+  /**
+  * Release spare capacity once all rows have been added. Rows on the page
+  * currently being filled stay on the heap.
+  */
+  public void trimToSize()
+    {
+    fullPages.trimToSize();
+    }
+
+  /**
+  * Estimate how many bytes of heap the store is using. Only the page being filled,
+  * the pages read back and pages that could not be written out count.
+  * @return long the estimated size in bytes.
+  */
+  public synchronized long getEstimatedBytes()
+    {
+    long estimatedBytes = SizeEstimator.estimateArrayBytes(fullPages.size(), SizeEstimator.REFERENCE_BYTES)
+                        + estimatePageBytes(writePage);
+
+    Iterator it = residentPages.values().iterator();
+
+    while (it.hasNext())
+      {
+      estimatedBytes += estimatePageBytes((Object[])it.next());
+      }
+
+    for (int i=0; i < fullPages.size(); i++)
+      {
+      if (fullPages.get(i) instanceof long[])
+        {
+        estimatedBytes += SizeEstimator.estimateArrayBytes(2, 8);
+        }
+      else
+        {
+        estimatedBytes += estimatePageBytes((Object[])fullPages.get(i));
+        }
+      }
+
+    return(estimatedBytes);
+    }
+
+  /**
+  * Estimate how many bytes a page of rows uses.
+  */
+  private long estimatePageBytes(Object[] thePage)
+    {
+    if (thePage == null)
+      {
+      return(0);
+      }
+
+    long pageBytes = SizeEstimator.estimateArrayBytes(thePage.length, SizeEstimator.REFERENCE_BYTES);
+
+    for (int i=0; i < thePage.length; i++)
+      {
+      pageBytes += SizeEstimator.estimateRowBytes((Object[])thePage[i]);
+      }
+
+    return(pageBytes);
+    }
+
+  /**
+  * Return every row as an array of Object arrays. This brings every page back onto the heap.
+  * @return Object[] An array containing one Object[] per row.
+  */
+  public Object[] toArray()
+    {
+    Object[] allRows = new Object[rowCount];
+
+    for (int i=0; i < rowCount; i++)
+      {
+      allRows[i] = getRow(i);
+      }
+
+    return(allRows);
+    }
+
+  /**
+  * Return how many pages have been written to the spill file.
+  * @return int the number of spilled pages.
+  */
+  public int getSpilledPageCount()
+    {
+    int spilledPageCount = 0;
+
+    for (int i=0; i < fullPages.size(); i++)
+      {
+      if (fullPages.get(i) instanceof long[])
+        {
+        spilledPageCount++;
+        }
+      }
+
+    return(spilledPageCount);
+    }
+
+  /**
+  * Return the spill file.
+  * @return File the temporary file pages are written to.
+  */
+  public File getSpillFile()
+    {
+    return(spillFile);
+    }
+
+  /**
+  * Close and delete the spill file. Rows on spilled pages are no longer available after this.
+  * @return boolean <tt>true</tt> if the file was open.
+  */
+  public synchronized boolean close()
+    {
+    if (spillChannel == null)
+      {
+      return(false);
+      }
+
+    spillChannel = null;
+    spillRandomAccessFile = null;
+    residentPages.clear();
+
+    // Closes and deletes the file. It won't be run again when we are garbage collected.
+    spillFileCleanable.clean();
+
+    return(true);
+    }
+
+  /**
+  * Closes and deletes a spill file. It must not refer to the PagedRowStore, or the
+  * store would never become unreachable.
+  */
+  private static class SpillFileRemover implements Runnable
+  {
+    /**
+    * The file to delete.
+    */
+    File spillFile = null;
+
+    /**
+    * The file's RandomAccessFile. Closing it closes its channel too.
+    */
+    RandomAccessFile spillRandomAccessFile = null;
+
+    /**
+    * Create a SpillFileRemover.
+    * @param File spillFile
+    * @param RandomAccessFile spillRandomAccessFile
+    */
+    SpillFileRemover(File spillFile, RandomAccessFile spillRandomAccessFile)
+      {
+      this.spillFile = spillFile;
+      this.spillRandomAccessFile = spillRandomAccessFile;
+      }
+
+    /**
+    * Close and delete the file.
+    */
+    public void run()
+      {
+      try
+        {
+        spillRandomAccessFile.close();
+        }
+      catch (IOException e)
+        {
+        // Nothing useful we can do about this.
+        }
+
+      spillFile.delete();
+      }
+  }
+}
+
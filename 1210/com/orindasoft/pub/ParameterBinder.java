@@ -0,0 +1,500 @@
+package com.orindasoft.pub;
+
+// We bind to JDBC statements
+import java.sql.*;
+
+// We use oracle Extensions
+import oracle.jdbc.OraclePreparedStatement;
+import oracle.jdbc.OracleTypes;
+import oracle.sql.ArrayDescriptor;
+import oracle.sql.ARRAY;
+
+// We use BigDecimal because Oracle does.
+import java.math.BigDecimal;
+
+/**
+* Binds one kind of parameter to a PreparedStatement.
+* <p>
+* Working out how to bind a parameter means checking its class against every type
+* StatementParameters2 supports. Rather than do this for every parameter every time a
+* statement is executed StatementParameters2 asks <tt>getBinder()</tt> once for each
+* parameter and keeps the ParameterBinder it is given. It only asks again if the class
+* of the value or the parameter type changes, so binding a statement whose parameters
+* keep the same types is a single call per parameter.
+* <p>
+* Each kind of parameter has one ParameterBinder, which is shared by every statement.
+* <p>
+* Under normal circumstances <a href="http://www.orindasoft.com/?adsrc=api" target="_blank class="manual">OrindaBuild</a> users
+* will have no reason to use this class directly - StatementParameters2 will use it.
+* <p>
+* <br>(c) Copyright 2003 - 2015 Orinda Software Ltd<p>
+*
+* @see StatementParameters2#bindParameters(PreparedStatement)
+* @version 6.0
+* @author  <a href="http://www.orindasoft.com/?pdsrc=api" target="_blank" class=news>Orinda Software</a>
+*/
+public abstract class ParameterBinder
+{
+  /**
+  * Binds a null whose type we don't know as a VARCHAR.
+  */
+  public static final ParameterBinder NULL_VARCHAR_BINDER = new ParameterBinder()
+    {
+    public void bind(PreparedStatement thePreparedStatement, StatementParameters2 theParameters, int i) throws Exception
+      {
+      thePreparedStatement.setNull(i+1, Types.VARCHAR);
+      }
+    };
+
+  /**
+  * Binds a null OPAQUE or STRUCT, which need a type name.
+  */
+  public static final ParameterBinder NULL_NAMED_TYPE_BINDER = new ParameterBinder()
+    {
+    public void bind(PreparedStatement thePreparedStatement, StatementParameters2 theParameters, int i) throws Exception
+      {
+      ((OraclePreparedStatement)thePreparedStatement).setNull(i+1
+                                                             ,theParameters.parameterTypeArray[i]
+                                                             ,theParameters.parameterOpaqueTypeNameArray[i]);
+      }
+    };
+
+  /**
+  * Binds a null of a known type.
+  */
+  public static final ParameterBinder NULL_TYPED_BINDER = new ParameterBinder()
+    {
+    public void bind(PreparedStatement thePreparedStatement, StatementParameters2 theParameters, int i) throws Exception
+      {
+      thePreparedStatement.setNull(i+1, theParameters.parameterTypeArray[i]);
+      }
+    };
+
+  /**
+  * Binds a String.
+  */
+  public static final ParameterBinder STRING_BINDER = new ParameterBinder()
+    {
+    public void bind(PreparedStatement thePreparedStatement, StatementParameters2 theParameters, int i) throws Exception
+      {
+      thePreparedStatement.setString(i+1, (String)theParameters.parameterArray[i]);
+      }
+    };
+
+  /**
+  * Binds a java.sql.Timestamp.
+  */
+  public static final ParameterBinder TIMESTAMP_BINDER = new ParameterBinder()
+    {
+    public void bind(PreparedStatement thePreparedStatement, StatementParameters2 theParameters, int i) throws Exception
+      {
+      thePreparedStatement.setTimestamp(i+1, (java.sql.Timestamp)theParameters.parameterArray[i]);
+      }
+    };
+
+  /**
+  * Binds a java.sql.Date.
+  */
+  public static final ParameterBinder SQL_DATE_BINDER = new ParameterBinder()
+    {
+    public void bind(PreparedStatement thePreparedStatement, StatementParameters2 theParameters, int i) throws Exception
+      {
+      thePreparedStatement.setDate(i+1, (java.sql.Date)theParameters.parameterArray[i]);
+      }
+    };
+
+  /**
+  * Binds a java.util.Date as a Timestamp.
+  */
+  public static final ParameterBinder UTIL_DATE_BINDER = new ParameterBinder()
+    {
+    public void bind(PreparedStatement thePreparedStatement, StatementParameters2 theParameters, int i) throws Exception
+      {
+      thePreparedStatement.setTimestamp(i+1, new java.sql.Timestamp(((java.util.Date)theParameters.parameterArray[i]).getTime()));
+      }
+    };
+
+  /**
+  * Binds a BigDecimal.
+  */
+  public static final ParameterBinder BIGDECIMAL_BINDER = new ParameterBinder()
+    {
+    public void bind(PreparedStatement thePreparedStatement, StatementParameters2 theParameters, int i) throws Exception
+      {
+      thePreparedStatement.setBigDecimal(i+1, (BigDecimal)theParameters.parameterArray[i]);
+      }
+    };
+
+  /**
+  * Binds an oracle.sql.ROWID.
+  */
+  public static final ParameterBinder ROWID_BINDER = new ParameterBinder()
+    {
+    public void bind(PreparedStatement thePreparedStatement, StatementParameters2 theParameters, int i) throws Exception
+      {
+      ((OraclePreparedStatement)thePreparedStatement).setROWID(i+1, (oracle.sql.ROWID)theParameters.parameterArray[i]);
+      }
+    };
+
+  /**
+  * Binds an oracle.sql.TIMESTAMP.
+  */
+  public static final ParameterBinder ORACLE_TIMESTAMP_BINDER = new ParameterBinder()
+    {
+    public void bind(PreparedStatement thePreparedStatement, StatementParameters2 theParameters, int i) throws Exception
+      {
+      ((OraclePreparedStatement)thePreparedStatement).setTIMESTAMP(i+1, (oracle.sql.TIMESTAMP)theParameters.parameterArray[i]);
+      }
+    };
+
+  /**
+  * Binds an oracle.sql.TIMESTAMPTZ.
+  */
+  public static final ParameterBinder TIMESTAMPTZ_BINDER = new ParameterBinder()
+    {
+    public void bind(PreparedStatement thePreparedStatement, StatementParameters2 theParameters, int i) throws Exception
+      {
+      ((OraclePreparedStatement)thePreparedStatement).setTIMESTAMPTZ(i+1, (oracle.sql.TIMESTAMPTZ)theParameters.parameterArray[i]);
+      }
+    };
+
+  /**
+  * Binds an oracle.sql.TIMESTAMPLTZ.
+  */
+  public static final ParameterBinder TIMESTAMPLTZ_BINDER = new ParameterBinder()
+    {
+    public void bind(PreparedStatement thePreparedStatement, StatementParameters2 theParameters, int i) throws Exception
+      {
+      ((OraclePreparedStatement)thePreparedStatement).setTIMESTAMPLTZ(i+1, (oracle.sql.TIMESTAMPLTZ)theParameters.parameterArray[i]);
+      }
+    };
+
+  /**
+  * Binds an oracle.sql.INTERVALYM.
+  */
+  public static final ParameterBinder INTERVALYM_BINDER = new ParameterBinder()
+    {
+    public void bind(PreparedStatement thePreparedStatement, StatementParameters2 theParameters, int i) throws Exception
+      {
+      ((OraclePreparedStatement)thePreparedStatement).setINTERVALYM(i+1, (oracle.sql.INTERVALYM)theParameters.parameterArray[i]);
+      }
+    };
+
+  /**
+  * Binds an oracle.sql.INTERVALDS.
+  */
+  public static final ParameterBinder INTERVALDS_BINDER = new ParameterBinder()
+    {
+    public void bind(PreparedStatement thePreparedStatement, StatementParameters2 theParameters, int i) throws Exception
+      {
+      ((OraclePreparedStatement)thePreparedStatement).setINTERVALDS(i+1, (oracle.sql.INTERVALDS)theParameters.parameterArray[i]);
+      }
+    };
+
+  /**
+  * Binds a PL/SQL INDEX BY table.
+  */
+  public static final ParameterBinder PLSQL_INDEX_TABLE_BINDER = new ParameterBinder()
+    {
+    public void bind(PreparedStatement thePreparedStatement, StatementParameters2 theParameters, int i) throws Exception
+      {
+      PlsqlIndexByTable2 theTable = (PlsqlIndexByTable2)theParameters.parameterArray[i];
+
+      ((OraclePreparedStatement)thePreparedStatement).setPlsqlIndexTable(i+1
+         ,theTable.getArray()  // Array Elements
+         ,theTable.getElementMaxCount()  // Max number of elements (for updates)
+         ,theTable.getArrayLength()  // Current number of elements
+         ,theTable.getRealDataTypeCode()   // Oracle Data type code
+         ,theTable.getElementMaxLength()); // max length of an element
+      }
+    };
+
+  /**
+  * Binds a PL/SQL VARRAY or nested table.
+  */
+  public static final ParameterBinder PLSQL_ARRAY_BINDER = new ParameterBinder()
+    {
+    public void bind(PreparedStatement thePreparedStatement, StatementParameters2 theParameters, int i) throws Exception
+      {
+      Connection theConnection = thePreparedStatement.getConnection();
+
+      PlsqlArray theTable = (PlsqlArray)theParameters.parameterArray[i];
+
+      ArrayDescriptor aDesc =
+          ArrayDescriptor.createDescriptor(theTable.getArrayName(), theConnection);
+      ARRAY theArray = new ARRAY(aDesc, theConnection, theTable.getCurrentValuesAsObject(theConnection));
+
+      ((OraclePreparedStatement)thePreparedStatement).setObject(i+1, theArray);
+      }
+    };
+
+  /**
+  * Binds an oracle.sql.OPAQUE.
+  */
+  public static final ParameterBinder OPAQUE_BINDER = new ParameterBinder()
+    {
+    public void bind(PreparedStatement thePreparedStatement, StatementParameters2 theParameters, int i) throws Exception
+      {
+      ((OraclePreparedStatement)thePreparedStatement).setOPAQUE(i+1, (oracle.sql.OPAQUE)theParameters.parameterArray[i]);
+      }
+    };
+
+  /**
+  * Binds an oracle.sql.STRUCT.
+  */
+  public static final ParameterBinder STRUCT_BINDER = new ParameterBinder()
+    {
+    public void bind(PreparedStatement thePreparedStatement, StatementParameters2 theParameters, int i) throws Exception
+      {
+      ((OraclePreparedStatement)thePreparedStatement).setSTRUCT(i+1, (oracle.sql.STRUCT)theParameters.parameterArray[i]);
+      }
+    };
+
+  /**
+  * Binds a ReadOnlyRowSet, which we can't send to the database, as a null.
+  */
+  public static final ParameterBinder READONLYROWSET_BINDER = NULL_VARCHAR_BINDER;
+
+  /**
+  * Binds an InputStream of LONG data.
+  */
+  public static final ParameterBinder ASCII_STREAM_BINDER = new ParameterBinder()
+    {
+    public void bind(PreparedStatement thePreparedStatement, StatementParameters2 theParameters, int i) throws Exception
+      {
+      thePreparedStatement.setAsciiStream(i+1, (java.io.InputStream)theParameters.parameterArray[i]
+                                         ,theParameters.inputParameterFilesizeArray[i]);
+      }
+    };
+
+  /**
+  * Binds an InputStream of LONG RAW data.
+  */
+  public static final ParameterBinder BINARY_STREAM_BINDER = new ParameterBinder()
+    {
+    public void bind(PreparedStatement thePreparedStatement, StatementParameters2 theParameters, int i) throws Exception
+      {
+      thePreparedStatement.setBinaryStream(i+1, (java.io.InputStream)theParameters.parameterArray[i]
+                                          ,theParameters.inputParameterFilesizeArray[i]);
+      }
+    };
+
+  /**
+  * Binds a byte[].
+  */
+  public static final ParameterBinder BYTES_BINDER = new ParameterBinder()
+    {
+    public void bind(PreparedStatement thePreparedStatement, StatementParameters2 theParameters, int i) throws Exception
+      {
+      thePreparedStatement.setBytes(i+1, (byte[])theParameters.parameterArray[i]);
+      }
+    };
+
+  /**
+  * Binds an oracle.sql.CLOB.
+  */
+  public static final ParameterBinder CLOB_BINDER = new ParameterBinder()
+    {
+    public void bind(PreparedStatement thePreparedStatement, StatementParameters2 theParameters, int i) throws Exception
+      {
+      ((OraclePreparedStatement)thePreparedStatement).setCLOB(i+1, (oracle.sql.CLOB)theParameters.parameterArray[i]);
+      }
+    };
+
+  /**
+  * Binds an oracle.sql.BLOB.
+  */
+  public static final ParameterBinder BLOB_BINDER = new ParameterBinder()
+    {
+    public void bind(PreparedStatement thePreparedStatement, StatementParameters2 theParameters, int i) throws Exception
+      {
+      ((OraclePreparedStatement)thePreparedStatement).setBLOB(i+1, (oracle.sql.BLOB)theParameters.parameterArray[i]);
+      }
+    };
+
+  /**
+  * Binds an oracle.sql.BFILE.
+  */
+  public static final ParameterBinder BFILE_BINDER = new ParameterBinder()
+    {
+    public void bind(PreparedStatement thePreparedStatement, StatementParameters2 theParameters, int i) throws Exception
+      {
+      ((OraclePreparedStatement)thePreparedStatement).setBFILE(i+1, (oracle.sql.BFILE)theParameters.parameterArray[i]);
+      }
+    };
+
+  /**
+  * Binds a Boolean as 1 for true and -1 for false.
+  */
+  public static final ParameterBinder BOOLEAN_BINDER = new ParameterBinder()
+    {
+    public void bind(PreparedStatement thePreparedStatement, StatementParameters2 theParameters, int i) throws Exception
+      {
+      if (((Boolean)theParameters.parameterArray[i]).booleanValue())
+        {
+        thePreparedStatement.setInt(i+1, 1);
+        }
+      else
+        {
+        thePreparedStatement.setInt(i+1, -1);
+        }
+      }
+    };
+
+  /**
+  * Binds an integer or boolean held in StatementParameters2.parameterLongArray.
+  */
+  public static final ParameterBinder LONG_BINDER = new ParameterBinder()
+    {
+    public void bind(PreparedStatement thePreparedStatement, StatementParameters2 theParameters, int i) throws Exception
+      {
+      thePreparedStatement.setLong(i+1, theParameters.parameterLongArray[i]);
+      }
+    };
+
+  /**
+  * Binds a floating point number held in StatementParameters2.parameterDoubleArray.
+  * It is bound as a NUMBER. <tt>setDouble()</tt> would bind a BINARY_DOUBLE, which makes
+  * Oracle convert NUMBER columns it is compared with and stops their indexes being used.
+  */
+  public static final ParameterBinder DOUBLE_BINDER = new ParameterBinder()
+    {
+    public void bind(PreparedStatement thePreparedStatement, StatementParameters2 theParameters, int i) throws Exception
+      {
+      thePreparedStatement.setBigDecimal(i+1, new BigDecimal(theParameters.parameterDoubleArray[i]));
+      }
+    };
+
+  /**
+  * Bind parameter <tt>i</tt> of <tt>theParameters</tt>.
+  * @param PreparedStatement thePreparedStatement The statement to bind to.
+  * @param StatementParameters2 theParameters The parameters.
+  * @param int i Which parameter to bind. Unlike JDBC this starts at 0.
+  * @throws Exception if the parameter can't be bound.
+  */
+  public abstract void bind(PreparedStatement thePreparedStatement, StatementParameters2 theParameters, int i) throws Exception;
+
+  /**
+  * Work out which ParameterBinder binds a value.
+  * @param Object parameterValue The value, which may be null.
+  * @param int parameterType The parameter type, or Integer.MIN_VALUE if it isn't known.
+  * @return ParameterBinder A ParameterBinder for values of this class and type.
+  * @throws Exception if we don't know how to bind the value.
+  */
+  public static ParameterBinder getBinder(Object parameterValue, int parameterType) throws Exception
+    {
+    if (parameterValue == null)
+      {
+      if (parameterType == Integer.MIN_VALUE)
+        {
+        return(NULL_VARCHAR_BINDER);
+        }
+      else if (parameterType == OracleTypes.OPAQUE || parameterType == OracleTypes.STRUCT)
+        {
+        return(NULL_NAMED_TYPE_BINDER);
+        }
+
+      return(NULL_TYPED_BINDER);
+      }
+    else if (parameterValue instanceof String)
+      {
+      return(STRING_BINDER);
+      }
+    else if (parameterValue instanceof java.sql.Timestamp)
+      {
+      return(TIMESTAMP_BINDER);
+      }
+    else if (parameterValue instanceof java.sql.Date)
+      {
+      return(SQL_DATE_BINDER);
+      }
+    else if (parameterValue instanceof java.util.Date)
+      {
+      return(UTIL_DATE_BINDER);
+      }
+    else if (parameterValue instanceof BigDecimal)
+      {
+      return(BIGDECIMAL_BINDER);
+      }
+    else if (parameterValue instanceof oracle.sql.ROWID)
+      {
+      return(ROWID_BINDER);
+      }
+    else if (parameterValue instanceof oracle.sql.TIMESTAMP)
+      {
+      return(ORACLE_TIMESTAMP_BINDER);
+      }
+    else if (parameterValue instanceof oracle.sql.TIMESTAMPTZ)
+      {
+      return(TIMESTAMPTZ_BINDER);
+      }
+    else if (parameterValue instanceof oracle.sql.TIMESTAMPLTZ)
+      {
+      return(TIMESTAMPLTZ_BINDER);
+      }
+    else if (parameterValue instanceof oracle.sql.INTERVALYM)
+      {
+      return(INTERVALYM_BINDER);
+      }
+    else if (parameterValue instanceof PlsqlIndexByTable2)
+      {
+      return(PLSQL_INDEX_TABLE_BINDER);
+      }
+    else if (parameterValue instanceof PlsqlArray)
+      {
+      return(PLSQL_ARRAY_BINDER);
+      }
+    else if (parameterValue instanceof oracle.sql.INTERVALDS)
+      {
+      return(INTERVALDS_BINDER);
+      }
+    else if (parameterValue instanceof oracle.sql.OPAQUE)
+      {
+      return(OPAQUE_BINDER);
+      }
+    else if (parameterValue instanceof oracle.sql.STRUCT)
+      {
+      return(STRUCT_BINDER);
+      }
+    else if (parameterValue instanceof ReadOnlyRowSet)
+      {
+      // Added Build 2701: Do nothing if asked to bind a R.O.R.S
+      return(READONLYROWSET_BINDER);
+      }
+    else if (parameterValue instanceof java.io.InputStream)
+      {
+      if (parameterType == OracleTypes.LONGVARCHAR)
+        {
+        return(ASCII_STREAM_BINDER);
+        }
+      else if (parameterType == OracleTypes.LONGVARBINARY)
+        {
+        return(BINARY_STREAM_BINDER);
+        }
+
+      throw (new Exception("Don't know how to bind parameters of type " + parameterValue.getClass().getName()));
+      }
+    else if (parameterValue instanceof byte[])
+      {
+      return(BYTES_BINDER);
+      }
+    else if (parameterValue instanceof oracle.sql.CLOB)
+      {
+      return(CLOB_BINDER);
+      }
+    else if (parameterValue instanceof oracle.sql.BLOB)
+      {
+      return(BLOB_BINDER);
+      }
+    else if (parameterValue instanceof oracle.sql.BFILE)
+      {
+      return(BFILE_BINDER);
+      }
+    else if (parameterValue instanceof Boolean)
+      {
+      return(BOOLEAN_BINDER);
+      }
+
+    throw (new Exception("StatementParameters2: Don't know how to bind parameters of type " + parameterValue.getClass().getName()));
+    }
+}
@@ -1,1207 +1,1207 @@
-package com.orindasoft.pub;
-
-/* import changed for Oracle 11g */
-//import oracle.jdbc.driver.OracleTypes;
-
-import oracle.jdbc.OracleTypes;
-
-import java.math.BigDecimal;
-import java.text.SimpleDateFormat;
-import java.text.DecimalFormat;
-import java.text.NumberFormat;
-
-/**
-* Holds state variables for PL/SQL Index By Table parameters
-* <p>
-* This class represents an Oracle PL/SQL Index By Table. In addition to the
-* table data it also holds information about the data type of the elements
-* in the table, their maximum length and the maximum number of elements this
-* table can have after an update or retrieval. For this reason this class
-* is always instantiated even for OUT parameters. As of Oracle 10g INDEX BY
-* tables can have two types of parameters - Numbers or Strings. Parameter types
-* can not be mixed within the same table.  JDBCWizard converts other data
-* types to numbers or strings.
-* <p>
-* Under normal circumstances <a href="http://www.orindasoft.com/?adsrc=api" target="_blank class="manual">JDBCWizard</a> users
-* will have no reason to use this class directly - the generated code will use it.
-* <p>
-* <br>(c) Copyright 2003 - 2015 Orinda Software Ltd<p>
-*
-* @version 6.0
-* @author  <a href="http://www.orindasoft.com/?pdsrc=api" target="_blank" class=news>Orinda Software</a>
-* @since Oracle 10g/5.0.2556
-*/
-public class PlsqlIndexByTable2
-{
-
-  /**
-  * Date format mask used by Oracle for converting timestamp to String
-  */
-  public static final String ORACLE_TIMESTAMP_TO_CHAR_MASK = "yyyy-mm-dd hh24:mi:ss.ff8";
-
-  /**
-  * Date format mask used by Oracle for converting date to String
-  */
-  public static final String ORACLE_DATE_TO_CHAR_MASK = "yyyy-mm-dd hh24:mi:ss";
-
-  /**
-  * Date format mask used by Java for converting Timestamp to String
-  */
-  public static final String JAVA_DATE_TO_CHAR_MASK = "yyyy-MM-dd HH:mm:ss";
-
-  /**
-  * String containing zeros used by number formatter.
-  * Oracle has a precision of 38 decimal places.
-  */
-  private final String ZERO_STRING = ".########################################";
-
-  /**
-  * Array containing numbers or strings
-  **/
-  private Object[] dataArray = null;
-
-  /**
-  * The maximum length of any element
-  **/
-  private int elementMaxLength = 1024;
-
-  /**
-  * The maximum number of elements.
-  * This is used to determine the size of the array. If you try to
-  * set this to Integer.MAX_VALUE you will almost certainly kill
-  * your JVM with a java.lang.OutOfMemoryError.
-  **/
-  private int elementMaxCount = 4096;
-
-  /**
-  * The  OracleTypes code for the data stored in dataArray
-  * Legal values are OracleTypes.VARCHAR and OracleTypes.NUMBER
-  */
-  private int dataTypeCode = OracleTypes.VARCHAR;
-
-  /**
-  * Whether this array is BigDecimal or String
-  */
-  private int realDataTypeCode = oracle.jdbc.OracleTypes.VARCHAR;
-
-  /**
-  * Either length of string, decimal places of number, or precision of
-  * timestamp in ms
-  */
-  private int realDataTypePrecision = 0;
-
-  /**
-  * Formatter for DATE and TIMESTAMP fields.
-  */
-  private SimpleDateFormat theDateFormat;
-
-  /**
-  * Number formatter
-  */
-  NumberFormat formatter = null;
-
-  /**
-  * Contruct an empty INDEX BY table
-  *
-  * @param int realDataTypeCode One of oracle.jdbc.OracleTypes.NUMBER or oracle.jdbc.OracleTypes.VARCHAR
-  * @param int realDataTypePrecision How many decimal places of precision.
-  */
-  public PlsqlIndexByTable2(int realDataTypeCode
-                           ,int realDataTypePrecision)
-  {
-  this.realDataTypeCode = realDataTypeCode;
-  this.realDataTypePrecision = realDataTypePrecision;
-
-  if (realDataTypePrecision != 0)
-    {
-    formatter = new DecimalFormat("#0" + ZERO_STRING.substring(0,realDataTypePrecision));
-    }
-  else
-    {
-    formatter = new DecimalFormat("#0");
-    theDateFormat = new SimpleDateFormat (JAVA_DATE_TO_CHAR_MASK);
-    }
-
-  dataArray = new Object[0];
-  }
-  
-  /**
-  * Get the official OracleType code for the array.
-  */
-  public int getDataTypeCode()
-  {
-  return(dataTypeCode);
-  }
-
-  /**
-  * Get the actual OracleType code for the array.
-  */
-  public int getRealDataTypeCode()
-  {
-  return(realDataTypeCode);
-  }
-
-  /**
-  * Set the official Oracle data type
-  */
-  public void setDataType(int dataTypeCode)
-  {
-  this.dataTypeCode = dataTypeCode;
-  }
-
-  /**
-  * Set the actual Oracle data type
-  */
-  public void setRealDataType(int realDataTypeCode)
-  {
-  this.realDataTypeCode = realDataTypeCode;
-  
-  if (realDataTypePrecision == 0 && theDateFormat == null)
-	{
-	theDateFormat = new SimpleDateFormat (JAVA_DATE_TO_CHAR_MASK);
-	}
- 
-  }
-
-
-  /**
-  * Set the maximum length of an element in the table
-  */
-  public void setElementMaxLength(int elementMaxLength)
-  {
-  this.elementMaxLength = elementMaxLength;
-  }
-
-  /**
-  * Get the maximum length of an element in the table
-  */
-  public int getElementMaxLength()
-  {
-  return(elementMaxLength);
-  }
-
-  /**
-  * Set the maximum size this table can be after an update or retrieval.
-  * This is used to decide how big the output array should be.
-  */
-  public void setElementMaxCount(int elementMaxCount)
-  {
-  // Update element count 
-  if (this.dataArray.length < elementMaxCount)
-	 {
-	  this.elementMaxCount = elementMaxCount;
-	 }
- 
-  }
-
-  /**
-  * Get the maximum size this table can be after an update or retrieval.
-  */
-  public int getElementMaxCount()
-  {
-  return(elementMaxCount);
-  }
-
-
-  /**
-  * Set the contents of the Array.
-  * This method assumes that the user is providing a 1 dimensional array of
-  * numbers or strings. The values of elementMaxCount and elementMaxLength are
-  * updated by this method. If you are passing in an array that will be
-  * appended and returned to you you should call setElementMaxCount and
-  * setElementMaxLength after calling setArray. 'null' is not an acceptable
-  * value for dataArray and will be turned into Object[0]. This is so that
-  * getArrayLength works reliably.
-  * @see com.orindasoft.pub.PlsqlIndexByTable#setElementMaxCount
-  * @see com.orindasoft.pub.PlsqlIndexByTable#setElementMaxLength
-  * @param Object[] dataArray
-  */
-  public void setArray(Object[] newDataArray)
-  {
- 
-  if (newDataArray == null)
-    {
-    if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
-      {
-      this.dataArray = new String[0];
-      }
-    else
-      {
-      this.dataArray = new BigDecimal[0];
-      }
-    }
-  else
-    {
-    if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
-      {
-      this.dataArray = new String[newDataArray.length];
-      }
-    else
-      {
-      this.dataArray = new BigDecimal[newDataArray.length];
-      }
-
-    for (int i=0 ; i < newDataArray.length; i++)
-      {
-      if (newDataArray[i] == null)
-        {
-        this.dataArray[i] = null;
-        }
-      else
-        {
-        if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
-          {
-          if (newDataArray[i] instanceof String)
-            {
-            this.dataArray[i] = (String)newDataArray[i];
-            }
-          else
-            {
-            this.dataArray[i] = new String(formatter.format(newDataArray[i]));
-            }
-          }
-        else
-          {
-          // Store as BigDecimal - will get converted to this anyway
-          if (newDataArray[i] instanceof String)
-            {
-            this.dataArray[i] = new BigDecimal((String)newDataArray[i]);
-            }
-          else
-            {
-            this.dataArray[i] = (BigDecimal)newDataArray[i];
-            }
-          }
-        }
-      }
-    }
-
-    // Update element count
-    if (this.dataArray.length > elementMaxCount)
-      {
-      elementMaxCount = this.dataArray.length;
-      }
-
-  }
-
-
-  /**
-  * Get the array data
-  */
-  public Object[] getArray()
-  {
-  return(dataArray);
-  }
-
-  /**
-  * Get the array data as int[]
-  * This convenience method returns the contents of the array as an array of int.
-  * Because the array can have null elements and an 'int' can never be null you
-  * need to say how nulls should be treated.
-  * @param int nullToken The int you will use to represent null. e.g. Integer.MIN_VALUE
-  * @return int[] An array of numbers. If the array is empty you will get int[0] back.
-  * @throws ClassCastException if the array isn't of numbers.
-  * @throws CSNumberFormatException if the array cant be turned into int.
-  */
-  public int[] getArrayAsInt(int nullToken)  throws CSNumberFormatException
-  {
-  int[] newArray = new int[0];
-
-  if (dataArray.length > 0)
-    {
-    newArray = new int[dataArray.length];
-
-    for (int i=0; i < dataArray.length; i++)
-      {
-      if (dataArray[i] == null)
-        {
-        newArray[i] = nullToken;
-        }
-      else
-        {
-        try
-          {
-          if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
-            {
-            newArray[i] = Integer.parseInt((String)dataArray[i]);
-            }
-          else
-            {
-            newArray[i] = ((BigDecimal)dataArray[i]).intValue();
-            }
-          }
-        catch (NumberFormatException e)
-          {
-          throw new CSNumberFormatException("PlsqlIndexByTable2.getArrayAsInt",(String)dataArray[i]);
-          }
-        }
-      }
-    }
-
-  return(newArray);
-  }
-
-  /**
-  * Set the array data using int[]
-  * This convenience method sets the array using an array of int[]
-  * @param int[] newArray
-  */
-  public void setArray(int[] newArray)
-  {
-  if (newArray == null)
-    {
-    setArray(new Object[0]);
-    }
-  else
-    {
-    Object[] tempArray = new Object[newArray.length];
-
-    for (int i=0; i < tempArray.length; i++)
-      {
-      if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
-        {
-        tempArray[i] = new String(formatter.format(newArray[i]));
-        }
-      else
-        {
-        // Store as BigDecimal - will get converted to this anyway
-        tempArray[i] = new BigDecimal(newArray[i]);
-        }
-      }
-
-    setArray(tempArray);
-    }
-
-  }
-
-  /**
-  * Set the array data using Integer[]
-  * This convenience method returns sets the array using an array of Integer[]
-  * WARNING: The precision of the value actually stored is limited to what the
-  * underlying Oracle object expects, so if you pass 1.00003f into a NUMBER(4,2)
-  * the '3' will be lost
-  * @param Integer[] newArray
-  */
-  public void setArray(Integer[] newArray)
-  {
-  if (newArray == null)
-    {
-    setArray(new Object[0]);
-    }
-  else
-    {
-    Object[] tempArray = new Object[newArray.length];
-
-    for (int i=0; i < tempArray.length; i++)
-      {
-      if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
-        {
-        tempArray[i] = new String(formatter.format(newArray[i]));
-        }
-      else
-        {
-        // Store as BigDecimal - will get converted to this anyway
-        tempArray[i] = new BigDecimal(newArray[i].intValue());
-        }
-      }
-
-    setArray(tempArray);
-    }
-
-  }
-
-  /**
-  * Get the array data as long[]
-  * This convenience method returns the contents of the array as an array of long.
-  * Because the array can have null elements and a 'long' can never be null you
-  * need to say how nulls should be treated.
-  * @param long nullToken The long you will use to represent null. e.g. Long.MIN_VALUE
-  * @return long[] An array of numbers. If the array is empty you will get long[0] back.
-  * @throws ClassCastException if the array isn't of numbers.
-  */
-  public long[] getArrayAsLong(long nullToken) throws CSNumberFormatException
-  {
-  long[] newArray = new long[0];
-
-  if (dataArray.length > 0)
-    {
-    newArray = new long[dataArray.length];
-
-    for (int i=0; i < dataArray.length; i++)
-      {
-      if (dataArray[i] == null)
-        {
-        newArray[i] = nullToken;
-        }
-      else
-        {
-        try
-          {
-          if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
-            {
-            newArray[i] = Long.parseLong((String)dataArray[i]);
-            }
-          else
-           {
-            newArray[i] = ((BigDecimal)dataArray[i]).longValue();
-           }
-          }
-        catch (NumberFormatException e)
-          {
-          throw new CSNumberFormatException("PlsqlIndexByTable2.getArrayAsDouble",(String)dataArray[i]);
-          }
-        }
-      }
-    }
-
-  return(newArray);
-  }
-
-  /**
-  * Set the array data using long[]
-  * This convenience method returns sets the array using an array of long[]
-  * @param long[] newArray
-  */
-  public void setArray(long[] newArray)
-  {
-  if (newArray == null)
-    {
-    setArray(new Object[0]);
-    //setDataTypeNumber();
-    }
-  else
-    {
-    Object[] tempArray = new Object[newArray.length];
-
-    for (int i=0; i < tempArray.length; i++)
-      {
-      if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
-        {
-        tempArray[i] = new String(formatter.format(newArray[i]));
-        }
-      else
-        {
-        // Store as BigDecimal - will get converted to this anyway
-        tempArray[i] = new BigDecimal(newArray[i]);
-        }
-      }
-
-    setArray(tempArray);
-    }
-
-  }
-
-  /**
-  * Set the array data using Long[]
-  * This convenience method returns sets the array using an array of Long[]
-  * WARNING: The precision of the value actually stored is limited to what the
-  * underlying Oracle object expects, so if you pass 1.00003f into a NUMBER(4,2)
-  * the '3' will be lost
-  * @param Long[] newArray
-  */
-  public void setArray(Long[] newArray)
-  {
-  if (newArray == null)
-    {
-    setArray(new Object[0]);
-    }
-  else
-    {
-    Object[] tempArray = new Object[newArray.length];
-
-    for (int i=0; i < tempArray.length; i++)
-      {
-      if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
-        {
-        tempArray[i] = new String(formatter.format(newArray[i]));
-        }
-      else
-        {
-        // Store as BigDecimal - will get converted to this anyway
-        tempArray[i] = new BigDecimal(newArray[i].longValue());
-        }
-      }
-
-    setArray(tempArray);
-    }
-
-  }
-
-  /**
-  * Get the array data as float[]
-  * This convenience method returns the contents of the array as an array of float.
-  * Because the array can have null elements and a 'float' can never be null you
-  * need to say how nulls should be treated.
-  * @param float nullToken The float you will use to represent null. e.g. Float.MIN_VALUE
-  * @return float[] An array of numbers. If the array is empty you will get float[0] back.
-  * @throws ClassCastException if the array isn't of numbers.
-  */
-  public float[] getArrayAsFloat(float nullToken) throws CSNumberFormatException
-  {
-  float[] newArray = new float[0];
-
-  if (dataArray.length > 0)
-    {
-    newArray = new float[dataArray.length];
-
-    for (int i=0; i < dataArray.length; i++)
-      {
-      if (dataArray[i] == null)
-        {
-        newArray[i] = nullToken;
-        }
-      else
-        {
-        try
-          {
-          if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
-            {
-            newArray[i] = Float.parseFloat((String)dataArray[i]);
-            }
-          else
-           {
-            newArray[i] = ((BigDecimal)dataArray[i]).floatValue();
-           }
-          }
-        catch (NumberFormatException e)
-          {
-          throw new CSNumberFormatException("PlsqlIndexByTable2.getArrayAsDouble",(String)dataArray[i]);
-          }
-        }
-      }
-    }
-
-  return(newArray);
-  }
-
-  /**
-  * Set the array data using float[]
-  * This convenience method returns sets the array using an array of float[]
-  * WARNING: The precision of the value actually stored is limited to what the
-  * underlying Oracle object expects, so if you pass 1.00003f into a NUMBER(4,2)
-  * the '3' will be lost
-  * @param float[] newArray
-  */
-  public void setArray(float[] newArray)
-  {
-  if (newArray == null)
-    {
-    setArray(new Object[0]);
-    }
-  else
-    {
-    Object[] tempArray = new Object[newArray.length];
-
-    for (int i=0; i < tempArray.length; i++)
-      {
-      if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
-        {
-        tempArray[i] = new String(formatter.format(newArray[i]));
-        }
-      else
-        {
-        // Store as BigDecimal - will get converted to this anyway
-        tempArray[i] = new BigDecimal(newArray[i]);
-        }
-      }
-
-    setArray(tempArray);
-    }
-
-  }
-
-  /**
-  * Set the array data using Float[]
-  * This convenience method returns sets the array using an array of Float[]
-  * WARNING: The precision of the value actually stored is limited to what the
-  * underlying Oracle object expects, so if you pass 1.00003f into a NUMBER(4,2)
-  * the '3' will be lost
-  * @param Float[] newArray
-  */
-  public void setArray(Float[] newArray)
-  {
-  if (newArray == null)
-    {
-    setArray(new Object[0]);
-    }
-  else
-    {
-    Object[] tempArray = new Object[newArray.length];
-
-    for (int i=0; i < tempArray.length; i++)
-      {
-      if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
-        {
-        tempArray[i] = new String(formatter.format(newArray[i]));
-        }
-      else
-        {
-        // Store as BigDecimal - will get converted to this anyway
-        tempArray[i] = new BigDecimal(newArray[i].floatValue());
-        }
-      }
-
-    setArray(tempArray);
-    }
-
-  }
-
-  /**
-  * Get the array data as double[]
-  * This convenience method returns the contents of the array as an array of double.
-  * Because the array can have null elements and a 'double' can never be null you
-  * need to say how nulls should be treated.
-  * @param double nullToken The double you will use to represent null. e.g. Double.MIN_VALUE
-  * @return double[] An array of numbers. If the array is empty you will get double[0] back.
-  * @throws ClassCastException if the array isn't of numbers.
-  */
-  public double[] getArrayAsDouble(double nullToken) throws CSNumberFormatException
-  {
-  double[] newArray = new double[0];
-
-  if (dataArray.length > 0)
-    {
-    newArray = new double[dataArray.length];
-
-    for (int i=0; i < dataArray.length; i++)
-      {
-      if (dataArray[i] == null)
-        {
-        newArray[i] = nullToken;
-        }
-      else
-        {
-        try
-          {
-          if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
-            {
-            newArray[i] = Double.parseDouble((String)dataArray[i]);
-            }
-          else
-           {
-            newArray[i] = ((BigDecimal)dataArray[i]).doubleValue();
-           }
-          }
-        catch (NumberFormatException e)
-          {
-          throw new CSNumberFormatException("PlsqlIndexByTable2.getArrayAsDouble",(String)dataArray[i]);
-          }
-        }
-      }
-    }
-
-  return(newArray);
-  }
-
-  /**
-  * Set the array data using double[]
-  * This convenience method returns sets the array using an array of double[]
-  * WARNING: The precision of the value actually stored is limited to what the
-  * underlying Oracle object expects, so if you pass 1.00003f into a NUMBER(4,2)
-  * the '3' will be lost
-  * @param double[] newArray
-  */
-  public void setArray(double[] newArray)
-  {
-  if (newArray == null)
-    {
-    setArray(new Object[0]);
-    }
-  else
-    {
-    Object[] tempArray = new Object[newArray.length];
-
-    for (int i=0; i < tempArray.length; i++)
-      {
-      if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
-        {
-        tempArray[i] = new String(formatter.format(newArray[i]));
-        }
-      else
-        {
-        // Store as BigDecimal - will get converted to this anyway
-        tempArray[i] = new BigDecimal(newArray[i]);
-        }
-      }
-
-    setArray(tempArray);
-    }
-
-  }
-
-  /**
-  * Set the array data using Double[]
-  * This convenience method returns sets the array using an array of Double[]
-  * WARNING: The precision of the value actually stored is limited to what the
-  * underlying Oracle object expects, so if you pass 1.00003f into a NUMBER(4,2)
-  * the '3' will be lost
-  * @param Double[] newArray
-  */
-  public void setArray(Double[] newArray)
-  {
-  if (newArray == null)
-    {
-    setArray(new Object[0]);
-    }
-  else
-    {
-    Object[] tempArray = new Object[newArray.length];
-
-    for (int i=0; i < tempArray.length; i++)
-      {
-      if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
-        {
-        tempArray[i] = new String(formatter.format(newArray[i]));
-        }
-      else
-        {
-        // Store as BigDecimal - will get converted to this anyway
-        tempArray[i] = new BigDecimal(newArray[i].doubleValue());
-        }
-      }
-
-    setArray(tempArray);
-    }
-
-  }
-
-  
-
-  /**
-  * Get the array data as String[]
-  * This convenience method returns the contents of the array as an array of String.
-  * Because the array can have null elements and an 'double' can never be null you
-  * need to say how nulls should be treated.
-  * @return String[] An array of Strings. If the array is empty you will get double[0] back.
-  */
-  public String[] getArrayAsString()
-  {
-  String[] newArray = new String[0];
-
-  if (dataArray.length > 0)
-    {
-    newArray = new String[dataArray.length];
-
-    for (int i=0; i < dataArray.length; i++)
-      {
-      if (dataArray[i] == null)
-        {
-        newArray[i] = null;
-        }
-      else
-        {
-        if (dataArray[i] instanceof BigDecimal)
-          {
-          newArray[i] = ((BigDecimal)dataArray[i]).toString();
-          }
-        else
-          {
-          newArray[i] = ((String)dataArray[i]);
-          }
-        }
-      }
-    }
-
-  return(newArray);
-  }
-
-  /**
-  * Get the array data as java.math.BigDecimal[]
-  * This convenience method returns the contents of the array as an array of BigDecimal.
-  * @return BigDecimal[] An array of BigDecimal
-  * @throws CSException if this isn't an array of numbers
-  * @since JDBCWizard 4.0.2108
-  */
-  public java.math.BigDecimal[] getArrayAsBigDecimal()  throws CSNumberFormatException
-  {
-  java.math.BigDecimal[] newArray = new java.math.BigDecimal[0];
-
-  if (dataArray.length > 0)
-    {
-    newArray = new java.math.BigDecimal[dataArray.length];
-
-    for (int i=0; i < dataArray.length; i++)
-      {
-      if (dataArray[i] == null)
-        {
-        newArray[i] = null;
-        }
-      else
-        {
-        try
-          {
-          if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
-            {
-            newArray[i] = new BigDecimal((String)dataArray[i]);
-            }
-          else
-           {
-            newArray[i] = (BigDecimal)dataArray[i];
-           }
-          }
-        catch (NumberFormatException e)
-          {
-          throw new CSNumberFormatException("PlsqlIndexByTable2.getArrayAsBigDecimal",(String)dataArray[i]);
-          }
-        }
-      }
-    }
-
-  return(newArray);
-  }
-
-  /**
-  * Get the array data as Double[]
-  * This convenience method returns the contents of the array as an array of BigDecimal.
-  * @return Double[] An array Double
-  * @throws CSException if this isn't an array of numbers
-  * @since JDBCWizard 4.0.2108
-  */
-  public Double[] getArrayAsDoubleObject()  throws CSNumberFormatException
-  {
-  Double[] newArray = new Double[0];
-
-  if (dataArray.length > 0)
-    {
-    newArray = new Double[dataArray.length];
-
-    for (int i=0; i < dataArray.length; i++)
-      {
-      if (dataArray[i] == null)
-        {
-        newArray[i] = null;
-        }
-      else
-        {
-        try
-          {
-          if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
-            {
-            newArray[i] = new Double((String)dataArray[i]);
-            }
-          else
-           {
-            newArray[i] = new Double(((BigDecimal)dataArray[i]).doubleValue());
-           }
-          }
-        catch (NumberFormatException e)
-          {
-          throw new CSNumberFormatException("PlsqlIndexByTable2.getArrayAsDoubleObject",(String)dataArray[i]);
-          }
-        }
-      }
-    }
-
-  return(newArray);
-  }
-
-  /**
-  * Get the array data as Float[]
-  * This convenience method returns the contents of the array as an array of BigDecimal.
-  * @return Float[] An array of Float
-  * @throws CSException if this isn't an array of numbers
-  * @since JDBCWizard 4.0.2108
-  */
-  public Float[] getArrayAsFloatObject()  throws CSNumberFormatException
-  {
-  Float[] newArray = new Float[0];
-
-  if (dataArray.length > 0)
-    {
-    newArray = new Float[dataArray.length];
-
-    for (int i=0; i < dataArray.length; i++)
-      {
-      if (dataArray[i] == null)
-        {
-        newArray[i] = null;
-        }
-      else
-        {
-        try
-          {
-          if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
-            {
-            newArray[i] = new Float((String)dataArray[i]);
-            }
-          else
-           {
-            newArray[i] = new Float(((BigDecimal)dataArray[i]).floatValue());
-           }
-          }
-        catch (NumberFormatException e)
-          {
-          throw new CSNumberFormatException("PlsqlIndexByTable2.getArrayAsFloatObject",(String)dataArray[i]);
-          }
-        }
-      }
-    }
-
-  return(newArray);
-  }
-  
-  /**
-  * Get the array data as Integer[]
-  * This convenience method returns the contents of the array as an array of BigDecimal.
-  * @return Integer[] An array of Integer
-  * @throws CSException if this isn't an array of numbers
-  * @since JDBCWizard 4.0.2108
-  */
-  public Integer[] getArrayAsIntegerObject()  throws CSNumberFormatException
-  {
-  Integer[] newArray = new Integer[0];
-
-  if (dataArray.length > 0)
-    {
-    newArray = new Integer[dataArray.length];
-
-    for (int i=0; i < dataArray.length; i++)
-      {
-      if (dataArray[i] == null)
-        {
-        newArray[i] = null;
-        }
-      else
-        {
-        try
-          {
-          if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
-            {
-            newArray[i] = new Integer((String)dataArray[i]);
-            }
-          else
-           {
-            newArray[i] = new Integer(((BigDecimal)dataArray[i]).intValue());
-           }
-          }
-        catch (NumberFormatException e)
-          {
-          throw new CSNumberFormatException("PlsqlIndexByTable2.getArrayAsIntegerObject",(String)dataArray[i]);
-          }
-        }
-      }
-    }
-
-  return(newArray);
-  }
-
-  /**
-  * Get the array data as Long[]
-  * This convenience method returns the contents of the array as an array of BigDecimal.
-  * @return Long[] An array of Long
-  * @throws CSException if this isn't an array of numbers
-  * @since JDBCWizard 4.0.2108
-  */
-  public Long[] getArrayAsLongObject()  throws CSNumberFormatException
-  {
-  Long[] newArray = new Long[0];
-
-  if (dataArray.length > 0)
-    {
-    newArray = new Long[dataArray.length];
-
-    for (int i=0; i < dataArray.length; i++)
-      {
-      if (dataArray[i] == null)
-        {
-        newArray[i] = null;
-        }
-      else
-        {
-        try
-          {
-          if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
-            {
-            newArray[i] = new Long((String)dataArray[i]);
-            }
-          else
-           {
-            newArray[i] = new Long(((BigDecimal)dataArray[i]).longValue());
-           }
-          }
-        catch (NumberFormatException e)
-          {
-          throw new CSNumberFormatException("PlsqlIndexByTable2.getArrayAsLongObject",(String)dataArray[i]);
-          }
-        }
-      }
-    }
-
-  return(newArray);
-  }
-  
-  /**
-  * Get the array data as java.sql.Timestamp
-  * This convenience method returns the contents of the array as an array of java.sql.Timestamp.
-  * @param java.sql.Timestamp nullToken The java.sql.Timestamp you will use to represent null. e.g. java.sql.Timestamp.MIN_VALUE
-  * @return java.sql.Timestamp[] An array of numbers. If the array is empty you will get java.sql.Timestamp[0] back.
-  * @throws ClassCastException if the array isn't of Strings.
-  */
-  public java.sql.Timestamp[] getArrayAsTimestamp() throws CSException
-  {
-  java.sql.Timestamp[] newArray = new java.sql.Timestamp[0];
-
-  if (dataArray.length > 0)
-    {
-    newArray = new java.sql.Timestamp[dataArray.length];
-
-    for (int i=0; i < dataArray.length; i++)
-      {
-      if (dataArray[i] == null)
-        {
-        newArray[i] = null;
-        }
-      else
-        {
-        try
-          {
-          newArray[i] = java.sql.Timestamp.valueOf((String)dataArray[i]);
-          }
-        catch (Exception e)
-          {
-          throw new CSException("PlsqlIndexByTable2/getArrayAsTimestamp: string could not be turned into a timestamp: " + dataArray[i]);
-          }
-        }
-      }
-    }
-
-  return(newArray);
-  }
-
-  /**
-  * Set the array data using java.sql.Timestamp[]
-  * This convenience method returns sets the array using an array of java.sql.Timestamp[]
-  * @param java.sql.Timestamp[] newArray
-  * @throws CSNoNanosAllowedException when nanoseconds provided for an Oracle DATE field
-  */
-  public void setArray(java.sql.Timestamp[] newArray) throws CSNoNanosAllowedException
-  {
-  if (newArray == null)
-    {
-    setArray(new String[0]);
-    }
-  else
-    {
-    Object[] tempArray = new String[newArray.length];
-
-    for (int i=0; i < tempArray.length; i++)
-      {
-      if (newArray[i] == null)
-        {
-        tempArray[i] = null;
-        }
-      else
-        {
-        if (realDataTypePrecision == 0 && newArray[i].getNanos() != 0)
-          {
-          throw new CSNoNanosAllowedException(
-            "PlsqlIndexByTable2/setArray(java.sql.Timestamp[])",newArray[i]);
-           
-          }
-        if (realDataTypePrecision == 0)
-          {
-          tempArray[i] = theDateFormat.format(newArray[i]);
-          }
-        else
-          {
-          tempArray[i] = new String(newArray[i].toString());
-          }
-        }
-      }
-
-    setArray(tempArray);
-    }
-
-  }
-  /**
-  * Get the array data as byte[]
-  * This convenience method returns the contents of the array as an array of byte[].
-  * @param byte[] nullToken The byte[] you will use to represent null. e.g. byte[].MIN_VALUE
-  * @return byte[][] An array of numbers. If the array is empty you will get byte[][0] back.
-  * @throws ClassCastException if the array isn't of numbers.
-  */
-  public byte[][] getArrayAsRaw()
-  {
-  byte[][] newArray = new byte[0][0];
-
-  if (dataArray.length > 0)
-    {
-    newArray = new byte[dataArray.length][];
-
-    for (int i=0; i < dataArray.length; i++)
-      {
-      if (dataArray[i] == null)
-        {
-        newArray[i] = null;
-        }
-      else
-        {
-        String tempString = (String)dataArray[i];
-        newArray[i] = new byte[tempString.length() / 2];
-
-        for (int j=0; j < newArray[i].length; j++)
-          {
-          newArray[i][j] = (byte)Integer.parseInt(tempString.substring(j*2,(j*2)+2),16);
-          }
-
-        }
-      }
-    }
-
-  return(newArray);
-  }
-
-  /**
-  * Set the array data using byte[][]
-  * This convenience method returns sets the array using an array of byte[][]
-  * @param byte[][] newArray
-  */
-  public void setArray(byte[][] newArray)
-  {
-  if (newArray == null)
-    {
-    setArray(new String[0]);
-    }
-  else
-    {
-    Object[] tempArray = new String[newArray.length];
-
-    for (int i=0; i < tempArray.length; i++)
-      {
-      if (newArray[i] == null)
-        {
-        tempArray[i] = null;
-        }
-      else
-        {
-        StringBuffer buffer = new StringBuffer(newArray[i].length*2);
-
-        for (int j=0; j < newArray[i].length; j++)
-          {
-          String hexNumber = null;
-          hexNumber = "0" + Integer.toHexString(0xff & newArray[i][j]);
-          buffer.append(hexNumber.substring(hexNumber.length()-2));
-
-          }
-
-        tempArray[i] = buffer.toString();
-
-        }
-      }
-
-    setArray(tempArray);
-    }
-
-  }
-  /**
-  * Get the length of the array
-  */
-  public int getArrayLength()
-  {
-  return(dataArray.length);
-  }
-}
-
-
-
+package com.orindasoft.pub;
+
+/* import changed for Oracle 11g */
+//import oracle.jdbc.driver.OracleTypes;
+
+import oracle.jdbc.OracleTypes;
+
+import java.math.BigDecimal;
+import java.text.SimpleDateFormat;
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+
+/**
+* Holds state variables for PL/SQL Index By Table parameters
+* <p>
+* This class represents an Oracle PL/SQL Index By Table. In addition to the
+* table data it also holds information about the data type of the elements
+* in the table, their maximum length and the maximum number of elements this
+* table can have after an update or retrieval. For this reason this class
+* is always instantiated even for OUT parameters. As of Oracle 10g INDEX BY
+* tables can have two types of parameters - Numbers or Strings. Parameter types
+* can not be mixed within the same table.  JDBCWizard converts other data
+* types to numbers or strings.
+* <p>
+* Under normal circumstances <a href="http://www.orindasoft.com/?adsrc=api" target="_blank class="manual">JDBCWizard</a> users
+* will have no reason to use this class directly - the generated code will use it.
+* <p>
+* <br>(c) Copyright 2003 - 2015 Orinda Software Ltd<p>
+*
+* @version 6.0
+* @author  <a href="http://www.orindasoft.com/?pdsrc=api" target="_blank" class=news>Orinda Software</a>
+* @since Oracle 10g/5.0.2556
+*/
+public class PlsqlIndexByTable2
+{
+
+  /**
+  * Date format mask used by Oracle for converting timestamp to String
+  */
+  public static final String ORACLE_TIMESTAMP_TO_CHAR_MASK = "yyyy-mm-dd hh24:mi:ss.ff8";
+
+  /**
+  * Date format mask used by Oracle for converting date to String
+  */
+  public static final String ORACLE_DATE_TO_CHAR_MASK = "yyyy-mm-dd hh24:mi:ss";
+
+  /**
+  * Date format mask used by Java for converting Timestamp to String
+  */
+  public static final String JAVA_DATE_TO_CHAR_MASK = "yyyy-MM-dd HH:mm:ss";
+
+  /**
+  * String containing zeros used by number formatter.
+  * Oracle has a precision of 38 decimal places.
+  */
+  private final String ZERO_STRING = ".########################################";
+
+  /**
+  * Array containing numbers or strings
+  **/
+  private Object[] dataArray = null;
+
+  /**
+  * The maximum length of any element
+  **/
+  private int elementMaxLength = 1024;
+
+  /**
+  * The maximum number of elements.
+  * This is used to determine the size of the array. If you try to
+  * set this to Integer.MAX_VALUE you will almost certainly kill
+  * your JVM with a java.lang.OutOfMemoryError.
+  **/
+  private int elementMaxCount = 4096;
+
+  /**
+  * The  OracleTypes code for the data stored in dataArray
+  * Legal values are OracleTypes.VARCHAR and OracleTypes.NUMBER
+  */
+  private int dataTypeCode = OracleTypes.VARCHAR;
+
+  /**
+  * Whether this array is BigDecimal or String
+  */
+  private int realDataTypeCode = oracle.jdbc.OracleTypes.VARCHAR;
+
+  /**
+  * Either length of string, decimal places of number, or precision of
+  * timestamp in ms
+  */
+  private int realDataTypePrecision = 0;
+
+  /**
+  * Formatter for DATE and TIMESTAMP fields.
+  */
+  private SimpleDateFormat theDateFormat;
+
+  /**
+  * Number formatter
+  */
+  NumberFormat formatter = null;
+
+  /**
+  * Contruct an empty INDEX BY table
+  *
+  * @param int realDataTypeCode One of oracle.jdbc.OracleTypes.NUMBER or oracle.jdbc.OracleTypes.VARCHAR
+  * @param int realDataTypePrecision How many decimal places of precision.
+  */
+  public PlsqlIndexByTable2(int realDataTypeCode
+                           ,int realDataTypePrecision)
+  {
+  this.realDataTypeCode = realDataTypeCode;
+  this.realDataTypePrecision = realDataTypePrecision;
+
+  if (realDataTypePrecision != 0)
+    {
+    formatter = new DecimalFormat("#0" + ZERO_STRING.substring(0,realDataTypePrecision));
+    }
+  else
+    {
+    formatter = new DecimalFormat("#0");
+    theDateFormat = new SimpleDateFormat (JAVA_DATE_TO_CHAR_MASK);
+    }
+
+  dataArray = new Object[0];
+  }
+  
+  /**
+  * Get the official OracleType code for the array.
+  */
+  public int getDataTypeCode()
+  {
+  return(dataTypeCode);
+  }
+
+  /**
+  * Get the actual OracleType code for the array.
+  */
+  public int getRealDataTypeCode()
+  {
+  return(realDataTypeCode);
+  }
+
+  /**
+  * Set the official Oracle data type
+  */
+  public void setDataType(int dataTypeCode)
+  {
+  this.dataTypeCode = dataTypeCode;
+  }
+
+  /**
+  * Set the actual Oracle data type
+  */
+  public void setRealDataType(int realDataTypeCode)
+  {
+  this.realDataTypeCode = realDataTypeCode;
+  
+  if (realDataTypePrecision == 0 && theDateFormat == null)
+	{
+	theDateFormat = new SimpleDateFormat (JAVA_DATE_TO_CHAR_MASK);
+	}
+ 
+  }
+
+
+  /**
+  * Set the maximum length of an element in the table
+  */
+  public void setElementMaxLength(int elementMaxLength)
+  {
+  this.elementMaxLength = elementMaxLength;
+  }
+
+  /**
+  * Get the maximum length of an element in the table
+  */
+  public int getElementMaxLength()
+  {
+  return(elementMaxLength);
+  }
+
+  /**
+  * Set the maximum size this table can be after an update or retrieval.
+  * This is used to decide how big the output array should be.
+  */
+  public void setElementMaxCount(int elementMaxCount)
+  {
+  // Update element count 
+  if (this.dataArray.length < elementMaxCount)
+	 {
+	  this.elementMaxCount = elementMaxCount;
+	 }
+ 
+  }
+
+  /**
+  * Get the maximum size this table can be after an update or retrieval.
+  */
+  public int getElementMaxCount()
+  {
+  return(elementMaxCount);
+  }
+
+
+  /**
+  * Set the contents of the Array.
+  * This method assumes that the user is providing a 1 dimensional array of
+  * numbers or strings. The values of elementMaxCount and elementMaxLength are
+  * updated by this method. If you are passing in an array that will be
+  * appended and returned to you you should call setElementMaxCount and
+  * setElementMaxLength after calling setArray. 'null' is not an acceptable
+  * value for dataArray and will be turned into Object[0]. This is so that
+  * getArrayLength works reliably.
+  * @see com.orindasoft.pub.PlsqlIndexByTable#setElementMaxCount
+  * @see com.orindasoft.pub.PlsqlIndexByTable#setElementMaxLength
+  * @param Object[] dataArray
+  */
+  public void setArray(Object[] newDataArray)
+  {
+ 
+  if (newDataArray == null)
+    {
+    if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
+      {
+      this.dataArray = new String[0];
+      }
+    else
+      {
+      this.dataArray = new BigDecimal[0];
+      }
+    }
+  else
+    {
+    if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
+      {
+      this.dataArray = new String[newDataArray.length];
+      }
+    else
+      {
+      this.dataArray = new BigDecimal[newDataArray.length];
+      }
+
+    for (int i=0 ; i < newDataArray.length; i++)
+      {
+      if (newDataArray[i] == null)
+        {
+        this.dataArray[i] = null;
+        }
+      else
+        {
+        if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
+          {
+          if (newDataArray[i] instanceof String)
+            {
+            this.dataArray[i] = (String)newDataArray[i];
+            }
+          else
+            {
+            this.dataArray[i] = new String(formatter.format(newDataArray[i]));
+            }
+          }
+        else
+          {
+          // Store as BigDecimal - will get converted to this anyway
+          if (newDataArray[i] instanceof String)
+            {
+            this.dataArray[i] = new BigDecimal((String)newDataArray[i]);
+            }
+          else
+            {
+            this.dataArray[i] = (BigDecimal)newDataArray[i];
+            }
+          }
+        }
+      }
+    }
+
+    // Update element count
+    if (this.dataArray.length > elementMaxCount)
+      {
+      elementMaxCount = this.dataArray.length;
+      }
+
+  }
+
+
+  /**
+  * Get the array data
+  */
+  public Object[] getArray()
+  {
+  return(dataArray);
+  }
+
+  /**
+  * Get the array data as int[]
+  * This convenience method returns the contents of the array as an array of int.
+  * Because the array can have null elements and an 'int' can never be null you
+  * need to say how nulls should be treated.
+  * @param int nullToken The int you will use to represent null. e.g. Integer.MIN_VALUE
+  * @return int[] An array of numbers. If the array is empty you will get int[0] back.
+  * @throws ClassCastException if the array isn't of numbers.
+  * @throws CSNumberFormatException if the array cant be turned into int.
+  */
+  public int[] getArrayAsInt(int nullToken)  throws CSNumberFormatException
+  {
+  int[] newArray = new int[0];
+
+  if (dataArray.length > 0)
+    {
+    newArray = new int[dataArray.length];
+
+    for (int i=0; i < dataArray.length; i++)
+      {
+      if (dataArray[i] == null)
+        {
+        newArray[i] = nullToken;
+        }
+      else
+        {
+        try
+          {
+          if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
+            {
+            newArray[i] = Integer.parseInt((String)dataArray[i]);
+            }
+          else
+            {
+            newArray[i] = ((BigDecimal)dataArray[i]).intValue();
+            }
+          }
+        catch (NumberFormatException e)
+          {
+          throw new CSNumberFormatException("PlsqlIndexByTable2.getArrayAsInt",(String)dataArray[i]);
+          }
+        }
+      }
+    }
+
+  return(newArray);
+  }
+
+  /**
+  * Set the array data using int[]
+  * This convenience method sets the array using an array of int[]
+  * @param int[] newArray
+  */
+  public void setArray(int[] newArray)
+  {
+  if (newArray == null)
+    {
+    setArray(new Object[0]);
+    }
+  else
+    {
+    Object[] tempArray = new Object[newArray.length];
+
+    for (int i=0; i < tempArray.length; i++)
+      {
+      if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
+        {
+        tempArray[i] = new String(formatter.format(newArray[i]));
+        }
+      else
+        {
+        // Store as BigDecimal - will get converted to this anyway
+        tempArray[i] = new BigDecimal(newArray[i]);
+        }
+      }
+
+    setArray(tempArray);
+    }
+
+  }
+
+  /**
+  * Set the array data using Integer[]
+  * This convenience method returns sets the array using an array of Integer[]
+  * WARNING: The precision of the value actually stored is limited to what the
+  * underlying Oracle object expects, so if you pass 1.00003f into a NUMBER(4,2)
+  * the '3' will be lost
+  * @param Integer[] newArray
+  */
+  public void setArray(Integer[] newArray)
+  {
+  if (newArray == null)
+    {
+    setArray(new Object[0]);
+    }
+  else
+    {
+    Object[] tempArray = new Object[newArray.length];
+
+    for (int i=0; i < tempArray.length; i++)
+      {
+      if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
+        {
+        tempArray[i] = new String(formatter.format(newArray[i]));
+        }
+      else
+        {
+        // Store as BigDecimal - will get converted to this anyway
+        tempArray[i] = new BigDecimal(newArray[i].intValue());
+        }
+      }
+
+    setArray(tempArray);
+    }
+
+  }
+
+  /**
+  * Get the array data as long[]
+  * This convenience method returns the contents of the array as an array of long.
+  * Because the array can have null elements and a 'long' can never be null you
+  * need to say how nulls should be treated.
+  * @param long nullToken The long you will use to represent null. e.g. Long.MIN_VALUE
+  * @return long[] An array of numbers. If the array is empty you will get long[0] back.
+  * @throws ClassCastException if the array isn't of numbers.
+  */
+  public long[] getArrayAsLong(long nullToken) throws CSNumberFormatException
+  {
+  long[] newArray = new long[0];
+
+  if (dataArray.length > 0)
+    {
+    newArray = new long[dataArray.length];
+
+    for (int i=0; i < dataArray.length; i++)
+      {
+      if (dataArray[i] == null)
+        {
+        newArray[i] = nullToken;
+        }
+      else
+        {
+        try
+          {
+          if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
+            {
+            newArray[i] = Long.parseLong((String)dataArray[i]);
+            }
+          else
+           {
+            newArray[i] = ((BigDecimal)dataArray[i]).longValue();
+           }
+          }
+        catch (NumberFormatException e)
+          {
+          throw new CSNumberFormatException("PlsqlIndexByTable2.getArrayAsDouble",(String)dataArray[i]);
+          }
+        }
+      }
+    }
+
+  return(newArray);
+  }
+
+  /**
+  * Set the array data using long[]
+  * This convenience method returns sets the array using an array of long[]
+  * @param long[] newArray
+  */
+  public void setArray(long[] newArray)
+  {
+  if (newArray == null)
+    {
+    setArray(new Object[0]);
+    //setDataTypeNumber();
+    }
+  else
+    {
+    Object[] tempArray = new Object[newArray.length];
+
+    for (int i=0; i < tempArray.length; i++)
+      {
+      if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
+        {
+        tempArray[i] = new String(formatter.format(newArray[i]));
+        }
+      else
+        {
+        // Store as BigDecimal - will get converted to this anyway
+        tempArray[i] = new BigDecimal(newArray[i]);
+        }
+      }
+
+    setArray(tempArray);
+    }
+
+  }
+
+  /**
+  * Set the array data using Long[]
+  * This convenience method returns sets the array using an array of Long[]
+  * WARNING: The precision of the value actually stored is limited to what the
+  * underlying Oracle object expects, so if you pass 1.00003f into a NUMBER(4,2)
+  * the '3' will be lost
+  * @param Long[] newArray
+  */
+  public void setArray(Long[] newArray)
+  {
+  if (newArray == null)
+    {
+    setArray(new Object[0]);
+    }
+  else
+    {
+    Object[] tempArray = new Object[newArray.length];
+
+    for (int i=0; i < tempArray.length; i++)
+      {
+      if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
+        {
+        tempArray[i] = new String(formatter.format(newArray[i]));
+        }
+      else
+        {
+        // Store as BigDecimal - will get converted to this anyway
+        tempArray[i] = new BigDecimal(newArray[i].longValue());
+        }
+      }
+
+    setArray(tempArray);
+    }
+
+  }
+
+  /**
+  * Get the array data as float[]
+  * This convenience method returns the contents of the array as an array of float.
+  * Because the array can have null elements and a 'float' can never be null you
+  * need to say how nulls should be treated.
+  * @param float nullToken The float you will use to represent null. e.g. Float.MIN_VALUE
+  * @return float[] An array of numbers. If the array is empty you will get float[0] back.
+  * @throws ClassCastException if the array isn't of numbers.
+  */
+  public float[] getArrayAsFloat(float nullToken) throws CSNumberFormatException
+  {
+  float[] newArray = new float[0];
+
+  if (dataArray.length > 0)
+    {
+    newArray = new float[dataArray.length];
+
+    for (int i=0; i < dataArray.length; i++)
+      {
+      if (dataArray[i] == null)
+        {
+        newArray[i] = nullToken;
+        }
+      else
+        {
+        try
+          {
+          if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
+            {
+            newArray[i] = Float.parseFloat((String)dataArray[i]);
+            }
+          else
+           {
+            newArray[i] = ((BigDecimal)dataArray[i]).floatValue();
+           }
+          }
+        catch (NumberFormatException e)
+          {
+          throw new CSNumberFormatException("PlsqlIndexByTable2.getArrayAsDouble",(String)dataArray[i]);
+          }
+        }
+      }
+    }
+
+  return(newArray);
+  }
+
+  /**
+  * Set the array data using float[]
+  * This convenience method returns sets the array using an array of float[]
+  * WARNING: The precision of the value actually stored is limited to what the
+  * underlying Oracle object expects, so if you pass 1.00003f into a NUMBER(4,2)
+  * the '3' will be lost
+  * @param float[] newArray
+  */
+  public void setArray(float[] newArray)
+  {
+  if (newArray == null)
+    {
+    setArray(new Object[0]);
+    }
+  else
+    {
+    Object[] tempArray = new Object[newArray.length];
+
+    for (int i=0; i < tempArray.length; i++)
+      {
+      if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
+        {
+        tempArray[i] = new String(formatter.format(newArray[i]));
+        }
+      else
+        {
+        // Store as BigDecimal - will get converted to this anyway
+        tempArray[i] = new BigDecimal(newArray[i]);
+        }
+      }
+
+    setArray(tempArray);
+    }
+
+  }
+
+  /**
+  * Set the array data using Float[]
+  * This convenience method returns sets the array using an array of Float[]
+  * WARNING: The precision of the value actually stored is limited to what the
+  * underlying Oracle object expects, so if you pass 1.00003f into a NUMBER(4,2)
+  * the '3' will be lost
+  * @param Float[] newArray
+  */
+  public void setArray(Float[] newArray)
+  {
+  if (newArray == null)
+    {
+    setArray(new Object[0]);
+    }
+  else
+    {
+    Object[] tempArray = new Object[newArray.length];
+
+    for (int i=0; i < tempArray.length; i++)
+      {
+      if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
+        {
+        tempArray[i] = new String(formatter.format(newArray[i]));
+        }
+      else
+        {
+        // Store as BigDecimal - will get converted to this anyway
+        tempArray[i] = new BigDecimal(newArray[i].floatValue());
+        }
+      }
+
+    setArray(tempArray);
+    }
+
+  }
+
+  /**
+  * Get the array data as double[]
+  * This convenience method returns the contents of the array as an array of double.
+  * Because the array can have null elements and a 'double' can never be null you
+  * need to say how nulls should be treated.
+  * @param double nullToken The double you will use to represent null. e.g. Double.MIN_VALUE
+  * @return double[] An array of numbers. If the array is empty you will get double[0] back.
+  * @throws ClassCastException if the array isn't of numbers.
+  */
+  public double[] getArrayAsDouble(double nullToken) throws CSNumberFormatException
+  {
+  double[] newArray = new double[0];
+
+  if (dataArray.length > 0)
+    {
+    newArray = new double[dataArray.length];
+
+    for (int i=0; i < dataArray.length; i++)
+      {
+      if (dataArray[i] == null)
+        {
+        newArray[i] = nullToken;
+        }
+      else
+        {
+        try
+          {
+          if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
+            {
+            newArray[i] = Double.parseDouble((String)dataArray[i]);
+            }
+          else
+           {
+            newArray[i] = ((BigDecimal)dataArray[i]).doubleValue();
+           }
+          }
+        catch (NumberFormatException e)
+          {
+          throw new CSNumberFormatException("PlsqlIndexByTable2.getArrayAsDouble",(String)dataArray[i]);
+          }
+        }
+      }
+    }
+
+  return(newArray);
+  }
+
+  /**
+  * Set the array data using double[]
+  * This convenience method returns sets the array using an array of double[]
+  * WARNING: The precision of the value actually stored is limited to what the
+  * underlying Oracle object expects, so if you pass 1.00003f into a NUMBER(4,2)
+  * the '3' will be lost
+  * @param double[] newArray
+  */
+  public void setArray(double[] newArray)
+  {
+  if (newArray == null)
+    {
+    setArray(new Object[0]);
+    }
+  else
+    {
+    Object[] tempArray = new Object[newArray.length];
+
+    for (int i=0; i < tempArray.length; i++)
+      {
+      if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
+        {
+        tempArray[i] = new String(formatter.format(newArray[i]));
+        }
+      else
+        {
+        // Store as BigDecimal - will get converted to this anyway
+        tempArray[i] = new BigDecimal(newArray[i]);
+        }
+      }
+
+    setArray(tempArray);
+    }
+
+  }
+
+  /**
+  * Set the array data using Double[]
+  * This convenience method returns sets the array using an array of Double[]
+  * WARNING: The precision of the value actually stored is limited to what the
+  * underlying Oracle object expects, so if you pass 1.00003f into a NUMBER(4,2)
+  * the '3' will be lost
+  * @param Double[] newArray
+  */
+  public void setArray(Double[] newArray)
+  {
+  if (newArray == null)
+    {
+    setArray(new Object[0]);
+    }
+  else
+    {
+    Object[] tempArray = new Object[newArray.length];
+
+    for (int i=0; i < tempArray.length; i++)
+      {
+      if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
+        {
+        tempArray[i] = new String(formatter.format(newArray[i]));
+        }
+      else
+        {
+        // Store as BigDecimal - will get converted to this anyway
+        tempArray[i] = new BigDecimal(newArray[i].doubleValue());
+        }
+      }
+
+    setArray(tempArray);
+    }
+
+  }
+
+  
+
+  /**
+  * Get the array data as String[]
+  * This convenience method returns the contents of the array as an array of String.
+  * Because the array can have null elements and an 'double' can never be null you
+  * need to say how nulls should be treated.
+  * @return String[] An array of Strings. If the array is empty you will get double[0] back.
+  */
+  public String[] getArrayAsString()
+  {
+  String[] newArray = new String[0];
+
+  if (dataArray.length > 0)
+    {
+    newArray = new String[dataArray.length];
+
+    for (int i=0; i < dataArray.length; i++)
+      {
+      if (dataArray[i] == null)
+        {
+        newArray[i] = null;
+        }
+      else
+        {
+        if (dataArray[i] instanceof BigDecimal)
+          {
+          newArray[i] = ((BigDecimal)dataArray[i]).toString();
+          }
+        else
+          {
+          newArray[i] = ((String)dataArray[i]);
+          }
+        }
+      }
+    }
+
+  return(newArray);
+  }
+
+  /**
+  * Get the array data as java.math.BigDecimal[]
+  * This convenience method returns the contents of the array as an array of BigDecimal.
+  * @return BigDecimal[] An array of BigDecimal
+  * @throws CSException if this isn't an array of numbers
+  * @since JDBCWizard 4.0.2108
+  */
+  public java.math.BigDecimal[] getArrayAsBigDecimal()  throws CSNumberFormatException
+  {
+  java.math.BigDecimal[] newArray = new java.math.BigDecimal[0];
+
+  if (dataArray.length > 0)
+    {
+    newArray = new java.math.BigDecimal[dataArray.length];
+
+    for (int i=0; i < dataArray.length; i++)
+      {
+      if (dataArray[i] == null)
+        {
+        newArray[i] = null;
+        }
+      else
+        {
+        try
+          {
+          if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
+            {
+            newArray[i] = new BigDecimal((String)dataArray[i]);
+            }
+          else
+           {
+            newArray[i] = (BigDecimal)dataArray[i];
+           }
+          }
+        catch (NumberFormatException e)
+          {
+          throw new CSNumberFormatException("PlsqlIndexByTable2.getArrayAsBigDecimal",(String)dataArray[i]);
+          }
+        }
+      }
+    }
+
+  return(newArray);
+  }
+
+  /**
+  * Get the array data as Double[]
+  * This convenience method returns the contents of the array as an array of BigDecimal.
+  * @return Double[] An array Double
+  * @throws CSException if this isn't an array of numbers
+  * @since JDBCWizard 4.0.2108
+  */
+  public Double[] getArrayAsDoubleObject()  throws CSNumberFormatException
+  {
+  Double[] newArray = new Double[0];
+
+  if (dataArray.length > 0)
+    {
+    newArray = new Double[dataArray.length];
+
+    for (int i=0; i < dataArray.length; i++)
+      {
+      if (dataArray[i] == null)
+        {
+        newArray[i] = null;
+        }
+      else
+        {
+        try
+          {
+          if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
+            {
+            newArray[i] = new Double((String)dataArray[i]);
+            }
+          else
+           {
+            newArray[i] = new Double(((BigDecimal)dataArray[i]).doubleValue());
+           }
+          }
+        catch (NumberFormatException e)
+          {
+          throw new CSNumberFormatException("PlsqlIndexByTable2.getArrayAsDoubleObject",(String)dataArray[i]);
+          }
+        }
+      }
+    }
+
+  return(newArray);
+  }
+
+  /**
+  * Get the array data as Float[]
+  * This convenience method returns the contents of the array as an array of BigDecimal.
+  * @return Float[] An array of Float
+  * @throws CSException if this isn't an array of numbers
+  * @since JDBCWizard 4.0.2108
+  */
+  public Float[] getArrayAsFloatObject()  throws CSNumberFormatException
+  {
+  Float[] newArray = new Float[0];
+
+  if (dataArray.length > 0)
+    {
+    newArray = new Float[dataArray.length];
+
+    for (int i=0; i < dataArray.length; i++)
+      {
+      if (dataArray[i] == null)
+        {
+        newArray[i] = null;
+        }
+      else
+        {
+        try
+          {
+          if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
+            {
+            newArray[i] = new Float((String)dataArray[i]);
+            }
+          else
+           {
+            newArray[i] = new Float(((BigDecimal)dataArray[i]).floatValue());
+           }
+          }
+        catch (NumberFormatException e)
+          {
+          throw new CSNumberFormatException("PlsqlIndexByTable2.getArrayAsFloatObject",(String)dataArray[i]);
+          }
+        }
+      }
+    }
+
+  return(newArray);
+  }
+  
+  /**
+  * Get the array data as Integer[]
+  * This convenience method returns the contents of the array as an array of BigDecimal.
+  * @return Integer[] An array of Integer
+  * @throws CSException if this isn't an array of numbers
+  * @since JDBCWizard 4.0.2108
+  */
+  public Integer[] getArrayAsIntegerObject()  throws CSNumberFormatException
+  {
+  Integer[] newArray = new Integer[0];
+
+  if (dataArray.length > 0)
+    {
+    newArray = new Integer[dataArray.length];
+
+    for (int i=0; i < dataArray.length; i++)
+      {
+      if (dataArray[i] == null)
+        {
+        newArray[i] = null;
+        }
+      else
+        {
+        try
+          {
+          if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
+            {
+            newArray[i] = new Integer((String)dataArray[i]);
+            }
+          else
+           {
+            newArray[i] = new Integer(((BigDecimal)dataArray[i]).intValue());
+           }
+          }
+        catch (NumberFormatException e)
+          {
+          throw new CSNumberFormatException("PlsqlIndexByTable2.getArrayAsIntegerObject",(String)dataArray[i]);
+          }
+        }
+      }
+    }
+
+  return(newArray);
+  }
+
+  /**
+  * Get the array data as Long[]
+  * This convenience method returns the contents of the array as an array of BigDecimal.
+  * @return Long[] An array of Long
+  * @throws CSException if this isn't an array of numbers
+  * @since JDBCWizard 4.0.2108
+  */
+  public Long[] getArrayAsLongObject()  throws CSNumberFormatException
+  {
+  Long[] newArray = new Long[0];
+
+  if (dataArray.length > 0)
+    {
+    newArray = new Long[dataArray.length];
+
+    for (int i=0; i < dataArray.length; i++)
+      {
+      if (dataArray[i] == null)
+        {
+        newArray[i] = null;
+        }
+      else
+        {
+        try
+          {
+          if (realDataTypeCode == oracle.jdbc.OracleTypes.VARCHAR)
+            {
+            newArray[i] = new Long((String)dataArray[i]);
+            }
+          else
+           {
+            newArray[i] = new Long(((BigDecimal)dataArray[i]).longValue());
+           }
+          }
+        catch (NumberFormatException e)
+          {
+          throw new CSNumberFormatException("PlsqlIndexByTable2.getArrayAsLongObject",(String)dataArray[i]);
+          }
+        }
+      }
+    }
+
+  return(newArray);
+  }
+  
+  /**
+  * Get the array data as java.sql.Timestamp
+  * This convenience method returns the contents of the array as an array of java.sql.Timestamp.
+  * @param java.sql.Timestamp nullToken The java.sql.Timestamp you will use to represent null. e.g. java.sql.Timestamp.MIN_VALUE
+  * @return java.sql.Timestamp[] An array of numbers. If the array is empty you will get java.sql.Timestamp[0] back.
+  * @throws ClassCastException if the array isn't of Strings.
+  */
+  public java.sql.Timestamp[] getArrayAsTimestamp() throws CSException
+  {
+  java.sql.Timestamp[] newArray = new java.sql.Timestamp[0];
+
+  if (dataArray.length > 0)
+    {
+    newArray = new java.sql.Timestamp[dataArray.length];
+
+    for (int i=0; i < dataArray.length; i++)
+      {
+      if (dataArray[i] == null)
+        {
+        newArray[i] = null;
+        }
+      else
+        {
+        try
+          {
+          newArray[i] = java.sql.Timestamp.valueOf((String)dataArray[i]);
+          }
+        catch (Exception e)
+          {
+          throw new CSException("PlsqlIndexByTable2/getArrayAsTimestamp: string could not be turned into a timestamp: " + dataArray[i]);
+          }
+        }
+      }
+    }
+
+  return(newArray);
+  }
+
+  /**
+  * Set the array data using java.sql.Timestamp[]
+  * This convenience method returns sets the array using an array of java.sql.Timestamp[]
+  * @param java.sql.Timestamp[] newArray
+  * @throws CSNoNanosAllowedException when nanoseconds provided for an Oracle DATE field
+  */
+  public void setArray(java.sql.Timestamp[] newArray) throws CSNoNanosAllowedException
+  {
+  if (newArray == null)
+    {
+    setArray(new String[0]);
+    }
+  else
+    {
+    Object[] tempArray = new String[newArray.length];
+
+    for (int i=0; i < tempArray.length; i++)
+      {
+      if (newArray[i] == null)
+        {
+        tempArray[i] = null;
+        }
+      else
+        {
+        if (realDataTypePrecision == 0 && newArray[i].getNanos() != 0)
+          {
+          throw new CSNoNanosAllowedException(
+            "PlsqlIndexByTable2/setArray(java.sql.Timestamp[])",newArray[i]);
+           
+          }
+        if (realDataTypePrecision == 0)
+          {
+          tempArray[i] = theDateFormat.format(newArray[i]);
+          }
+        else
+          {
+          tempArray[i] = new String(newArray[i].toString());
+          }
+        }
+      }
+
+    setArray(tempArray);
+    }
+
+  }
+  /**
+  * Get the array data as byte[]
+  * This convenience method returns the contents of the array as an array of byte[].
+  * @param byte[] nullToken The byte[] you will use to represent null. e.g. byte[].MIN_VALUE
+  * @return byte[][] An array of numbers. If the array is empty you will get byte[][0] back.
+  * @throws ClassCastException if the array isn't of numbers.
+  */
+  public byte[][] getArrayAsRaw()
+  {
+  byte[][] newArray = new byte[0][0];
+
+  if (dataArray.length > 0)
+    {
+    newArray = new byte[dataArray.length][];
+
+    for (int i=0; i < dataArray.length; i++)
+      {
+      if (dataArray[i] == null)
+        {
+        newArray[i] = null;
+        }
+      else
+        {
+        String tempString = (String)dataArray[i];
+        newArray[i] = new byte[tempString.length() / 2];
+
+        for (int j=0; j < newArray[i].length; j++)
+          {
+          newArray[i][j] = (byte)Integer.parseInt(tempString.substring(j*2,(j*2)+2),16);
+          }
+
+        }
+      }
+    }
+
+  return(newArray);
+  }
+
+  /**
+  * Set the array data using byte[][]
+  * This convenience method returns sets the array using an array of byte[][]
+  * @param byte[][] newArray
+  */
+  public void setArray(byte[][] newArray)
+  {
+  if (newArray == null)
+    {
+    setArray(new String[0]);
+    }
+  else
+    {
+    Object[] tempArray = new String[newArray.length];
+
+    for (int i=0; i < tempArray.length; i++)
+      {
+      if (newArray[i] == null)
+        {
+        tempArray[i] = null;
+        }
+      else
+        {
+        StringBuffer buffer = new StringBuffer(newArray[i].length*2);
+
+        for (int j=0; j < newArray[i].length; j++)
+          {
+          String hexNumber = null;
+          hexNumber = "0" + Integer.toHexString(0xff & newArray[i][j]);
+          buffer.append(hexNumber.substring(hexNumber.length()-2));
+
+          }
+
+        tempArray[i] = buffer.toString();
+
+        }
+      }
+
+    setArray(tempArray);
+    }
+
+  }
+  /**
+  * Get the length of the array
+  */
+  public int getArrayLength()
+  {
+  return(dataArray.length);
+  }
+}
+
+
+
 
@@ -0,0 +1,919 @@
+package com.orindasoft.pub;
+
+// We keep the cache in a ConcurrentHashMap so reads never block
+import java.util.concurrent.ConcurrentHashMap;
+
+// We keep track of how many bytes are in use without locking
+import java.util.concurrent.atomic.AtomicLong;
+
+// Only one thread evicts at a time
+import java.util.concurrent.locks.ReentrantLock;
+
+// Threads wait for a query another thread is already running
+import java.util.concurrent.CompletableFuture;
+
+// We use Arrays and Iterator when evicting and purging
+import java.util.Arrays;
+import java.util.Iterator;
+
+// We use a Set of entries for each table and Locale to upper case table names
+import java.util.Set;
+import java.util.Locale;
+
+/**
+* A thread safe cache of ReadOnlyRowSets with a byte budget.
+* <p>
+* Lookups do not lock, so any number of threads can share a cache. Each entry has its own
+* time to live. The cache is limited both by the number of entries and by how many bytes
+* they use, as estimated by <tt>ReadOnlyRowSet.getEstimatedBytes()</tt>. A single entry may not
+* use more than a tenth of the bytes unless <tt>setMaxEntryBytes()</tt> says otherwise.
+* <p>
+* When either limit is passed entries are removed until the cache is back under 90% of
+* both limits. Entries are chosen using Greedy Dual Size Frequency: each entry is given a
+* priority of how often it has been used divided by its size, plus a value that rises every
+* time something is evicted so that entries which stop being used are eventually removed.
+* The entries with the lowest priority go first. A small lookup that is used often is
+* therefore kept in preference to a large report that has been used once, and a new
+* entry that is worth less than everything already in the cache is not kept. Expired entries
+* are removed when they are found and whenever the cache evicts, or as soon as they expire
+* if <tt>startEvictor()</tt> has been called.
+* <p>
+* When several threads miss on the same key at once only one of them needs to run the
+* query. The first calls <tt>startLoad()</tt>, which returns null, runs the query, adds the
+* results and then calls <tt>finishLoad()</tt>. The others are given a CompletableFuture by
+* <tt>startLoad()</tt> which completes when the first thread calls <tt>finishLoad()</tt>,
+* after which they call <tt>get()</tt> again.
+* <p>
+* Entries can be added along with the names of the tables they were read from. Calling
+* <tt>invalidateTable()</tt> removes every entry that depends on that table. DmlStatement
+* does this for the shared cache when it changes a table, and again when the change is committed.
+* <p>
+* Each QueryStatement has a cache of its own by default. QueryStatements that call
+* <tt>useSharedResultCache()</tt> all use the one returned by <tt>getSharedCache()</tt>,
+* so two statements running the same SQL with the same parameters share results.
+* <p>
+* Under normal circumstances <a href="http://www.orindasoft.com/?adsrc=api" target="_blank class="manual">OrindaBuild</a> users
+* will have no reason to use this class directly - QueryStatement will use it.
+* <p>
+* <br>(c) Copyright 2003 - 2015 Orinda Software Ltd<p>
+*
+* @see QueryStatement#setCacheSeconds(int)
+* @see QueryStatement#setCacheBytes(long)
+* @version 6.0
+* @author  <a href="http://www.orindasoft.com/?pdsrc=api" target="_blank" class=news>Orinda Software</a>
+*/
+public class QueryResultCache
+{
+  /**
+  * Default for how many bytes the cache can use - 64MB.
+  */
+  public static final long DEFAULT_MAX_BYTES = 64 * 1024 * 1024;
+
+  /**
+  * When we evict we keep going until we are under this percentage of our limits.
+  */
+  public static final int LOW_WATER_PCT = 90;
+
+  /**
+  * How many bytes we add to the estimate for each entry to cover the entry, its key and
+  * the parts of its ReadOnlyRowSet that getEstimatedBytes() doesn't count.
+  */
+  public static final int DEFAULT_BYTES_PER_ROWSET = 1024;
+
+  /**
+  * Unless setMaxEntryBytes() is called a single entry can use this percentage of maxBytes.
+  */
+  public static final int DEFAULT_MAX_ENTRY_PCT = 10;
+
+  /**
+  * The cache shared by every QueryStatement that asks for it.
+  */
+  private static final QueryResultCache sharedCache = new QueryResultCache();
+
+  /**
+  * The cached entries, keyed by query signature.
+  */
+  private ConcurrentHashMap cacheEntries = new ConcurrentHashMap();
+
+  /**
+  * For each table name, the Set of entries that depend on it.
+  */
+  private ConcurrentHashMap tableEntries = new ConcurrentHashMap();
+
+  /**
+  * For each key that a thread is running the query for, a CompletableFuture that completes when it has finished.
+  */
+  private ConcurrentHashMap pendingLoads = new ConcurrentHashMap();
+
+  /**
+  * How many times a thread has waited for another thread's query instead of running its own.
+  */
+  private AtomicLong coalescedCount = new AtomicLong(0);
+
+  /**
+  * How many times a table has been invalidated. Each invalidation is numbered from this
+  * so we can spot results that were read while one of their tables was being changed.
+  */
+  private AtomicLong invalidationCount = new AtomicLong(0);
+
+  /**
+  * For each table name, an AtomicLong holding the number of its most recent invalidation.
+  */
+  private ConcurrentHashMap tableInvalidations = new ConcurrentHashMap();
+
+  /**
+  * How many bytes we think the entries in the cache are using.
+  */
+  private AtomicLong currentBytes = new AtomicLong(0);
+
+  /**
+  * The most bytes the cache can use.
+  */
+  private volatile long maxBytes = DEFAULT_MAX_BYTES;
+
+  /**
+  * The most entries the cache can hold.
+  */
+  private volatile int maxEntries = QueryStatement.DEFAULT_QUERIES_CACHED;
+
+  /**
+  * The most bytes a single entry can use, or -1 to use DEFAULT_MAX_ENTRY_PCT of maxBytes.
+  */
+  private volatile long maxEntryBytes = -1;
+
+  /**
+  * Added to the priority of every entry as it is used. Raised to the priority of each
+  * entry we evict so that entries which were popular once but are no longer used
+  * eventually have a lower priority than newer ones.
+  */
+  private volatile double priorityInflation = 0;
+
+  /**
+  * Held while evicting. Threads that find it taken carry on without waiting.
+  */
+  private ReentrantLock evictionLock = new ReentrantLock();
+
+  /**
+  * Removes expired entries in the background. Null unless startEvictor() has been called.
+  */
+  private volatile CacheEvictor theEvictor = null;
+
+  /**
+  * Create a QueryResultCache with the default limits.
+  */
+  public QueryResultCache()
+    {
+    }
+
+  /**
+  * Create a QueryResultCache with specific limits.
+  * @param long maxBytes The most bytes the cache can use.
+  * @param int maxEntries The most entries the cache can hold.
+  */
+  public QueryResultCache(long maxBytes, int maxEntries)
+    {
+    setMaxBytes(maxBytes);
+    setMaxEntries(maxEntries);
+    }
+
+  /**
+  * Return the cache shared by every QueryStatement that asks for it.
+  * @return QueryResultCache the process wide cache.
+  */
+  public static QueryResultCache getSharedCache()
+    {
+    return(sharedCache);
+    }
+
+  /**
+  * Start removing expired entries in a background thread as soon as they expire,
+  * instead of waiting for them to be looked up or purged. Entries already in the cache
+  * are included. Files downloaded for LOB and LONG columns by ReadOnlyRowSets that were
+  * created with <tt>keepFiles == false</tt> are deleted a minute after their entry
+  * leaves the cache, and rows kept off the heap are freed then too.
+  * @see CacheEvictor
+  */
+  public void startEvictor()
+    {
+    startEvictor(CacheEvictor.DEFAULT_TICK_MILLIS, CacheEvictor.DEFAULT_FILE_GRACE_MILLIS);
+    }
+
+  /**
+  * Start removing expired entries in a background thread.
+  * @param long tickMillis How often to look for expired entries.
+  * @param long fileGraceMillis How long to wait after an entry leaves the cache before
+  * deleting its files.
+  * @see CacheEvictor
+  */
+  public synchronized void startEvictor(long tickMillis, long fileGraceMillis)
+    {
+    if (theEvictor == null)
+      {
+      CacheEvictor newEvictor = new CacheEvictor(this, tickMillis, fileGraceMillis);
+      theEvictor = newEvictor;
+
+      // Entries added from now on are scheduled by put(). Schedule the ones we already have.
+      Iterator entryIterator = cacheEntries.values().iterator();
+
+      while (entryIterator.hasNext())
+        {
+        QueryResultCacheEntry anEntry = (QueryResultCacheEntry)entryIterator.next();
+
+        // Forget about any evictor we had before.
+        anEntry.wheelLevel = -1;
+        newEvictor.schedule(anEntry);
+        }
+
+      newEvictor.start();
+      }
+    }
+
+  /**
+  * Stop the background thread started by <tt>startEvictor()</tt>. Expired entries will
+  * once again only be removed when they are looked up or purged.
+  */
+  public synchronized void stopEvictor()
+    {
+    if (theEvictor != null)
+      {
+      theEvictor.stop();
+      theEvictor = null;
+      }
+    }
+
+  /**
+  * Return the evictor started by <tt>startEvictor()</tt>.
+  * @return CacheEvictor the evictor, or <tt>null</tt> if there isn't one.
+  */
+  public CacheEvictor getEvictor()
+    {
+    return(theEvictor);
+    }
+
+  /**
+  * Return a cached ReadOnlyRowSet.
+  * @param Object cacheKey The key the ReadOnlyRowSet was stored under.
+  * @return ReadOnlyRowSet The cached ReadOnlyRowSet, or <tt>null</tt> if there isn't one or it has expired.
+  */
+  public ReadOnlyRowSet get(Object cacheKey)
+    {
+    QueryResultCacheEntry theEntry = (QueryResultCacheEntry)cacheEntries.get(cacheKey);
+
+    if (theEntry == null)
+      {
+      return(null);
+      }
+
+    long now = System.currentTimeMillis();
+
+    if (theEntry.hasExpired(now))
+      {
+      removeEntry(theEntry);
+      return(null);
+      }
+
+    theEntry.lastUsedMillis = now;
+    theEntry.cachedRowSet.incrementTimesUsed();
+    setPriority(theEntry);
+
+    return(theEntry.cachedRowSet);
+    }
+
+  /**
+  * Say that we are about to run the query for a key that isn't in the cache. If nobody else
+  * is running it we return null and the caller must call <tt>finishLoad()</tt> when it has
+  * finished, whether or not it worked. If another thread is already running it we return a
+  * CompletableFuture that completes when they are done. The caller should wait for it and
+  * then call <tt>get()</tt>, running the query itself if that still returns null.
+  * @param Object cacheKey The key that was not found.
+  * @return CompletableFuture null if the caller should run the query, otherwise the query
+  * that is already running.
+  */
+  public CompletableFuture startLoad(Object cacheKey)
+    {
+    CompletableFuture otherLoad = (CompletableFuture)pendingLoads.putIfAbsent(cacheKey, new CompletableFuture());
+
+    if (otherLoad != null)
+      {
+      coalescedCount.incrementAndGet();
+      }
+
+    return(otherLoad);
+    }
+
+  /**
+  * Say that we have finished running the query for a key. Anyone waiting for us is released.
+  * This must only be called by a caller that <tt>startLoad()</tt> returned null to.
+  * @param Object cacheKey The key passed to <tt>startLoad()</tt>.
+  */
+  public void finishLoad(Object cacheKey)
+    {
+    CompletableFuture ourLoad = (CompletableFuture)pendingLoads.remove(cacheKey);
+
+    if (ourLoad != null)
+      {
+      ourLoad.complete(cacheKey);
+      }
+    }
+
+  /**
+  * Return how many times a caller has waited for a query that was already running
+  * instead of running it again.
+  * @return long the number of database round trips saved by waiting.
+  */
+  public long getCoalescedCount()
+    {
+    return(coalescedCount.get());
+    }
+
+  /**
+  * Add a ReadOnlyRowSet to the cache, replacing anything already stored under <tt>cacheKey</tt>.
+  * If the cache is then too big the entries with the lowest priority are removed.
+  * @param Object cacheKey The key to store the ReadOnlyRowSet under.
+  * @param ReadOnlyRowSet theRowSet The ReadOnlyRowSet to cache.
+  * @param long ttlMillis How long the entry lasts. 0 or less means forever.
+  * @return boolean <tt>true</tt> if the ReadOnlyRowSet was cached, <tt>false</tt> if it
+  * was bigger than getMaxEntryBytes() or was evicted straight away to keep more valuable entries.
+  */
+  public boolean put(Object cacheKey, ReadOnlyRowSet theRowSet, long ttlMillis)
+    {
+    return(put(cacheKey, theRowSet, ttlMillis, null, -1));
+    }
+
+  /**
+  * Add a ReadOnlyRowSet that was read from some tables to the cache, replacing anything already
+  * stored under <tt>cacheKey</tt>. It will be removed if any of the tables are invalidated.
+  * <p>
+  * To avoid caching results that were read while a table was being changed, call
+  * <tt>getInvalidationCount()</tt> before running the query and pass in the answer. If any
+  * of <tt>tableNames</tt> has been invalidated since then the ReadOnlyRowSet is not cached.
+  * Invalidations of other tables don't matter. If <tt>tableNames</tt> is null or empty any invalidation does.
+  * @param Object cacheKey The key to store the ReadOnlyRowSet under.
+  * @param ReadOnlyRowSet theRowSet The ReadOnlyRowSet to cache.
+  * @param long ttlMillis How long the entry lasts. 0 or less means forever.
+  * @param String[] tableNames The tables the ReadOnlyRowSet was read from. May be null.
+  * @param long invalidationCountBeforeQuery What <tt>getInvalidationCount()</tt> returned before
+  * the query was run, or -1 to skip this check.
+  * @return boolean <tt>true</tt> if the ReadOnlyRowSet was cached.
+  */
+  public boolean put(Object cacheKey, ReadOnlyRowSet theRowSet, long ttlMillis, String[] tableNames, long invalidationCountBeforeQuery)
+    {
+    long sizeBytes = weigh(theRowSet);
+
+    if (sizeBytes > getMaxEntryBytes() || maxEntries == 0)
+      {
+      return(false);
+      }
+
+    String[] upperCaseTableNames = null;
+
+    if (tableNames != null)
+      {
+      upperCaseTableNames = new String[tableNames.length];
+
+      for (int i=0; i < tableNames.length; i++)
+        {
+        upperCaseTableNames[i] = normalizeTableName(tableNames[i]);
+        }
+      }
+
+    QueryResultCacheEntry newEntry = new QueryResultCacheEntry(cacheKey, theRowSet, sizeBytes, ttlMillis, upperCaseTableNames);
+    setPriority(newEntry);
+
+    // Register with our tables and the evictor before anyone can find us so that
+    // an invalidation or removal can't miss us.
+    for (int i=0; i < newEntry.tableNames.length; i++)
+      {
+      getTableEntrySet(newEntry.tableNames[i]).add(newEntry);
+      }
+
+    CacheEvictor currentEvictor = theEvictor;
+
+    if (currentEvictor != null)
+      {
+      currentEvictor.schedule(newEntry);
+      }
+
+    QueryResultCacheEntry oldEntry = (QueryResultCacheEntry)cacheEntries.put(cacheKey, newEntry);
+
+    currentBytes.addAndGet(sizeBytes);
+
+    if (oldEntry != null)
+      {
+      currentBytes.addAndGet(0 - oldEntry.sizeBytes);
+      unlinkEntry(oldEntry, true);
+      }
+
+    // If a table was changed while the query ran the rows may be out of date.
+    if (invalidationCountBeforeQuery >= 0 && invalidatedSince(newEntry.tableNames, invalidationCountBeforeQuery))
+      {
+      removeEntry(newEntry);
+      return(false);
+      }
+
+    if (currentBytes.get() > maxBytes || cacheEntries.size() > maxEntries)
+      {
+      evict();
+
+      // We may have been the least valuable entry.
+      return(cacheEntries.get(cacheKey) == newEntry);
+      }
+
+    return(true);
+    }
+
+  /**
+  * Remove an entry from the cache.
+  * @param Object cacheKey The key the ReadOnlyRowSet was stored under.
+  * @return ReadOnlyRowSet The ReadOnlyRowSet that was removed, or <tt>null</tt>.
+  */
+  public ReadOnlyRowSet remove(Object cacheKey)
+    {
+    QueryResultCacheEntry oldEntry = (QueryResultCacheEntry)cacheEntries.remove(cacheKey);
+
+    if (oldEntry == null)
+      {
+      return(null);
+      }
+
+    currentBytes.addAndGet(0 - oldEntry.sizeBytes);
+
+    // The caller has the ReadOnlyRowSet now, so its files stay.
+    unlinkEntry(oldEntry, false);
+    return(oldEntry.cachedRowSet);
+    }
+
+  /**
+  * Remove every entry that depends on a table. Call this when the table has changed.
+  * @param String tableName The name of the table. Case and any schema name are ignored.
+  * @return int How many entries were removed.
+  */
+  public int invalidateTable(String tableName)
+    {
+    String upperCaseTableName = normalizeTableName(tableName);
+    long thisInvalidation = invalidationCount.incrementAndGet();
+    AtomicLong lastInvalidation = getTableInvalidation(upperCaseTableName);
+    long previousInvalidation = lastInvalidation.get();
+
+    // Another thread may have numbered its invalidation after us but recorded it first.
+    while (previousInvalidation < thisInvalidation && ! lastInvalidation.compareAndSet(previousInvalidation, thisInvalidation))
+      {
+      previousInvalidation = lastInvalidation.get();
+      }
+
+    int howMany = 0;
+    Set theEntries = (Set)tableEntries.get(upperCaseTableName);
+
+    if (theEntries != null)
+      {
+      Iterator entryIterator = theEntries.iterator();
+
+      while (entryIterator.hasNext())
+        {
+        if (removeEntry((QueryResultCacheEntry)entryIterator.next()))
+          {
+          howMany++;
+          }
+        }
+      }
+
+    return(howMany);
+    }
+
+  /**
+  * Remove every entry that depends on any of a list of tables.
+  * @param String[] tableNames The names of the tables.
+  * @return int How many entries were removed.
+  */
+  public int invalidateTables(String[] tableNames)
+    {
+    int howMany = 0;
+
+    for (int i=0; i < tableNames.length; i++)
+      {
+      howMany += invalidateTable(tableNames[i]);
+      }
+
+    return(howMany);
+    }
+
+  /**
+  * Return how many times a table has been invalidated. Pass this to
+  * <tt>put()</tt> to avoid caching results that were read while a table changed.
+  * @return long the number of invalidations so far.
+  */
+  public long getInvalidationCount()
+    {
+    return(invalidationCount.get());
+    }
+
+  /**
+  * Return <tt>true</tt> if any of a list of tables has been invalidated since
+  * <tt>getInvalidationCount()</tt> returned <tt>invalidationCountBeforeQuery</tt>.
+  * @param String[] upperCaseTableNames Normalized table names. If there aren't any we check every table.
+  * @param long invalidationCountBeforeQuery
+  * @return boolean
+  */
+  private boolean invalidatedSince(String[] upperCaseTableNames, long invalidationCountBeforeQuery)
+    {
+    if (upperCaseTableNames.length == 0)
+      {
+      return(invalidationCount.get() != invalidationCountBeforeQuery);
+      }
+
+    for (int i=0; i < upperCaseTableNames.length; i++)
+      {
+      AtomicLong lastInvalidation = (AtomicLong)tableInvalidations.get(upperCaseTableNames[i]);
+
+      if (lastInvalidation != null && lastInvalidation.get() > invalidationCountBeforeQuery)
+        {
+        return(true);
+        }
+      }
+
+    return(false);
+    }
+
+  /**
+  * Remove everything from the cache.
+  */
+  public void clear()
+    {
+    Iterator entryIterator = cacheEntries.values().iterator();
+
+    while (entryIterator.hasNext())
+      {
+      removeEntry((QueryResultCacheEntry)entryIterator.next());
+      }
+    }
+
+  /**
+  * Return how many entries are in the cache.
+  * @return int the number of entries.
+  */
+  public int size()
+    {
+    return(cacheEntries.size());
+    }
+
+  /**
+  * Return how many bytes we think the cache is using.
+  * @return long the estimated size in bytes.
+  */
+  public long getBytes()
+    {
+    return(currentBytes.get());
+    }
+
+  /**
+  * Set the most bytes the cache can use. If the cache is already bigger than this
+  * entries are removed straight away.
+  * @param long maxBytes The new limit. Values below 0 are ignored.
+  */
+  public void setMaxBytes(long maxBytes)
+    {
+    if (maxBytes >= 0)
+      {
+      this.maxBytes = maxBytes;
+
+      if (currentBytes.get() > maxBytes)
+        {
+        evict();
+        }
+      }
+    }
+
+  /**
+  * Return the most bytes the cache can use.
+  * @return long the byte limit.
+  */
+  public long getMaxBytes()
+    {
+    return(maxBytes);
+    }
+
+  /**
+  * Set the most bytes a single entry can use. Larger ReadOnlyRowSets are not cached.
+  * @param long maxEntryBytes The new limit, or -1 to use DEFAULT_MAX_ENTRY_PCT of getMaxBytes().
+  */
+  public void setMaxEntryBytes(long maxEntryBytes)
+    {
+    if (maxEntryBytes >= -1)
+      {
+      this.maxEntryBytes = maxEntryBytes;
+      }
+    }
+
+  /**
+  * Return the most bytes a single entry can use.
+  * @return long the limit for a single entry.
+  */
+  public long getMaxEntryBytes()
+    {
+    if (maxEntryBytes == -1)
+      {
+      return((maxBytes / 100) * DEFAULT_MAX_ENTRY_PCT);
+      }
+
+    return(Math.min(maxEntryBytes, maxBytes));
+    }
+
+  /**
+  * Set the most entries the cache can hold. If the cache already has more than this
+  * entries are removed straight away.
+  * @param int maxEntries The new limit. Values below 0 are ignored.
+  */
+  public void setMaxEntries(int maxEntries)
+    {
+    if (maxEntries >= 0)
+      {
+      this.maxEntries = maxEntries;
+
+      if (cacheEntries.size() > maxEntries)
+        {
+        evict();
+        }
+      }
+    }
+
+  /**
+  * Return the most entries the cache can hold.
+  * @return int the entry limit.
+  */
+  public int getMaxEntries()
+    {
+    return(maxEntries);
+    }
+
+  /**
+  * Remove entries that have expired.
+  * @param int howManyMilliseconds The maximum amount of time to be spent removing entries.
+  * @return int How many entries were removed.
+  */
+  public int purgeExpired(int howManyMilliseconds)
+    {
+    return(purge(Integer.MIN_VALUE, howManyMilliseconds));
+    }
+
+  /**
+  * Remove entries that have not been reused enough.
+  * @param int minAcceptableReuses How many times an entry must have been used to avoid
+  * deletion.
+  * @param int howManyMilliseconds The maximum amount of time to be spent removing entries.
+  * @return int How many entries were removed.
+  */
+  public int purgeUnderused(int minAcceptableReuses, int howManyMilliseconds)
+    {
+    return(purge(minAcceptableReuses, howManyMilliseconds));
+    }
+
+  /**
+  * Estimate how many bytes a ReadOnlyRowSet will use in the cache.
+  * @param ReadOnlyRowSet theRowSet A ReadOnlyRowSet.
+  * @return long An estimate of its size in bytes.
+  */
+  protected long weigh(ReadOnlyRowSet theRowSet)
+    {
+    return(DEFAULT_BYTES_PER_ROWSET + theRowSet.getEstimatedBytes());
+    }
+
+  /**
+  * Work out an entry's priority from how often it has been used and how big it is.
+  * @param QueryResultCacheEntry theEntry An entry that has just been added or used.
+  */
+  protected void setPriority(QueryResultCacheEntry theEntry)
+    {
+    theEntry.evictionPriority = priorityInflation
+                              + (theEntry.cachedRowSet.getTimesUsed() / ((theEntry.sizeBytes / 1024.0) + 1));
+    }
+
+  /**
+  * Remove expired entries, then the entries with the lowest priority, until we are under
+  * LOW_WATER_PCT of both our limits. If another thread is already evicting we leave it to them.
+  */
+  protected void evict()
+    {
+    if (! evictionLock.tryLock())
+      {
+      return;
+      }
+
+    try
+      {
+      long now = System.currentTimeMillis();
+      long targetBytes = (maxBytes / 100) * LOW_WATER_PCT;
+      int targetEntries = (int)(((long)maxEntries * LOW_WATER_PCT) / 100);
+
+      // Take a copy of the entries and their priorities. Other threads may
+      // carry on using the cache while we sort.
+      Object[] theEntries = cacheEntries.values().toArray();
+
+      for (int i=0; i < theEntries.length; i++)
+        {
+        QueryResultCacheEntry anEntry = (QueryResultCacheEntry)theEntries[i];
+        anEntry.evictionSortKey = anEntry.evictionPriority;
+
+        // Entries that have expired go first
+        if (anEntry.hasExpired(now))
+          {
+          anEntry.evictionSortKey = Double.NEGATIVE_INFINITY;
+          }
+        }
+
+      Arrays.sort(theEntries);
+
+      for (int i=0; i < theEntries.length; i++)
+        {
+        QueryResultCacheEntry anEntry = (QueryResultCacheEntry)theEntries[i];
+
+        if (anEntry.evictionSortKey != Double.NEGATIVE_INFINITY)
+          {
+          if (currentBytes.get() <= targetBytes && cacheEntries.size() <= targetEntries)
+            {
+            break;
+            }
+
+          // Everything left now starts from at least this priority.
+          if (removeEntry(anEntry) && anEntry.evictionSortKey > priorityInflation)
+            {
+            priorityInflation = anEntry.evictionSortKey;
+            }
+          }
+        else
+          {
+          removeEntry(anEntry);
+          }
+        }
+      }
+    finally
+      {
+      evictionLock.unlock();
+      }
+    }
+
+  /**
+  * Remove an entry if it is still in the cache.
+  * @param QueryResultCacheEntry theEntry The entry to remove.
+  * @return boolean <tt>true</tt> if we removed it, <tt>false</tt> if it had already gone or been replaced.
+  */
+  protected boolean removeEntry(QueryResultCacheEntry theEntry)
+    {
+    if (cacheEntries.remove(theEntry.cacheKey, theEntry))
+      {
+      currentBytes.addAndGet(0 - theEntry.sizeBytes);
+      unlinkEntry(theEntry, true);
+      return(true);
+      }
+
+    // It may never have made it into cacheEntries
+    unlinkEntry(theEntry, true);
+    return(false);
+    }
+
+  /**
+  * Remove an entry if it has expired. Called by our CacheEvictor.
+  * @param QueryResultCacheEntry theEntry The entry to remove.
+  * @return boolean <tt>true</tt> if we removed it.
+  */
+  boolean expireEntry(QueryResultCacheEntry theEntry)
+    {
+    if (theEntry.hasExpired(System.currentTimeMillis()))
+      {
+      return(removeEntry(theEntry));
+      }
+
+    return(false);
+    }
+
+  /**
+  * Return the AtomicLong holding the number of a table's most recent invalidation, creating it if need be.
+  */
+  private AtomicLong getTableInvalidation(String tableName)
+    {
+    AtomicLong lastInvalidation = (AtomicLong)tableInvalidations.get(tableName);
+
+    if (lastInvalidation == null)
+      {
+      AtomicLong newInvalidation = new AtomicLong(0);
+      lastInvalidation = (AtomicLong)tableInvalidations.putIfAbsent(tableName, newInvalidation);
+
+      if (lastInvalidation == null)
+        {
+        lastInvalidation = newInvalidation;
+        }
+      }
+
+    return(lastInvalidation);
+    }
+
+  /**
+  * Return the Set of entries that depend on a table, creating it if need be.
+  */
+  private Set getTableEntrySet(String tableName)
+    {
+    Set theEntries = (Set)tableEntries.get(tableName);
+
+    if (theEntries == null)
+      {
+      Set newEntries = ConcurrentHashMap.newKeySet();
+      theEntries = (Set)tableEntries.putIfAbsent(tableName, newEntries);
+
+      if (theEntries == null)
+        {
+        theEntries = newEntries;
+        }
+      }
+
+    return(theEntries);
+    }
+
+  /**
+  * Stop an entry being found by invalidateTable and hand it to our evictor, if we have one.
+  */
+  private void unlinkEntry(QueryResultCacheEntry theEntry, boolean deleteFiles)
+    {
+    CacheEvictor currentEvictor = theEvictor;
+
+    if (currentEvictor != null)
+      {
+      currentEvictor.release(theEntry, deleteFiles);
+      }
+
+    for (int i=0; i < theEntry.tableNames.length; i++)
+      {
+      Set theEntries = (Set)tableEntries.get(theEntry.tableNames[i]);
+
+      if (theEntries != null)
+        {
+        theEntries.remove(theEntry);
+        }
+      }
+    }
+
+  /**
+  * Turn a table name into the form used as a key - upper case, without quotes or a schema name.
+  */
+  private static String normalizeTableName(String tableName)
+    {
+    String newTableName = tableName.substring(tableName.lastIndexOf('.') + 1);
+
+    if (newTableName.indexOf('"') > -1)
+      {
+      newTableName = newTableName.replace("\"","");
+      }
+
+    return(newTableName.toUpperCase(Locale.ENGLISH));
+    }
+
+  /**
+  * Go through the cache removing entries that have been used less than
+  * <tt>minAcceptableReuses</tt> times, or that have expired if <tt>minAcceptableReuses</tt>
+  * is Integer.MIN_VALUE.
+  */
+  private int purge(int minAcceptableReuses, int howManyMilliseconds)
+    {
+    // Define when we should stop purging the cache because we've used up our
+    // alloted time
+    long now = System.currentTimeMillis();
+    long endTime = now + howManyMilliseconds;
+
+    // How many items we have removed so far
+    int howMany = 0;
+
+    Iterator entryIterator = cacheEntries.values().iterator();
+
+    while (entryIterator.hasNext())
+      {
+      QueryResultCacheEntry anEntry = (QueryResultCacheEntry)entryIterator.next();
+
+      boolean removeIt = false;
+
+      if (minAcceptableReuses == Integer.MIN_VALUE)
+        {
+        removeIt = anEntry.hasExpired(now);
+        }
+      else
+        {
+        removeIt = anEntry.cachedRowSet.getTimesUsed() < minAcceptableReuses;
+        }
+
+      if (removeIt)
+        {
+        if (removeEntry(anEntry))
+          {
+          howMany++;
+          }
+        }
+
+      now = System.currentTimeMillis();
+
+      if (endTime < now)
+        {
+        break;
+        }
+      }
+
+    return(howMany);
+    }
+}
+
@@ -0,0 +1,220 @@
+package com.orindasoft.pub;
+
+/**
+* A single entry in a QueryResultCache.
+* <p>
+* Holds a cached ReadOnlyRowSet together with what the cache needs to know
+* about it: how big it is thought to be, when it expires and when it was last used.
+* <p>
+* Under normal circumstances <a href="http://www.orindasoft.com/?adsrc=api" target="_blank class="manual">OrindaBuild</a> users
+* will have no reason to use this class directly - QueryResultCache will use it.
+* <p>
+* <br>(c) Copyright 2003 - 2015 Orinda Software Ltd<p>
+*
+* @see QueryResultCache
+* @version 6.0
+* @author  <a href="http://www.orindasoft.com/?pdsrc=api" target="_blank" class=news>Orinda Software</a>
+*/
+public class QueryResultCacheEntry implements Comparable
+{
+  /**
+  * The key this entry is stored under.
+  */
+  Object cacheKey = null;
+
+  /**
+  * The cached ReadOnlyRowSet.
+  */
+  ReadOnlyRowSet cachedRowSet = null;
+
+  /**
+  * How many bytes we think cachedRowSet uses.
+  */
+  long sizeBytes = 0;
+
+  /**
+  * The tables cachedRowSet was read from, in upper case. May be empty but never null.
+  */
+  String[] tableNames = new String[0];
+
+  /**
+  * When the entry was created, in milliseconds since the epoch.
+  */
+  long createdMillis = 0;
+
+  /**
+  * When the entry expires, in milliseconds since the epoch. 0 means never.
+  */
+  long expiresMillis = 0;
+
+  /**
+  * When the entry was last returned by the cache, in milliseconds since the epoch.
+  */
+  volatile long lastUsedMillis = 0;
+
+  /**
+  * How much the cache wants to keep this entry. Entries with the lowest priority are evicted first.
+  */
+  volatile double evictionPriority = 0;
+
+  /**
+  * A copy of evictionPriority taken just before entries are sorted for eviction. It
+  * does not change during the sort, unlike evictionPriority.
+  */
+  double evictionSortKey = 0;
+
+  /**
+  * Which level of a CacheEvictor's wheel we are in, or -1 if we are not in one.
+  */
+  int wheelLevel = -1;
+
+  /**
+  * Which slot of a CacheEvictor's wheel we are in.
+  */
+  int wheelSlot = 0;
+
+  /**
+  * The CacheEvictor tick at which we are due.
+  */
+  long wheelDueTick = 0;
+
+  /**
+  * <tt>true</tt> once we have expired and are waiting for a CacheEvictor to delete our files.
+  */
+  boolean filesPending = false;
+
+  /**
+  * Create a new entry.
+  * @param Object cacheKey The key this entry is stored under.
+  * @param ReadOnlyRowSet cachedRowSet The ReadOnlyRowSet being cached.
+  * @param long sizeBytes How many bytes we think cachedRowSet uses.
+  * @param long ttlMillis How long the entry lasts. 0 or less means forever.
+  */
+  public QueryResultCacheEntry(Object cacheKey, ReadOnlyRowSet cachedRowSet, long sizeBytes, long ttlMillis)
+    {
+    this(cacheKey, cachedRowSet, sizeBytes, ttlMillis, null);
+    }
+
+  /**
+  * Create a new entry that depends on some tables.
+  * @param Object cacheKey The key this entry is stored under.
+  * @param ReadOnlyRowSet cachedRowSet The ReadOnlyRowSet being cached.
+  * @param long sizeBytes How many bytes we think cachedRowSet uses.
+  * @param long ttlMillis How long the entry lasts. 0 or less means forever.
+  * @param String[] tableNames The tables cachedRowSet was read from, in upper case. May be null.
+  */
+  public QueryResultCacheEntry(Object cacheKey, ReadOnlyRowSet cachedRowSet, long sizeBytes, long ttlMillis, String[] tableNames)
+    {
+    this.cacheKey = cacheKey;
+
+    if (tableNames != null)
+      {
+      this.tableNames = tableNames;
+      }
+
+    this.cachedRowSet = cachedRowSet;
+    this.sizeBytes = sizeBytes;
+    createdMillis = System.currentTimeMillis();
+    lastUsedMillis = createdMillis;
+
+    if (ttlMillis > 0)
+      {
+      expiresMillis = createdMillis + ttlMillis;
+      }
+    }
+
+  /**
+  * Return the key this entry is stored under.
+  * @return Object the key.
+  */
+  public Object getCacheKey()
+    {
+    return(cacheKey);
+    }
+
+  /**
+  * Return the cached ReadOnlyRowSet.
+  * @return ReadOnlyRowSet the cached rows.
+  */
+  public ReadOnlyRowSet getCachedRowSet()
+    {
+    return(cachedRowSet);
+    }
+
+  /**
+  * Return how many bytes we think the cached ReadOnlyRowSet uses.
+  * @return long the estimated size in bytes.
+  */
+  public long getSizeBytes()
+    {
+    return(sizeBytes);
+    }
+
+  /**
+  * Return the tables the cached ReadOnlyRowSet was read from.
+  * @return String[] the table names in upper case.
+  */
+  public String[] getTableNames()
+    {
+    return(tableNames);
+    }
+
+  /**
+  * Return when the entry expires.
+  * @return long milliseconds since the epoch, or 0 if it never expires.
+  */
+  public long getExpiresMillis()
+    {
+    return(expiresMillis);
+    }
+
+  /**
+  * Return how much the cache wants to keep the entry.
+  * @return double the priority. Entries with the lowest priority are evicted first.
+  */
+  public double getEvictionPriority()
+    {
+    return(evictionPriority);
+    }
+
+  /**
+  * Return when the entry was last used.
+  * @return long milliseconds since the epoch.
+  */
+  public long getLastUsedMillis()
+    {
+    return(lastUsedMillis);
+    }
+
+  /**
+  * Return <tt>true</tt> if the entry has expired.
+  * @param long nowMillis The current time in milliseconds since the epoch.
+  * @return boolean <tt>true</tt> if the entry has an expiry time and it has passed.
+  */
+  public boolean hasExpired(long nowMillis)
+    {
+    return(expiresMillis > 0 && nowMillis >= expiresMillis);
+    }
+
+  /**
+  * Compare two entries by evictionSortKey so that the one the cache least wants to keep comes first.
+  * @param Object otherEntry Another QueryResultCacheEntry.
+  * @return int A negative number if this entry should be evicted first.
+  */
+  public int compareTo(Object otherEntry)
+    {
+    double otherSortKey = ((QueryResultCacheEntry)otherEntry).evictionSortKey;
+
+    if (evictionSortKey < otherSortKey)
+      {
+      return(-1);
+      }
+    else if (evictionSortKey > otherSortKey)
+      {
+      return(1);
+      }
+
+    return(0);
+    }
+}
+
@@ -1,819 +1,1902 @@
-package com.orindasoft.pub;
-
-// We are working with JDBC
-import java.sql.*;
-
-// We use a HashMap to cache results
-import java.util.HashMap;
-
-// We use Set and Iterator to purge results from the cache.
-import java.util.Set;
-import java.util.Iterator;
-import java.util.Map;
-
-// We may use stats
-import com.orindasoft.pub.StatsInterface;
-
-/**
-* A SELECT statement with caching.
-* <p>
-* This class implements a parameterized SQL statement with query result caching
-* that continues to exist even if the connection it uses is withdrawn. It extends
-* DMLStatement
-* <p>
-* <br>(c) Copyright 2003 - 2015 Orinda Software Ltd<p>
-*
-* @version 6.0
-* @author  <a href="http://www.orindasoft.com/?pdsrc=api" target="_blank" class=news>Orinda Software</a>
-* @since 2.0.1477: execute() will now attempt to reparse if the first attempt at execution fails
-*/
-public class QueryStatement extends DmlStatement implements OracleResourceUser
-                                                          , StatsInterface
-{
-  /**
-  * Default value for how many rows returned by a query we actually use...
-  */
-  public static final int DEFAULT_QUERY_ROWS = 10000;
-
-  /**
-  * Default value for how many different queries we can cache...
-  */
-  public static final int DEFAULT_QUERIES_CACHED = 5000;
-
-  /**
-  * Constant for caching data for the life of the class. Usage:
-  * <tr>setCacheSeconds(CACHE_FOREVER);</tr>
-  */
-  public static final int CACHE_FOREVER = -1;
-
-  /**
-  * Constant for not caching data. Usage:
-  * <tr>setCacheSeconds(CACHE_NEVER);</tr>
-  */
-  public static final int CACHE_NEVER = 0;
-
-  /**
-  * How many rows returned by a query we actually use...
-  */
-  int maxQueryRows = DEFAULT_QUERY_ROWS;
-
-  /**
-  * How long we cache the results for. Setting this to a non-zero value turns caching on.
-  */
-  int maxCacheSeconds = CACHE_NEVER;
-
-  /**
-  * The maximum number of rows we will cache. Once this limit is reached nothing
-  * will be added to the cache until space is freed up.
-  */
-  int maxCacheRows = DEFAULT_QUERIES_CACHED;
-
-  /**
-  * Cached results of queries...
-  */
-  HashMap cachedQueryResults = new HashMap();
-
-  /**
-  * Signature of latest set of results.
-  */
-  String latestQuerySignature = null;
-
-  /**
-  * Variable to store Buffer Size for file access.
-  */
-  protected int bufferSize = 4096;
-
-  /**
-  * Variable to store boolean flag that indicates whether created files should be deletes when the JVM exits.
-  */
-  protected boolean keepFiles = true;
-
-  /**
-  * Variable to store boolean flag that indicates whether we should turn LOBs into files or not.
-  */
-  protected boolean keepLobs = false;
-
-  /**
-  * boolean flag that specifies whether lobs such as CLOBS, BLOBS and BFILES
-  * and LONG columns
-  * will be kept as byte arrays. This only works if keepFiles == false.
-  * @since JDBCWizard 5.0.2314
-  */
-  protected boolean useByteArraysForLongsAndLOBS = false;
-
-  /**
-  * Variable to store temporary directory for downloaded files.
-  * If you are downloading lots of files you will want to change this to
-  * an application specific directory
-  */
-  protected java.io.File tempFileDir = IOUtils.getOsTempDir();
-
-  /**
-  * The Prefix for downloaded files containing BLOB, CLOB and BFILE data
-  */
-  protected String tempFilePrefix = "OSOFT";
-
-  /**
-  * The Suffix for downloaded files containing BLOB, CLOB and BFILE data
-  */
-  protected String tempFileSuffix = "..tmp";
-
-  /**
-  * Counter for number of Parses - used by StatsInterface
-  * @see StatsInterface
-  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
-  */
-  long parseCount = 0;
-
-  /**
-  * Counter for amount of time spent parsing in milliseconds - used by StatsInterface
-  * @see StatsInterface
-  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
-  */
-  long parseTimeMilliseconds = 0;
-
-  /**
-  * Counter for number of executions - used by StatsInterface
-  * @see StatsInterface
-  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
-  */
-  long executionCount = 0;
-
-  /**
-  * Counter for amount of time spent executing - used by StatsInterface
-  * @see StatsInterface
-  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
-  */
-  long executionTimeMilliseconds = 0;
-
-  /**
-  * Counter for amount of time spent retrieving - used by StatsInterface
-  * @see StatsInterface
-  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
-  */
-  long retrieveTimeMilliseconds = 0;
-
-  /**
-  * Counter for number of Connection Releases - used by StatsInterface
-  * @see StatsInterface
-  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
-  */
-  long releaseCount = 0;
-
-  /**
-  * Counter for number of Errors - used by StatsInterface
-  * @see StatsInterface
-  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
-  */
-  long errorCount = 0;
-
-  /**
-  * Counter for how long a statement has spent executing or parsing - used by StatsInterface
-  * @see StatsInterface
-  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
-  */
-  long statsEventTimer = 0;
-
-  /**
-  * Create a DML Statement object and give it a connection
-  */
-  public QueryStatement(String statementSqlText, LogInterface theLog, Connection theConnection)
-    {
-    super(statementSqlText,theLog);
-    setConnection(theConnection);
-    }
-
-  /**
-  * Create a DML Statement object.
-  */
-  public QueryStatement(String statementSqlText, LogInterface theLog)
-    {
-    super(statementSqlText,theLog);
-    }
-
-  /**
-  * Specify how long results will be cached.
-  *
-  * Setting this to a non-zero value turns caching on.
-  * @param int newCacheSeconds
-  */
-  public void setCacheSeconds(int newCacheSeconds)
-    {
-    if (newCacheSeconds >= CACHE_FOREVER)
-      {
-      maxCacheSeconds = newCacheSeconds;
-      }
-    }
-
-  /**
-  * Specify how many results will be cached.
-  *
-  * By default this is DEFAULT_QUERIES_CACHED.
-  * @param int newCacheSeconds
-  */
-  public void setCacheRows(int newCacheRows)
-    {
-    if (newCacheRows >= 0)
-      {
-      maxCacheRows = newCacheRows;
-      }
-    }
-
-  /**
-  * Return the number of queries currently in the cache.
-  */
-  public int getCacheSize()
-    {
-    return (cachedQueryResults.size());
-    }
-
-
-  /**
-  * Clear the cache.
-  */
-  public void clearCache()
-    {
-    cachedQueryResults = new HashMap();
-    }
-
-  /**
-  * Specify how many rows can be brought back
-  *
-  * @param int newQueryRows
-  */
-  public void setQueryRows(int newQueryRows)
-    {
-    if (newQueryRows >= 0)
-      {
-      maxQueryRows = newQueryRows;
-      }
-    }
-
-  /**
-  * Execute the statement and return a ReadOnlyRowSet
-  *
-  * If caching is in use the cache will be checked and a cached
-  * copy returned if possible.
-  * 
-  * @since 2.0.1477: execute() will now attempt to reparse if the first attempt at execution fails
-  * @since 5.0.2314 'useByteArraysForLongsAndLOBS' added.
-  * @return ReadOnlyRowSet The results from this query
-  * @throws CSException
-  */
-  public ReadOnlyRowSet execute() throws CSException
-    {
-    ReadOnlyRowSet latestQueryRowSet = null;
-
-    // The signature is used to see if we have cached this query already.
-    String parameterSig = getSignature();
-
-    // If we are caching attempt to return a cached copy.
-    // Note that we don't worry about having a connection at this point.
-    // Check our cached copy before we hand it back in case its stale.
-    if (   maxCacheSeconds != CACHE_NEVER // Caching is turned on
-        && cachedQueryResults.containsKey(parameterSig)) // The cache contains our query
-      {
-      //A cached copy exists....
-      ReadOnlyRowSet tempRowSet = (ReadOnlyRowSet)cachedQueryResults.get(parameterSig);
-
-      // check expiry date
-      if (maxCacheSeconds != CACHE_FOREVER && tempRowSet.hasExpired())
-        {
-        // but it's too old.
-        // Remove it from HashMap
-        cachedQueryResults.remove(parameterSig);
-        }
-      else
-        {
-        // Its ok so we'll return it.
-        // Increment hit counter and return the temp row set.
-        tempRowSet.incrementTimesUsed();
-        return(tempRowSet);
-        }
-      }
-
-    // Since we can't find it in the cache we're going to have to go to the DB...
-
-    // Complain if we are without a connection...
-    testConnection();
-
-    try
-      {
-      // Create prepared Statement if we need to.
-      startStatsTimer();
-      createPreparedStatement();
-      incParseCount();
-
-      //If we have any parameters bind them
-      bindParameters(thePreparedStatement);
-
-      // Execute our query
-      startStatsTimer();
-      ResultSet theResultSet = thePreparedStatement.executeQuery();
-      incExecutionCount();
-
-      // Retrieve the results into a ReadOnlyRowSet
-      startStatsTimer();
-      latestQueryRowSet = new ReadOnlyRowSet(theResultSet, statementSqlText
-                              ,maxQueryRows, theLog,tempFileDir,keepFiles
-                              ,tempFilePrefix,tempFileSuffix
-                              ,keepLobs, useByteArraysForLongsAndLOBS);
-      latestQuerySignature = new String(parameterSig);
-      incRetrieveTime();
-
-      }
-    catch (SQLException e)
-      {
-      // Something went wrong - it could be that since we last tried to use this
-      // connection object someone called COMMIT or ROLLBACK and destroyed our
-      // prepared statement. Try once more.
-
-      // Force recreation of prepared Statement.
-      thePreparedStatement = null;
-
-      try
-        {
-        // Parse
-        startStatsTimer();
-        createPreparedStatement();
-        incParseCount();
-
-        // Bind
-        bindParameters(thePreparedStatement);
-
-        // Execute
-        startStatsTimer();
-        ResultSet theResultSet = thePreparedStatement.executeQuery();
-        incExecutionCount();
-
-        // Retrieve
-        startStatsTimer();
-        latestQueryRowSet = new ReadOnlyRowSet(theResultSet, statementSqlText
-                                ,maxQueryRows, theLog,tempFileDir,keepFiles
-                                ,tempFilePrefix,tempFileSuffix
-                                ,keepLobs);
-        latestQuerySignature = new String(parameterSig);
-        incRetrieveTime();
-        }
-      catch (SQLException e2)
-        {
-        // if we get here it means that we had an error, reset everything, tried again
-        // and still got an error. It's time to give up.
-        thePreparedStatement = null;
-        throw new CSDBException(e2.getErrorCode(),e2.getSQLState(),statementSqlText
-          ,"Unable to execute this statement. First Message:" + e.getMessage()
-          +" Second Message:" + e2.getMessage());
-        }
-      }
-
-    // If some form of caching is in use...
-    if (maxCacheSeconds != CACHE_NEVER)
-      {
-      if (cachedQueryResults.size() >= maxCacheRows)
-        {
-        // Unable to cache query results due to cache being full.
-        }
-      else if (ResourceWatcher.freeMemAsPct() > ResourceWatcher.MIN_SAFE_MEMORY_PCT)
-        {
-        // If the rows are to be cached for a finite amount of time set an expiry date.
-        if (maxCacheSeconds != CACHE_FOREVER)
-          {
-          latestQueryRowSet.setExpireDate(maxCacheSeconds*1000);
-          }
-
-        cachedQueryResults.put(parameterSig,latestQueryRowSet);
-        }
-      else
-        {
-        theLog.debug("Unable to cache query results for the statement due to shortage of memory. Cache limited to " + cachedQueryResults.size(),false,true);
-        }
-      }
-
-    return (latestQueryRowSet);
-    }
-
-  /**
-  * Remove entries that are too old from the cache
-  * @param int howManyMilliseconds The maximum amount of time to be spent removing entries.
-  * @return int How many entries were removed.
-  */
-  public int purgeExpiredCacheEntries(int howManyMilliseconds)
-    {
-    // Define when we should stop purging the cache because we've used up our
-    // alloted time
-    long endTime = System.currentTimeMillis() + howManyMilliseconds;
-
-    // How many items we have removed so far
-    int howMany = 0;
-
-    Set cachedSet = cachedQueryResults.entrySet();
-    Iterator cachedSetIterator = cachedSet.iterator();
-
-    // Go thorugh the cache and look for stuff thats past its sell by date
-    while (cachedSetIterator.hasNext())
-      {
-      Map.Entry me = (Map.Entry)cachedSetIterator.next();
-      ReadOnlyRowSet aRow = (ReadOnlyRowSet)me.getValue();
-
-      if (aRow.hasExpired())
-        {
-        // Remove row.
-        cachedSetIterator.remove();
-        howMany++;
-        }
-
-      if (endTime < System.currentTimeMillis())
-        {
-        theLog.warning("Ran out of time while trying to purge expired cache entries - " +
-                      "was able to remove " + howMany + " in " + howManyMilliseconds + "ms ");
-        break;
-        }
-      }
-
-    return(howMany);
-    }
-
-  /**
-  * Remove entries that have not been reused from the cache
-  * @param int minAcceptableReuses How many times an entry must have been used to avoid
-  * deletion.
-  * @param int howManyMilliseconds The maximum amount of time to be spent removing entries.
-  * @return int How many entries were removed.
-  */
-  public int purgeUnderusedCacheEntries(int minAcceptableReuses,int howManyMilliseconds)
-    {
-    // Define when we should stop purging the cache because we've used up our
-    // alloted time
-    long endTime = System.currentTimeMillis() + howManyMilliseconds;
-
-    // How many items we have removed so far
-    int howMany = 0;
-
-    Set cachedSet = cachedQueryResults.entrySet();
-    Iterator cachedSetIterator = cachedSet.iterator();
-
-    // Go thorugh the cache and look for stuff that isnt being used...
-    while (cachedSetIterator.hasNext())
-      {
-      Map.Entry me = (Map.Entry)cachedSetIterator.next();
-      ReadOnlyRowSet aRow = (ReadOnlyRowSet)me.getValue();
-
-      if (aRow.getTimesUsed() < minAcceptableReuses)
-        {
-        // Remove row.
-        cachedSetIterator.remove();
-        howMany++;
-        }
-
-      if (endTime < System.currentTimeMillis())
-        {
-        theLog.warning("Ran out of time while trying to purge underused cache entries - " +
-                      "was able to remove " + howMany + " in " + howManyMilliseconds + "ms ");
-        break;
-        }
-      }
-
-    return(howMany);
-    }
-
-  /**
-  * Return an up to date signature of the query parameters.
-  */
-  public String getLatestQuerySignature()
-    {
-    return(latestQuerySignature);
-    }
-
-  /**
-  * Get current file io buffer size
-  * @return int bufferSize Buffersize in bytes.
-  */
-  public int getBufferSize()
-    {
-    return (bufferSize);
-    }
-
-  /**
-  * Get keepFiles flag
-  * @return int <code>true</code> if temporary files are kept after the JVM exits.
-  * @return int <code>false</code> if temporary files are deleted after the JVM exits.
-  */
-  public boolean getKeepFiles()
-    {
-    return (keepFiles);
-    }
-  
-  /**
-  * Get temporary directory
-  * @preturn java.io.File tempFileDir the temporary Directory
-  */
-  public java.io.File getTempDir()
-    {
-    return(tempFileDir);
-    }
-  
-  /**
-  * Get the prefix used for generating temporary files
-  */
-  public String getTempFilePrefix()
-    {
-    return (tempFilePrefix);
-    }
-  
-  /**
-  * Get the suffix used for generating temporary files
-  */
-  public String getTempFileSuffix()
-    {
-    return (tempFileSuffix);
-    }
-  /**
-  * Set new file io buffer size
-  * @param int bufferSize A new Buffersize in bytes.
-  */
-  public void setBufferSize(int bufferSize)
-    {
-    this.bufferSize = bufferSize;
-    }
-  
-  /**
-  * Set keepFiles
-  * @param boolean keepFiles Keep generated files after JVM exits
-  */
-  public void setKeepFiles(boolean keepFiles)
-    {
-    this.keepFiles = keepFiles;
-    }
-
-  /**
-  * Set keepLobs
-  * @param boolean keepLobs Keep LOB objects such as CLOB, BLOB and BFILE as LOBS instead of turning them into files on retrieval.
-  * @since 2.0.1505
-  */
-  public void setKeepLobs(boolean keepLobs)
-    {
-    this.keepLobs = keepLobs;
-    }
-
-  /**
-  * SetUseByteArraysForLongsAndLOBS
-  * @param boolean useByteArraysForLongsAndLOBS  flag that specifies whether lobs such as CLOBS, BLOBS and BFILES
-  * and LONG columns will be kept as byte arrays
-  * @since JDBCWizard 5.0.2314
-  */
-  public void setUseByteArraysForLongsAndLOBS(boolean useByteArraysForLongsAndLOBS)
-    {
-    this.useByteArraysForLongsAndLOBS = useByteArraysForLongsAndLOBS;
-    }
-
-  /**
-  * Get keepLobs
-  * @return boolean keepLobs Keep LOB objects such as CLOB, BLOB and BFILE as LOBS instead of turning them into files on retrieval.
-  * @since 2.0.1505
-  */
-  public boolean getKeepLobs()
-    {
-    return(keepLobs);
-    }
-
-
-  /**
-  * Get keepLobs
-  * @return boolean useByteArraysForLongsAndLOBS flag that specifies whether lobs such as CLOBS, BLOBS and BFILES
-  * and LONG columns will be kept as byte arrays
-  * @since JDBCWizard 5.0.2314
-   */
-  public boolean getUseByteArraysForLongsAndLOBS()
-    {
-    return(useByteArraysForLongsAndLOBS);
-    }
-
-  /**
-  * Set temporary directory
-  * @param java.io.File tempFileDir a new Temporary Directory
-  * @throws CSException if the directory is not viable
-  * @since 2.0.879
-  */
-  public void setTempDir(java.io.File tempFileDir) throws CSException
-    {
-    if (tempFileDir == null)                                   
-      {                                                             
-      throw (new CSException("Attempt made to set tempFileDir to null")); 
-      }                                      
-    else if (! tempFileDir.exists())       
-      {       
-      try    
-        {     
-        theLog.info("Creating temporary directory " + tempFileDir.getAbsolutePath()); 
-        tempFileDir.mkdirs(); 
-        }
-      catch (Exception e) 
-        { 
-        throw (new CSException("tempFileDir " + tempFileDir.getAbsolutePath() + " can not be created"));  
-        } 
-      }  
-    
-    this.tempFileDir = tempFileDir;
-    }
-  
-  /**
-  * Set the prefix used for generating temporary files
-  */
-  public void setTempFilePrefix(String tempFilePrefix)
-    {
-    this.tempFilePrefix = tempFilePrefix;
-    }
-  
-  /**
-  * Set the suffix used for generating temporary files
-  */
-  public void setTempFileSuffix(String tempFileSuffix)
-    {
-    this.tempFileSuffix = tempFileSuffix;
-    }
-
-  /**                                                        
-  * Reset all stats counters to 0. Used to implement StatsInterface    
-  * @see StatsInterface  
-  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
-  */                                                         
-  public void resetStatsCounters()      
-    {                                  
-    parseCount = 0;               
-    executionCount = 0;           
-    parseTimeMilliseconds = 0;               
-    executionTimeMilliseconds = 0;           
-    retrieveTimeMilliseconds = 0;           
-    releaseCount = 0;       
-    errorCount = 0;       
-    }                            
-                             
-  /**                                                        
-  * Return counter containing number of parses. Used to implement StatsInterface    
-  * @see StatsInterface  
-  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
-  */                                                         
-  public long getParses()      
-    {                               
-    return (parseCount);           
-    }                             
-  
-  /**                                                        
-  * Return counter containing time spent parsing in milliseconds. Used to implement StatsInterface    
-  * @see StatsInterface  
-  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
-  */                                                         
-  public long getParseTime()      
-    {                               
-    return (parseTimeMilliseconds);           
-    }                             
-  
-  /**                                                        
-  * Return counter containing number of executions. Used to implement StatsInterface    
-  * @see StatsInterface  
-  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
-  */                                                         
-  public long getExecutions()     
-    {                               
-    return (executionCount);       
-    }                                  
-   
-  /**                                                        
-  * Return counter containing time spent executing statement in milliseconds. Used to implement StatsInterface    
-  * @see StatsInterface  
-  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
-  */                                                         
-  public long getExecutionTime()     
-    {                               
-    return (executionTimeMilliseconds);       
-    }                                  
-   
-  /**                                                        
-  * Return counter containing time spent retrieving data in milliseconds. Used to implement StatsInterface    
-  * @see StatsInterface  
-  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
-  */                                                         
-  public long getRetrievalTime()     
-    {                               
-    return (retrieveTimeMilliseconds);       
-    }                                  
-   
-  /**                                                        
-  * Return counter containing number of releases. Used to implement StatsInterface    
-  * @see StatsInterface  
-  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
-  */                                                         
-  public long getReleases()             
-    {                                
-    return (releaseCount);                
-    }                              
-   
-  /**                                                        
-  * Return counter containing number of errors. Used to implement StatsInterface    
-  * @see StatsInterface  
-  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
-  */                                                         
-  public long getErrors()             
-    {                                
-    return (errorCount);                
-    }                              
-  
-  /**                                          
-  * Start timer used to keep track of parse and execution time - used to implement StatsInterface  
-  * @see StatsInterface  
-  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
-  */                                                       
-  protected void startStatsTimer()      
-    {                                    
-    statsEventTimer = System.currentTimeMillis();
-    }                         
-   
-  /**                                          
-  * Increment counter used to keep track of parses - used to implement StatsInterface  
-  * @see StatsInterface  
-  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
-  */                                                       
-  private void incParseCount()      
-    {                                    
-    parseTimeMilliseconds = parseTimeMilliseconds + (System.currentTimeMillis() - statsEventTimer);
-    statsEventTimer=0;
-    
-    if (parseCount < Long.MAX_VALUE)  
-      {                               
-      parseCount++;                    
-      }                                
-    else 
-      {     
-      theLog.syserror("parse counter is greater than " + parseCount); 
-      }                            
-    }                         
-   
-  /**                                          
-  * Increment counter used to keep track of executions - used to implement StatsInterface  
-  * @see StatsInterface  
-  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
-  */                                                       
-  private void incExecutionCount()   
-    {                               
-    executionTimeMilliseconds = executionTimeMilliseconds + (System.currentTimeMillis() - statsEventTimer);
-    statsEventTimer=0;
-    
-    if (executionCount < Long.MAX_VALUE)  
-      {                                   
-      executionCount++;                   
-      }                                  
-    else  
-      {     
-      theLog.syserror("execution counter is greater than " + executionCount);
-      }                       
-    }                                
-   
-  /**                                          
-  * Increment variable used to keep track of retrieval time - used to implement StatsInterface  
-  * @see StatsInterface  
-  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
-  */                                                       
-  protected void incRetrieveTime()   
-    {                               
-    retrieveTimeMilliseconds = retrieveTimeMilliseconds + (System.currentTimeMillis() - statsEventTimer);
-    statsEventTimer=0;
-    }                                
-   
-  /**                                          
-  * Increment counter used to keep track of releases - used to implement StatsInterface  
-  * @see StatsInterface  
-  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
-  */                                                       
-  private void incReleaseCount()     
-    {                                  
-    if (releaseCount < Long.MAX_VALUE)   
-      {                                   
-      releaseCount++;                  
-      }                                    
-    else  
-      {      
-      theLog.syserror("release counter is greater than " + releaseCount);
-      }                          
-    } 
-   
-  /**                                          
-  * Increment counter used to keep track of errors - used to implement StatsInterface  
-  * @see StatsInterface  
-  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
-  */                                                       
-  private void incErrorCount()     
-    {                                  
-    if (errorCount < Long.MAX_VALUE)   
-      {                                   
-      errorCount++;                  
-      }                                    
-    else  
-      {      
-      theLog.syserror("error counter is greater than " + releaseCount);
-      }                          
-    } 
-}
-
-
-
+package com.orindasoft.pub;
+
+// We are working with JDBC
+import java.sql.*;
+
+// We may use stats
+import com.orindasoft.pub.StatsInterface;
+
+// We may wait for another statement that is running the same query
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+// We refresh cached results that are about to expire in the background
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.RejectedExecutionException;
+
+// Asynchronous executions lease their connections from a DataSource
+import javax.sql.DataSource;
+
+// We tell the driver what types our columns are so it doesn't have to find out
+import oracle.jdbc.OraclePreparedStatement;
+import oracle.jdbc.OracleTypes;
+
+/**
+* A SELECT statement with caching.
+* <p>
+* This class implements a parameterized SQL statement with query result caching
+* that continues to exist even if the connection it uses is withdrawn. It extends
+* DMLStatement
+* <p>
+* <tt>executeAsync()</tt> runs the query on another thread using a connection leased from
+* a DataSource, so many independent queries can be started at once and waited for together.
+* <p>
+* <br>(c) Copyright 2003 - 2015 Orinda Software Ltd<p>
+*
+* @version 6.0
+* @author  <a href="http://www.orindasoft.com/?pdsrc=api" target="_blank" class=news>Orinda Software</a>
+* @since 2.0.1477: execute() will now attempt to reparse if the first attempt at execution fails
+*/
+public class QueryStatement extends DmlStatement implements OracleResourceUser
+                                                          , StatsInterface
+{
+  /**
+  * Default value for how many rows returned by a query we actually use...
+  */
+  public static final int DEFAULT_QUERY_ROWS = 10000;
+
+  /**
+  * Default value for how many different queries we can cache...
+  */
+  public static final int DEFAULT_QUERIES_CACHED = 5000;
+
+  /**
+  * Constant for caching data for the life of the class. Usage:
+  * <tr>setCacheSeconds(CACHE_FOREVER);</tr>
+  */
+  public static final int CACHE_FOREVER = -1;
+
+  /**
+  * Constant for not caching data. Usage:
+  * <tr>setCacheSeconds(CACHE_NEVER);</tr>
+  */
+  public static final int CACHE_NEVER = 0;
+
+  /**
+  * How many threads the default refresh executor uses to refresh cached results.
+  */
+  public static final int DEFAULT_REFRESH_THREADS = 2;
+
+  /**
+  * How many refreshes can be waiting for a thread before new ones are skipped.
+  */
+  public static final int DEFAULT_REFRESH_QUEUE_SIZE = 1000;
+
+  /**
+  * Runs background refreshes for every QueryStatement that isn't given an Executor of its own.
+  * Created when first needed.
+  */
+  private static ThreadPoolExecutor defaultRefreshExecutor = null;
+
+  /**
+  * How many threads the default async executor uses to run queries.
+  */
+  public static final int DEFAULT_ASYNC_THREADS = 16;
+
+  /**
+  * How many asynchronous queries can be waiting for a thread before new ones are refused.
+  */
+  public static final int DEFAULT_ASYNC_QUEUE_SIZE = 10000;
+
+  /**
+  * Runs executeAsync() for every QueryStatement that isn't given an Executor of its own.
+  * Created when first needed.
+  */
+  private static ThreadPoolExecutor defaultAsyncExecutor = null;
+
+  /**
+  * How many rows returned by a query we actually use...
+  */
+  int maxQueryRows = DEFAULT_QUERY_ROWS;
+
+  /**
+  * How long we cache the results for. Setting this to a non-zero value turns caching on.
+  */
+  int maxCacheSeconds = CACHE_NEVER;
+
+  /**
+  * Cached results of queries. The cache is safe to use from more than one thread and
+  * limits itself both by number of entries and by estimated size in bytes.
+  */
+  QueryResultCache resultCache = new QueryResultCache();
+
+  /**
+  * The tables our results are read from. Worked out from the SQL when first needed.
+  */
+  String[] cacheTableNames = null;
+
+  /**
+  * If true and another statement using our cache is already running the same query with the
+  * same parameters we wait for its results instead of running it again.
+  */
+  boolean coalesceMisses = true;
+
+  /**
+  * If a cached result is used this many seconds or less before it expires we run the
+  * query again in the background and replace it. 0 means we don't.
+  */
+  int refreshAheadSeconds = 0;
+
+  /**
+  * Runs our background refreshes, or null to use the default.
+  */
+  Executor refreshExecutor = null;
+
+  /**
+  * Runs our asynchronous executions, or null to use the default.
+  */
+  Executor asyncExecutor = null;
+
+  /**
+  * Signature of latest set of results.
+  */
+  String latestQuerySignature = null;
+
+  /**
+  * Variable to store Buffer Size for file access.
+  */
+  protected int bufferSize = 4096;
+
+  /**
+  * Variable to store boolean flag that indicates whether created files should be deletes when the JVM exits.
+  */
+  protected boolean keepFiles = true;
+
+  /**
+  * Variable to store boolean flag that indicates whether we should turn LOBs into files or not.
+  */
+  protected boolean keepLobs = false;
+
+  /**
+  * boolean flag that specifies whether lobs such as CLOBS, BLOBS and BFILES
+  * and LONG columns
+  * will be kept as byte arrays. This only works if keepFiles == false.
+  * @since JDBCWizard 5.0.2314
+  */
+  protected boolean useByteArraysForLongsAndLOBS = false;
+
+  /**
+  * How the ReadOnlyRowSets we create store their data.
+  * @see ReadOnlyRowSet#STORAGE_ROWS
+  * @see ReadOnlyRowSet#STORAGE_COLUMNAR
+  */
+  protected int storageMode = ReadOnlyRowSet.STORAGE_ROWS;
+
+  /**
+  * Variable to store temporary directory for downloaded files.
+  * If you are downloading lots of files you will want to change this to
+  * an application specific directory
+  */
+  protected java.io.File tempFileDir = IOUtils.getOsTempDir();
+
+  /**
+  * The Prefix for downloaded files containing BLOB, CLOB and BFILE data
+  */
+  protected String tempFilePrefix = "OSOFT";
+
+  /**
+  * The Suffix for downloaded files containing BLOB, CLOB and BFILE data
+  */
+  protected String tempFileSuffix = "..tmp";
+
+  /**
+  * How many rows to fetch per round trip. 0 means we work it out from the width of a row,
+  * maxQueryRows and fetchBufferBytes.
+  */
+  protected int fetchSize = 0;
+
+  /**
+  * How much memory the JDBC driver's fetch buffer can use when we work out the fetch size.
+  */
+  protected long fetchBufferBytes = ReadOnlyRowSet.DEFAULT_FETCH_BUFFER_BYTES;
+
+  /**
+  * The fetch size worked out last time we ran. Used for the rows fetched by the execute call next time.
+  */
+  int lastFetchSize = 0;
+
+  /**
+  * If true we remember what our columns look like after the first execution and use it
+  * on later ones instead of describing them again.
+  */
+  boolean defineColumnTypes = true;
+
+  /**
+  * What our columns looked like last time, or null if we haven't run yet.
+  */
+  ReadOnlyRowSet columnDescription = null;
+
+  /**
+  * The OracleTypes we define our columns as, or null if we can't define them.
+  */
+  int[] columnDefineTypes = null;
+
+  /**
+  * The last PreparedStatement we defined our columns on. Defines last as long as the statement does.
+  */
+  PreparedStatement definedStatement = null;
+
+  /**
+  * Counter for number of Parses - used by StatsInterface
+  * @see StatsInterface
+  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
+  */
+  long parseCount = 0;
+
+  /**
+  * Counter for amount of time spent parsing in milliseconds - used by StatsInterface
+  * @see StatsInterface
+  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
+  */
+  long parseTimeMilliseconds = 0;
+
+  /**
+  * Counter for number of executions - used by StatsInterface
+  * @see StatsInterface
+  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
+  */
+  long executionCount = 0;
+
+  /**
+  * Counter for amount of time spent executing - used by StatsInterface
+  * @see StatsInterface
+  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
+  */
+  long executionTimeMilliseconds = 0;
+
+  /**
+  * Counter for amount of time spent retrieving - used by StatsInterface
+  * @see StatsInterface
+  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
+  */
+  long retrieveTimeMilliseconds = 0;
+
+  /**
+  * Counter for number of Connection Releases - used by StatsInterface
+  * @see StatsInterface
+  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
+  */
+  long releaseCount = 0;
+
+  /**
+  * Counter for number of Errors - used by StatsInterface
+  * @see StatsInterface
+  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
+  */
+  long errorCount = 0;
+
+  /**
+  * Counter for how long a statement has spent executing or parsing - used by StatsInterface
+  * @see StatsInterface
+  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
+  */
+  long statsEventTimer = 0;
+
+  /**
+  * Create a DML Statement object and give it a connection
+  */
+  public QueryStatement(String statementSqlText, LogInterface theLog, Connection theConnection)
+    {
+    super(statementSqlText,theLog);
+    setConnection(theConnection);
+    }
+
+  /**
+  * Create a DML Statement object.
+  */
+  public QueryStatement(String statementSqlText, LogInterface theLog)
+    {
+    super(statementSqlText,theLog);
+    }
+
+  /**
+  * Create a copy of a QueryStatement with the same settings, cache, connection and
+  * parameter values but its own PreparedStatement. If the original uses a
+  * ConnectionPool the copy borrows its own connection from it instead. Background
+  * refreshes only use copies of statements that have a pool.
+  * @param QueryStatement sourceStatement The statement to copy.
+  * @since 6.0
+  */
+  protected QueryStatement(QueryStatement sourceStatement)
+    {
+    this(sourceStatement.statementSqlText, sourceStatement.theLog);
+
+    if (sourceStatement.theConnectionPool != null)
+      {
+      setConnectionPool(sourceStatement.theConnectionPool);
+      }
+    else
+      {
+      setConnection(sourceStatement.theConnection);
+      }
+
+    maxQueryRows = sourceStatement.maxQueryRows;
+    maxCacheSeconds = sourceStatement.maxCacheSeconds;
+    resultCache = sourceStatement.resultCache;
+    cacheTableNames = sourceStatement.cacheTableNames;
+    coalesceMisses = sourceStatement.coalesceMisses;
+    refreshExecutor = sourceStatement.refreshExecutor;
+    asyncExecutor = sourceStatement.asyncExecutor;
+    bufferSize = sourceStatement.bufferSize;
+    keepFiles = sourceStatement.keepFiles;
+    keepLobs = sourceStatement.keepLobs;
+    useByteArraysForLongsAndLOBS = sourceStatement.useByteArraysForLongsAndLOBS;
+    storageMode = sourceStatement.storageMode;
+    tempFileDir = sourceStatement.tempFileDir;
+    tempFilePrefix = sourceStatement.tempFilePrefix;
+    tempFileSuffix = sourceStatement.tempFileSuffix;
+    fetchSize = sourceStatement.fetchSize;
+    fetchBufferBytes = sourceStatement.fetchBufferBytes;
+    useStatementCache = sourceStatement.useStatementCache;
+    lastFetchSize = sourceStatement.lastFetchSize;
+    defineColumnTypes = sourceStatement.defineColumnTypes;
+    columnDescription = sourceStatement.columnDescription;
+    columnDefineTypes = sourceStatement.columnDefineTypes;
+
+    System.arraycopy(sourceStatement.parameterArray, 0, parameterArray, 0, parameterArray.length);
+    System.arraycopy(sourceStatement.inputParameterSetArray, 0, inputParameterSetArray, 0, inputParameterSetArray.length);
+    System.arraycopy(sourceStatement.inputParameterFilesizeArray, 0, inputParameterFilesizeArray, 0, inputParameterFilesizeArray.length);
+    System.arraycopy(sourceStatement.parameterTypeArray, 0, parameterTypeArray, 0, parameterTypeArray.length);
+    System.arraycopy(sourceStatement.parameterOpaqueTypeNameArray, 0, parameterOpaqueTypeNameArray, 0, parameterOpaqueTypeNameArray.length);
+    System.arraycopy(sourceStatement.parameterLongArray, 0, parameterLongArray, 0, parameterLongArray.length);
+    System.arraycopy(sourceStatement.parameterDoubleArray, 0, parameterDoubleArray, 0, parameterDoubleArray.length);
+    }
+
+  /**
+  * Specify how long results will be cached.
+  *
+  * Setting this to a non-zero value turns caching on.
+  * @param int newCacheSeconds
+  */
+  public void setCacheSeconds(int newCacheSeconds)
+    {
+    if (newCacheSeconds >= CACHE_FOREVER)
+      {
+      maxCacheSeconds = newCacheSeconds;
+      }
+    }
+
+  /**
+  * Specify how many results will be cached.
+  *
+  * By default this is DEFAULT_QUERIES_CACHED. When the limit is reached the
+  * least recently used results are removed to make room.
+  * @param int newCacheRows
+  */
+  public void setCacheRows(int newCacheRows)
+    {
+    resultCache.setMaxEntries(newCacheRows);
+    }
+
+  /**
+  * Specify how many bytes of memory cached results can use.
+  *
+  * By default this is QueryResultCache.DEFAULT_MAX_BYTES. When the limit is reached the
+  * results that are biggest for how often they are used are removed to make room.
+  * Results that would be bigger than <tt>setCacheMaxEntryBytes()</tt> on their own are not cached.
+  * @param long newCacheBytes
+  * @since 6.0
+  */
+  public void setCacheBytes(long newCacheBytes)
+    {
+    resultCache.setMaxBytes(newCacheBytes);
+    }
+
+  /**
+  * Return roughly how many bytes of memory cached results are using.
+  * @since 6.0
+  */
+  public long getCacheBytes()
+    {
+    return (resultCache.getBytes());
+    }
+
+  /**
+  * Specify how many bytes of memory a single cached result can use. Bigger results
+  * are not cached. By default this is QueryResultCache.DEFAULT_MAX_ENTRY_PCT percent
+  * of the limit set by <tt>setCacheBytes()</tt>.
+  * @param long newCacheMaxEntryBytes The new limit, or -1 to use the default.
+  * @since 6.0
+  */
+  public void setCacheMaxEntryBytes(long newCacheMaxEntryBytes)
+    {
+    resultCache.setMaxEntryBytes(newCacheMaxEntryBytes);
+    }
+
+  /**
+  * Use the cache shared by every QueryStatement in this JVM instead of a cache of
+  * our own. Statements running the same SQL with the same parameters will then share
+  * results, and results will be removed when a DmlStatement changes one of their tables.
+  * <p>
+  * Caching still has to be turned on with <tt>setCacheSeconds()</tt>. Note that
+  * <tt>setCacheRows()</tt>, <tt>setCacheBytes()</tt> and <tt>clearCache()</tt> then affect the
+  * shared cache, and so every statement using it.
+  * @since 6.0
+  */
+  public void useSharedResultCache()
+    {
+    setResultCache(QueryResultCache.getSharedCache());
+    }
+
+  /**
+  * Specify which cache we use. Several statements can be given the same cache.
+  * @param QueryResultCache newResultCache The cache to use.
+  * @since 6.0
+  */
+  public void setResultCache(QueryResultCache newResultCache)
+    {
+    if (newResultCache != null)
+      {
+      resultCache = newResultCache;
+      }
+    }
+
+  /**
+  * Return the cache we use.
+  * @return QueryResultCache our cache.
+  * @since 6.0
+  */
+  public QueryResultCache getResultCache()
+    {
+    return (resultCache);
+    }
+
+  /**
+  * Specify which tables our results are read from. Cached results are removed when any of
+  * these tables is invalidated. By default the names are found by looking at the SQL,
+  * which does not find tables used inside views or PL/SQL functions.
+  * @param String[] newCacheTableNames The table names.
+  * @since 6.0
+  */
+  public void setCacheTableNames(String[] newCacheTableNames)
+    {
+    cacheTableNames = newCacheTableNames;
+    }
+
+  /**
+  * Return the names of the tables our results are read from.
+  * @return String[] the table names.
+  * @since 6.0
+  */
+  public String[] getCacheTableNames()
+    {
+    if (cacheTableNames == null)
+      {
+      cacheTableNames = SqlUtils.getTableNames(statementSqlText);
+      }
+
+    return (cacheTableNames);
+    }
+
+  /**
+  * Return the number of queries currently in the cache.
+  */
+  public int getCacheSize()
+    {
+    return (resultCache.size());
+    }
+
+
+  /**
+  * Clear the cache.
+  */
+  public void clearCache()
+    {
+    resultCache.clear();
+    }
+
+  /**
+  * Specify how many rows can be brought back
+  *
+  * @param int newQueryRows
+  */
+  public void setQueryRows(int newQueryRows)
+    {
+    if (newQueryRows >= 0)
+      {
+      maxQueryRows = newQueryRows;
+      }
+    }
+
+  /**
+  * Specify how many rows the JDBC driver fetches per round trip.
+  * <p>
+  * By default the fetch size is worked out from the width of a row so that the driver's
+  * fetch buffer uses no more than <tt>getFetchBufferBytes()</tt>, and is never more than
+  * the number of rows we are going to read. The first execution only knows how wide a row
+  * is once the query has run, so its first round trip uses the driver's default; later
+  * executions use the size worked out last time from the start.
+  * @param int newFetchSize How many rows to fetch, or 0 to work it out.
+  * @since 6.0
+  */
+  public void setFetchSize(int newFetchSize)
+    {
+    if (newFetchSize >= 0)
+      {
+      fetchSize = newFetchSize;
+      }
+    }
+
+  /**
+  * Return the fetch size given to <tt>setFetchSize()</tt>.
+  * @return int fetchSize, or 0 if it is worked out for each query.
+  * @since 6.0
+  */
+  public int getFetchSize()
+    {
+    return(fetchSize);
+    }
+
+  /**
+  * Specify how much memory the JDBC driver's fetch buffer can use when the fetch size is
+  * worked out for us. The default is ReadOnlyRowSet.DEFAULT_FETCH_BUFFER_BYTES.
+  * @param long newFetchBufferBytes
+  * @since 6.0
+  */
+  public void setFetchBufferBytes(long newFetchBufferBytes)
+    {
+    if (newFetchBufferBytes > 0)
+      {
+      fetchBufferBytes = newFetchBufferBytes;
+      }
+    }
+
+  /**
+  * Return how much memory the JDBC driver's fetch buffer can use when the fetch size is worked out for us.
+  * @return long fetchBufferBytes
+  * @since 6.0
+  */
+  public long getFetchBufferBytes()
+    {
+    return(fetchBufferBytes);
+    }
+
+  /**
+  * Tell our PreparedStatement how many rows to fetch when it is executed: the size
+  * given to <tt>setFetchSize()</tt>, or the one worked out last time. Does nothing on
+  * our first execution if no size was given.
+  * @throws SQLException
+  */
+  protected void setStatementFetchSize() throws SQLException
+    {
+    int nextFetchSize = fetchSize;
+
+    if (nextFetchSize == 0)
+      {
+      // setQueryRows() may have been called since. Done in long as maxQueryRows
+      // may be Integer.MAX_VALUE.
+      nextFetchSize = (int)Math.min((long)lastFetchSize, (long)maxQueryRows + 1);
+      }
+
+    if (nextFetchSize > 0)
+      {
+      thePreparedStatement.setFetchSize(nextFetchSize);
+      }
+    }
+
+  /**
+  * Execute the statement and return a ReadOnlyRowSet
+  *
+  * If caching is in use the cache will be checked and a cached
+  * copy returned if possible. Cached results are returned as a RowView
+  * with its own current row, so the rows are shared but the cursor is not.
+  * If another statement sharing our cache is already running the same query
+  * we wait for it to finish and use its results. If <tt>setRefreshAheadSeconds()</tt>
+  * has been called and we have a ConnectionPool, cached results that are close to expiry
+  * are returned straight away and refreshed in the background.
+  * 
+  * @since 2.0.1477: execute() will now attempt to reparse if the first attempt at execution fails
+  * @since 5.0.2314 'useByteArraysForLongsAndLOBS' added.
+  * @return ReadOnlyRowSet The results from this query
+  * @throws CSException
+  */
+  public ReadOnlyRowSet execute() throws CSException
+    {
+    // The key is used to see if we have cached this query already.
+    // The SQL is part of the key as the cache may be shared with other statements.
+    CacheKey cacheKey = null;
+
+    if (maxCacheSeconds != CACHE_NEVER)
+      {
+      cacheKey = getCacheKey(statementSqlText);
+      }
+
+    // If we are caching attempt to return a cached copy.
+    // Note that we don't worry about having a connection at this point.
+    // Check our cached copy before we hand it back in case its stale.
+    // The cache removes expired copies itself and counts hits for us.
+    // If a parameter can't be part of a key we don't cache.
+    if (cacheKey != null) // Caching is turned on
+      {
+      ReadOnlyRowSet tempRowSet = resultCache.get(cacheKey);
+
+      if (tempRowSet != null)
+        {
+        // If it is about to expire get a new copy in the background.
+        if (refreshAheadSeconds > 0)
+          {
+          refreshIfExpiringSoon(cacheKey, tempRowSet);
+          }
+
+        // Its ok so we'll return a view of it.
+        return(createCachedRowSetView(tempRowSet));
+        }
+
+      // If someone else is already running this query wait for them instead.
+      if (coalesceMisses)
+        {
+        CompletableFuture otherLoad = resultCache.startLoad(cacheKey);
+
+        if (otherLoad == null)
+          {
+          // We are running it. Release anyone who waits for us however it turns out.
+          try
+            {
+            return(executeAndCache(cacheKey));
+            }
+          finally
+            {
+            resultCache.finishLoad(cacheKey);
+            }
+          }
+
+        tempRowSet = waitForLoad(otherLoad, cacheKey);
+
+        if (tempRowSet != null)
+          {
+          return(createCachedRowSetView(tempRowSet));
+          }
+
+        // They failed, or their results couldn't be cached. Run it ourselves.
+        }
+      }
+
+    return(executeAndCache(cacheKey));
+    }
+
+  /**
+  * Start a background refresh of a cached result if it will expire within <tt>refreshAheadSeconds</tt>.
+  * Nothing happens if the result never expires, we have no ConnectionPool or the query is
+  * already being run for this key. Without a pool the refresh would have to share our caller's
+  * Connection, where it would queue behind their work and see their uncommitted changes.
+  * @param CacheKey cacheKey The key for our query.
+  * @param ReadOnlyRowSet cachedRowSet The cached result we have just found.
+  */
+  protected void refreshIfExpiringSoon(CacheKey cacheKey, ReadOnlyRowSet cachedRowSet)
+    {
+    java.util.Date expireDate = cachedRowSet.getExpireDate();
+
+    if (expireDate == null || theConnectionPool == null
+        || expireDate.getTime() - System.currentTimeMillis() > refreshAheadSeconds * 1000L)
+      {
+      return;
+      }
+
+    // Only one thread runs the query for a key at a time. If someone else is we leave it to them.
+    if (resultCache.startLoad(cacheKey) != null)
+      {
+      return;
+      }
+
+    // Our caller may carry on using this statement, so the refresh gets a copy.
+    final QueryStatement refreshStatement = new QueryStatement(this);
+    final CacheKey refreshKey = cacheKey;
+
+    try
+      {
+      getRefreshExecutor().execute(new Runnable()
+        {
+        public void run()
+          {
+          refreshStatement.refreshCachedResults(refreshKey);
+          }
+        });
+      }
+    catch (RejectedExecutionException e)
+      {
+      // Too many refreshes waiting. The entry will be loaded again when it expires.
+      resultCache.finishLoad(cacheKey);
+      }
+    }
+
+  /**
+  * Run the query and replace the cached results. Called in the background on a copy of the
+  * statement that asked for the refresh, which is thrown away afterwards.
+  * @param CacheKey cacheKey The key for our query. QueryResultCache.startLoad() must already have been called.
+  */
+  void refreshCachedResults(CacheKey cacheKey)
+    {
+    try
+      {
+      executeAndCache(cacheKey);
+      }
+    catch (CSException e)
+      {
+      theLog.warning("Unable to refresh cached results for " + statementSqlText + ": " + e.getMessage());
+      }
+    finally
+      {
+      resultCache.finishLoad(cacheKey);
+
+      // Close our PreparedStatement and give our connection back to the pool.
+      freeConnection();
+      }
+    }
+
+  /**
+  * Return the Executor that runs our background refreshes.
+  * @return Executor the Executor given to setRefreshExecutor() or the default one.
+  */
+  protected Executor getRefreshExecutor()
+    {
+    if (refreshExecutor != null)
+      {
+      return(refreshExecutor);
+      }
+
+    return(getDefaultRefreshExecutor());
+    }
+
+  /**
+  * Return the Executor shared by every statement that hasn't been given one, creating it if need be.
+  * It uses up to DEFAULT_REFRESH_THREADS daemon threads and refuses work when
+  * DEFAULT_REFRESH_QUEUE_SIZE refreshes are waiting.
+  * @return Executor the default refresh Executor.
+  */
+  private static synchronized Executor getDefaultRefreshExecutor()
+    {
+    if (defaultRefreshExecutor == null)
+      {
+      defaultRefreshExecutor = createDaemonExecutor(DEFAULT_REFRESH_THREADS, DEFAULT_REFRESH_QUEUE_SIZE, "QueryStatement refresh");
+      }
+
+    return(defaultRefreshExecutor);
+    }
+
+  /**
+  * Return the Executor shared by every statement that hasn't been given one for executeAsync(),
+  * creating it if need be. It uses up to DEFAULT_ASYNC_THREADS daemon threads and refuses work when
+  * DEFAULT_ASYNC_QUEUE_SIZE queries are waiting.
+  * @return Executor the default async Executor.
+  */
+  private static synchronized Executor getDefaultAsyncExecutor()
+    {
+    if (defaultAsyncExecutor == null)
+      {
+      defaultAsyncExecutor = createDaemonExecutor(DEFAULT_ASYNC_THREADS, DEFAULT_ASYNC_QUEUE_SIZE, "QueryStatement async");
+      }
+
+    return(defaultAsyncExecutor);
+    }
+
+  /**
+  * Create a fixed size pool of daemon threads that lets its threads go when idle.
+  * @param int threadCount How many threads to use.
+  * @param int queueSize How many tasks can wait before new ones are refused.
+  * @param String threadName What to call the threads.
+  * @return ThreadPoolExecutor a new pool.
+  */
+  private static ThreadPoolExecutor createDaemonExecutor(int threadCount, int queueSize, final String threadName)
+    {
+    ThreadPoolExecutor newExecutor = new ThreadPoolExecutor(threadCount, threadCount
+                                                           ,60, TimeUnit.SECONDS
+                                                           ,new LinkedBlockingQueue(queueSize)
+                                                           ,new ThreadFactory()
+                                                             {
+                                                             public Thread newThread(Runnable theRunnable)
+                                                               {
+                                                               Thread newThread = new Thread(theRunnable, threadName);
+                                                               newThread.setDaemon(true);
+                                                               return(newThread);
+                                                               }
+                                                             });
+
+    // Don't keep idle threads around.
+    newExecutor.allowCoreThreadTimeOut(true);
+
+    return(newExecutor);
+    }
+
+  /**
+  * Execute the statement on another thread using a connection leased from a DataSource.
+  * <p>
+  * The statement is copied with its current parameter values, so it can be given new
+  * values and run again straight away. The copy gets a connection from <tt>dataSource</tt>,
+  * runs <tt>execute()</tt> with the same caching as this statement and closes the connection,
+  * which returns it to the pool if the DataSource is a pooling one. Its PreparedStatement is closed
+  * rather than kept in a StatementCache, as the next execution will have a different connection. The rows are all read before
+  * the connection is given back, so don't use <tt>setKeepLobs(true)</tt>. Background refreshes
+  * aren't started from asynchronous executions as their connection won't be around to use.
+  * <p>
+  * To run several queries at once call this for each of them and then wait for them all, e.g. with
+  * <tt>CompletableFuture.allOf()</tt>.
+  * @param DataSource dataSource Where to get a connection from.
+  * @return CompletableFuture that completes with the ReadOnlyRowSet returned by <tt>execute()</tt>, or
+  * exceptionally with a CSException if a connection can't be had, the query fails or too many are waiting.
+  * @since 6.0
+  */
+  public CompletableFuture<ReadOnlyRowSet> executeAsync(DataSource dataSource)
+    {
+    final CompletableFuture<ReadOnlyRowSet> asyncResult = new CompletableFuture<ReadOnlyRowSet>();
+    final QueryStatement asyncStatement = new QueryStatement(this);
+    final DataSource asyncDataSource = dataSource;
+
+    // Each execution gets a different connection - often a wrapper that won't be seen
+    // again - so there would never be anything to re-use in its StatementCache.
+    asyncStatement.setUseStatementCache(false);
+
+    try
+      {
+      getAsyncExecutor().execute(new Runnable()
+        {
+        public void run()
+          {
+          asyncStatement.executeWithLeasedConnection(asyncDataSource, asyncResult);
+          }
+        });
+      }
+    catch (RejectedExecutionException e)
+      {
+      asyncResult.completeExceptionally(new CSException("Too many asynchronous queries waiting to run " + statementSqlText));
+      }
+
+    return(asyncResult);
+    }
+
+  /**
+  * Execute the statement on another thread using a connection borrowed from a ConnectionPool.
+  * This works the same way as <tt>executeAsync(DataSource)</tt>, except that the connection
+  * is borrowed when the query has to go to the database and given back straight afterwards,
+  * so results found in the cache don't use a connection at all.
+  * @param ConnectionPool connectionPool Where to borrow a connection from.
+  * @return CompletableFuture that completes with the ReadOnlyRowSet returned by <tt>execute()</tt>, or
+  * exceptionally with a CSException if a connection can't be had, the query fails or too many are waiting.
+  * @since 6.0
+  */
+  public CompletableFuture<ReadOnlyRowSet> executeAsync(ConnectionPool connectionPool)
+    {
+    final CompletableFuture<ReadOnlyRowSet> asyncResult = new CompletableFuture<ReadOnlyRowSet>();
+    final QueryStatement asyncStatement = new QueryStatement(this);
+
+    asyncStatement.setConnection(null);
+    asyncStatement.setConnectionPool(connectionPool);
+
+    try
+      {
+      getAsyncExecutor().execute(new Runnable()
+        {
+        public void run()
+          {
+          asyncStatement.executeWithLeasedConnection(null, asyncResult);
+          }
+        });
+      }
+    catch (RejectedExecutionException e)
+      {
+      asyncResult.completeExceptionally(new CSException("Too many asynchronous queries waiting to run " + statementSqlText));
+      }
+
+    return(asyncResult);
+    }
+
+  /**
+  * Run the query using a connection from <tt>dataSource</tt>, or from our ConnectionPool if
+  * <tt>dataSource</tt> is null, and complete <tt>asyncResult</tt>.
+  * Called on an async thread on a copy of the statement passed to executeAsync().
+  * @param DataSource dataSource Where to get a connection from, or null to use our ConnectionPool.
+  * @param CompletableFuture asyncResult What to complete.
+  */
+  void executeWithLeasedConnection(DataSource dataSource, CompletableFuture<ReadOnlyRowSet> asyncResult)
+    {
+    Connection leasedConnection = null;
+
+    try
+      {
+      if (dataSource != null)
+        {
+        leasedConnection = dataSource.getConnection();
+        setConnection(leasedConnection);
+        }
+
+      asyncResult.complete(execute());
+      }
+    catch (SQLException e)
+      {
+      asyncResult.completeExceptionally(new CSDBException(e.getErrorCode(),e.getSQLState(),statementSqlText
+        ,"Unable to get connection: " + e.getMessage()));
+      }
+    catch (Throwable e)
+      {
+      asyncResult.completeExceptionally(e);
+      }
+    finally
+      {
+      freeConnection();
+
+      if (leasedConnection != null)
+        {
+        try
+          {
+          leasedConnection.close();
+          }
+        catch (SQLException e)
+          {
+          theLog.error("Unable to close connection used by " + statementSqlText + " :" + e.getMessage());
+          }
+        }
+      }
+    }
+
+  /**
+  * Return the Executor that runs executeAsync().
+  * @return Executor the Executor given to setAsyncExecutor() or the default one.
+  */
+  protected Executor getAsyncExecutor()
+    {
+    if (asyncExecutor != null)
+      {
+      return(asyncExecutor);
+      }
+
+    return(getDefaultAsyncExecutor());
+    }
+
+  /**
+  * Wait for another statement to finish running our query and return its cached results.
+  * @param CompletableFuture otherLoad What QueryResultCache.startLoad() gave us.
+  * @param CacheKey cacheKey The key for our query.
+  * @return ReadOnlyRowSet The cached results, or null if there aren't any.
+  */
+  private ReadOnlyRowSet waitForLoad(CompletableFuture otherLoad, CacheKey cacheKey)
+    {
+    try
+      {
+      otherLoad.get();
+      }
+    catch (InterruptedException e)
+      {
+      // Keep the interrupt for our caller and go to the database ourselves.
+      Thread.currentThread().interrupt();
+      return(null);
+      }
+    catch (ExecutionException e)
+      {
+      // Can't happen - finishLoad() always completes normally.
+      return(null);
+      }
+
+    return(resultCache.get(cacheKey));
+    }
+
+  /**
+  * Run the query against the database and add the results to the cache if we can.
+  * @param CacheKey cacheKey The key to cache the results under, or null if we aren't caching.
+  * @return ReadOnlyRowSet The results from this query
+  * @throws CSException
+  */
+  protected ReadOnlyRowSet executeAndCache(CacheKey cacheKey) throws CSException
+    {
+    ReadOnlyRowSet latestQueryRowSet = null;
+
+    // Since we can't find it in the cache we're going to have to go to the DB...
+
+    // Complain if we are without a connection...
+    testConnection();
+
+    // If a table is changed while we run the query our results may be out of date already.
+    long invalidationCount = resultCache.getInvalidationCount();
+
+    try
+      {
+      // Create prepared Statement if we need to.
+      startStatsTimer();
+
+      if (createPreparedStatement())
+        {
+        incParseCount();
+        }
+
+      //If we have any parameters bind them
+      bindParameters(thePreparedStatement);
+      setStatementFetchSize();
+      setStatementColumnTypes();
+
+      // Execute our query
+      startStatsTimer();
+      ResultSet theResultSet = thePreparedStatement.executeQuery();
+      incExecutionCount();
+
+      // Retrieve the results into a ReadOnlyRowSet
+      startStatsTimer();
+      latestQueryRowSet = createRowSet(theResultSet);
+      latestQuerySignature = getSignature();
+      incRetrieveTime();
+
+      }
+    catch (SQLException e)
+      {
+      // Something went wrong - it could be that since we last tried to use this
+      // connection object someone called COMMIT or ROLLBACK and destroyed our
+      // prepared statement. Try once more.
+
+      // Force recreation of prepared Statement. The table may have been changed
+      // so find out what the columns look like again.
+      discardPreparedStatement();
+      forgetColumnTypes();
+
+      try
+        {
+        // Parse
+        startStatsTimer();
+
+        if (createPreparedStatement())
+          {
+          incParseCount();
+          }
+
+        // Bind
+        bindParameters(thePreparedStatement);
+        setStatementFetchSize();
+        setStatementColumnTypes();
+
+        // Execute
+        startStatsTimer();
+        ResultSet theResultSet = thePreparedStatement.executeQuery();
+        incExecutionCount();
+
+        // Retrieve
+        startStatsTimer();
+        latestQueryRowSet = createRowSet(theResultSet);
+        latestQuerySignature = getSignature();
+        incRetrieveTime();
+        }
+      catch (SQLException e2)
+        {
+        // if we get here it means that we had an error, reset everything, tried again
+        // and still got an error. It's time to give up.
+        discardPreparedStatement();
+        throw new CSDBException(e2.getErrorCode(),e2.getSQLState(),statementSqlText
+          ,"Unable to execute this statement. First Message:" + e.getMessage()
+          +" Second Message:" + e2.getMessage());
+        }
+      }
+
+    // If some form of caching is in use...
+    if (cacheKey != null)
+      {
+      if (ResourceWatcher.freeMemAsPct() > ResourceWatcher.MIN_SAFE_MEMORY_PCT)
+        {
+        long ttlMillis = 0;
+
+        // If the rows are to be cached for a finite amount of time set an expiry date.
+        if (maxCacheSeconds != CACHE_FOREVER)
+          {
+          ttlMillis = maxCacheSeconds * 1000L;
+          latestQueryRowSet.setExpireDate(ttlMillis);
+          }
+
+        if (resultCache.put(cacheKey,latestQueryRowSet,ttlMillis,getCacheTableNames(),invalidationCount))
+          {
+          // The cached copy is shared, so this caller gets a view of it too.
+          return(createCachedRowSetView(latestQueryRowSet));
+          }
+
+        // Unable to cache query results as they are bigger than the whole cache
+        // or a table changed while we were reading them.
+        }
+      else
+        {
+        theLog.debug("Unable to cache query results for the statement due to shortage of memory. Cache limited to " + resultCache.size(),false,true);
+        }
+      }
+
+    return (latestQueryRowSet);
+    }
+
+  /**
+  * Specify whether we wait for another statement that is already running the same query with
+  * the same parameters instead of running it again. This only matters when caching is turned on
+  * and the cache is shared, either through <tt>useSharedResultCache()</tt> or <tt>setResultCache()</tt>.
+  * The default is <tt>true</tt>.
+  * @param boolean coalesceMisses
+  * @since 6.0
+  */
+  public void setCoalesceMisses(boolean coalesceMisses)
+    {
+    this.coalesceMisses = coalesceMisses;
+    }
+
+  /**
+  * Return whether we wait for other statements running the same query.
+  * @return boolean coalesceMisses
+  * @since 6.0
+  */
+  public boolean getCoalesceMisses()
+    {
+    return(coalesceMisses);
+    }
+
+  /**
+  * Specify how close to expiry a cached result has to be before using it causes it to be refreshed.
+  * <p>
+  * When a cached result is used within this many seconds of expiring it is returned as usual
+  * and the query is run again in the background to replace it, so callers don't have to wait
+  * for the database when it expires. Only one refresh runs for a given query at a time.
+  * The refresh uses a copy of this statement that borrows its own connection from our
+  * ConnectionPool, so this only has an effect if <tt>setConnectionPool()</tt> has been called.
+  * Without a pool results are simply run again when they expire.
+  * Use a value smaller than <tt>setCacheSeconds()</tt>. The default is 0, which turns this off.
+  * @param int newRefreshAheadSeconds
+  * @since 6.0
+  */
+  public void setRefreshAheadSeconds(int newRefreshAheadSeconds)
+    {
+    if (newRefreshAheadSeconds >= 0)
+      {
+      refreshAheadSeconds = newRefreshAheadSeconds;
+      }
+    }
+
+  /**
+  * Return how close to expiry a cached result has to be before using it causes it to be refreshed.
+  * @return int refreshAheadSeconds
+  * @since 6.0
+  */
+  public int getRefreshAheadSeconds()
+    {
+    return(refreshAheadSeconds);
+    }
+
+  /**
+  * Specify the Executor that runs background refreshes. By default a small pool
+  * shared by every QueryStatement is used.
+  * @param Executor newRefreshExecutor The Executor to use, or null for the default.
+  * @since 6.0
+  */
+  public void setRefreshExecutor(Executor newRefreshExecutor)
+    {
+    refreshExecutor = newRefreshExecutor;
+    }
+
+  /**
+  * Specify the Executor that runs <tt>executeAsync()</tt>. By default a pool of
+  * DEFAULT_ASYNC_THREADS threads shared by every QueryStatement is used. As each
+  * execution holds a connection while it runs, the number of threads should be no
+  * more than the DataSource can supply. On a JVM with virtual threads
+  * <tt>Executors.newVirtualThreadPerTaskExecutor()</tt> can be used, in which case the
+  * DataSource's pool size is what limits how many run at once.
+  * @param Executor newAsyncExecutor The Executor to use, or null for the default.
+  * @since 6.0
+  */
+  public void setAsyncExecutor(Executor newAsyncExecutor)
+    {
+    asyncExecutor = newAsyncExecutor;
+    }
+
+  /**
+  * Create the ReadOnlyRowSet that is handed to a caller in place of a cached one.
+  * Each caller gets their own RowView positioned on the first row, so callers
+  * on different threads can move through the same cached rows without affecting
+  * each other and without anything being copied.
+  * @param ReadOnlyRowSet cachedRowSet A ReadOnlyRowSet in the cache.
+  * @return ReadOnlyRowSet A RowView of <tt>cachedRowSet</tt>.
+  */
+  protected ReadOnlyRowSet createCachedRowSetView(ReadOnlyRowSet cachedRowSet)
+    {
+    RowView newRowView = cachedRowSet.createRowView();
+    newRowView.first();
+    return(newRowView);
+    }
+
+  /**
+  * Work out what to define each column as. We only define columns when they are all
+  * types that we fetch as a simple value. Anything else, such as a LOB or LONG, is
+  * left for the driver to describe.
+  * @param ReadOnlyRowSet theColumnDescription What the columns look like.
+  * @return int[] an OracleTypes code for each column, or null if they can't all be defined.
+  */
+  protected int[] getColumnDefineTypes(ReadOnlyRowSet theColumnDescription)
+    {
+    int[] newDefineTypes = new int[theColumnDescription.colCount];
+
+    for (int i=0; i < newDefineTypes.length; i++)
+      {
+      switch (theColumnDescription.underlyingOracleDatatypes[i])
+        {
+        case SqlUtils.ORACLE_TEXT_DATATYPE:
+          newDefineTypes[i] = OracleTypes.VARCHAR;
+          break;
+
+        case SqlUtils.ORACLE_NUMBER_DATATYPE:
+          newDefineTypes[i] = OracleTypes.NUMBER;
+          break;
+
+        case SqlUtils.ORACLE_BINARY_DATATYPE:
+          newDefineTypes[i] = OracleTypes.RAW;
+          break;
+
+        case SqlUtils.ORACLE_DATE_DATATYPE:
+          // STORAGE_LAZY keeps the raw DATE, otherwise we turn it into a Timestamp.
+          if (storageMode == ReadOnlyRowSet.STORAGE_LAZY)
+            {
+            newDefineTypes[i] = OracleTypes.DATE;
+            }
+          else
+            {
+            newDefineTypes[i] = OracleTypes.TIMESTAMP;
+            }
+          break;
+
+        default:
+          return(null);
+        }
+      }
+
+    return(newDefineTypes);
+    }
+
+  /**
+  * Tell our PreparedStatement what types our columns are, if we know and haven't
+  * already told it. If the driver won't take them we stop trying.
+  */
+  protected void setStatementColumnTypes()
+    {
+    if (columnDefineTypes == null || thePreparedStatement == definedStatement)
+      {
+      return;
+      }
+
+    if (! (thePreparedStatement instanceof OraclePreparedStatement))
+      {
+      columnDefineTypes = null;
+      return;
+      }
+
+    OraclePreparedStatement oracleStatement = (OraclePreparedStatement)thePreparedStatement;
+
+    try
+      {
+      for (int i=0; i < columnDefineTypes.length; i++)
+        {
+        oracleStatement.defineColumnType(i+1, columnDefineTypes[i]);
+        }
+
+      definedStatement = thePreparedStatement;
+      }
+    catch (SQLException e)
+      {
+      theLog.debug("Unable to define column types for " + statementSqlText + ": " + e.getMessage());
+      columnDefineTypes = null;
+
+      try
+        {
+        oracleStatement.clearDefines();
+        }
+      catch (SQLException e2)
+        {
+        // The defines will go when the statement does.
+        }
+      }
+    }
+
+  /**
+  * Release the current connection. Column types we defined on our PreparedStatement are
+  * cleared first if it is going in the StatementCache, as whoever takes it out next
+  * won't know about them.
+  */
+  public void freeConnection()
+    {
+    if (thePreparedStatement != null && thePreparedStatement == definedStatement && useStatementCache)
+      {
+      try
+        {
+        ((OraclePreparedStatement)thePreparedStatement).clearDefines();
+        }
+      catch (SQLException e)
+        {
+        // Close it rather than pass it on with the defines still in place.
+        discardPreparedStatement();
+        }
+      }
+
+    definedStatement = null;
+    super.freeConnection();
+    }
+
+  /**
+  * Forget what our columns look like, so they are described again next time we run.
+  */
+  protected void forgetColumnTypes()
+    {
+    columnDescription = null;
+    columnDefineTypes = null;
+    definedStatement = null;
+    }
+
+  /**
+  * Specify whether we remember what our columns look like after the first execution.
+  * <p>
+  * If we do, and every column is a VARCHAR2, CHAR, NUMBER, DATE or RAW, each PreparedStatement has
+  * its column types defined with <tt>OraclePreparedStatement.defineColumnType()</tt>, so the
+  * driver neither has to describe the query nor convert the values to something else first.
+  * Executions on a PreparedStatement whose columns have been defined also use what we remembered
+  * instead of asking the ResultSet's metadata again. Others always ask.
+  * If the query fails the column information is forgotten and read again, in case a table
+  * has been changed. The default is true.
+  * @param boolean defineColumnTypes
+  * @since 6.0
+  */
+  public void setDefineColumnTypes(boolean defineColumnTypes)
+    {
+    this.defineColumnTypes = defineColumnTypes;
+
+    if (! defineColumnTypes)
+      {
+      forgetColumnTypes();
+      }
+    }
+
+  /**
+  * Return whether we remember what our columns look like after the first execution.
+  * @return boolean defineColumnTypes
+  * @since 6.0
+  */
+  public boolean getDefineColumnTypes()
+    {
+    return(defineColumnTypes);
+    }
+
+  /**
+  * Turn a ResultSet into a ReadOnlyRowSet using this statement's settings.
+  * @param ResultSet theResultSet The ResultSet that has just been returned by executeQuery.
+  * @return ReadOnlyRowSet The results from this query
+  * @throws CSException
+  */
+  protected ReadOnlyRowSet createRowSet(ResultSet theResultSet) throws CSException
+    {
+    // What we remember is only known to match the ResultSet if the driver was made to use it.
+    ReadOnlyRowSet knownColumns = null;
+
+    if (columnDefineTypes != null && thePreparedStatement == definedStatement)
+      {
+      knownColumns = columnDescription;
+      }
+
+    ReadOnlyRowSet newRowSet = new ReadOnlyRowSet(theResultSet, statementSqlText
+                                                 ,maxQueryRows, theLog,tempFileDir,keepFiles
+                                                 ,tempFilePrefix,tempFileSuffix
+                                                 ,keepLobs, useByteArraysForLongsAndLOBS
+                                                 ,storageMode, fetchSize, fetchBufferBytes
+                                                 ,knownColumns);
+
+    // Next time the execute call can fetch this many too.
+    lastFetchSize = newRowSet.getFetchSize();
+
+    // Remember what the columns look like now so we can define them next time.
+    if (defineColumnTypes && knownColumns == null)
+      {
+      columnDescription = newRowSet.getColumnDescription();
+      columnDefineTypes = getColumnDefineTypes(columnDescription);
+      }
+
+    return(newRowSet);
+    }
+
+  /**
+  * Execute the statement and return a StreamingRowSet that reads rows one at a time.
+  *
+  * Use this instead of <tt>execute()</tt> for queries that return more rows than you
+  * want to hold in memory at once. The cache is neither checked nor updated. The
+  * StreamingRowSet keeps the ResultSet open until it has been read to the end or
+  * released, so this QueryStatement should not be executed again, or have its connection
+  * freed, until you have finished with it.
+  *
+  * @return StreamingRowSet A forward only RowSet positioned on the first row.
+  * @throws CSException
+  */
+  public StreamingRowSet executeStreaming() throws CSException
+    {
+    StreamingRowSet latestStreamingRowSet = null;
+
+    // Complain if we are without a connection...
+    testConnection();
+
+    try
+      {
+      latestStreamingRowSet = openStreamingRowSet();
+      }
+    catch (SQLException e)
+      {
+      // Try once more with a new prepared statement, just like execute().
+      discardPreparedStatement();
+      forgetColumnTypes();
+
+      try
+        {
+        latestStreamingRowSet = openStreamingRowSet();
+        }
+      catch (SQLException e2)
+        {
+        discardPreparedStatement();
+        throw new CSDBException(e2.getErrorCode(),e2.getSQLState(),statementSqlText
+          ,"Unable to execute this statement. First Message:" + e.getMessage()
+          +" Second Message:" + e2.getMessage());
+        }
+      }
+
+    return(latestStreamingRowSet);
+    }
+
+  /**
+  * Parse, bind and execute this statement and wrap the ResultSet in a StreamingRowSet.
+  * @return StreamingRowSet A forward only RowSet positioned on the first row.
+  * @throws SQLException
+  * @throws CSException
+  */
+  protected StreamingRowSet openStreamingRowSet() throws SQLException, CSException
+    {
+    // Parse
+    startStatsTimer();
+
+    if (createPreparedStatement())
+      {
+      incParseCount();
+      }
+
+    // Bind
+    bindParameters(thePreparedStatement);
+    setStatementFetchSize();
+    setStatementColumnTypes();
+
+    // Execute
+    startStatsTimer();
+    ResultSet theResultSet = thePreparedStatement.executeQuery();
+    incExecutionCount();
+
+    // Retrieval time only covers the first row as the rest are read later.
+    startStatsTimer();
+    StreamingRowSet newStreamingRowSet
+      = new StreamingRowSet(theResultSet, statementSqlText
+                           ,maxQueryRows, theLog,tempFileDir,keepFiles
+                           ,tempFilePrefix,tempFileSuffix
+                           ,keepLobs, useByteArraysForLongsAndLOBS
+                           ,fetchSize, fetchBufferBytes);
+    incRetrieveTime();
+
+    lastFetchSize = newStreamingRowSet.getFetchSize();
+
+    return(newStreamingRowSet);
+    }
+
+  /**
+  * Remove entries that are too old from the cache
+  * @param int howManyMilliseconds The maximum amount of time to be spent removing entries.
+  * @return int How many entries were removed.
+  */
+  public int purgeExpiredCacheEntries(int howManyMilliseconds)
+    {
+    long startTime = System.currentTimeMillis();
+
+    // The cache stops when it has used up our alloted time
+    int howMany = resultCache.purgeExpired(howManyMilliseconds);
+
+    if (System.currentTimeMillis() - startTime > howManyMilliseconds)
+      {
+      theLog.warning("Ran out of time while trying to purge expired cache entries - " +
+                    "was able to remove " + howMany + " in " + howManyMilliseconds + "ms ");
+      }
+
+    return(howMany);
+    }
+
+  /**
+  * Remove entries that have not been reused from the cache
+  * @param int minAcceptableReuses How many times an entry must have been used to avoid
+  * deletion.
+  * @param int howManyMilliseconds The maximum amount of time to be spent removing entries.
+  * @return int How many entries were removed.
+  */
+  public int purgeUnderusedCacheEntries(int minAcceptableReuses,int howManyMilliseconds)
+    {
+    long startTime = System.currentTimeMillis();
+
+    // The cache stops when it has used up our alloted time
+    int howMany = resultCache.purgeUnderused(minAcceptableReuses,howManyMilliseconds);
+
+    if (System.currentTimeMillis() - startTime > howManyMilliseconds)
+      {
+      theLog.warning("Ran out of time while trying to purge underused cache entries - " +
+                    "was able to remove " + howMany + " in " + howManyMilliseconds + "ms ");
+      }
+
+    return(howMany);
+    }
+
+  /**
+  * Return an up to date signature of the query parameters.
+  */
+  public String getLatestQuerySignature()
+    {
+    return(latestQuerySignature);
+    }
+
+  /**
+  * Get current file io buffer size
+  * @return int bufferSize Buffersize in bytes.
+  */
+  public int getBufferSize()
+    {
+    return (bufferSize);
+    }
+
+  /**
+  * Get keepFiles flag
+  * @return int <code>true</code> if temporary files are kept after the JVM exits.
+  * @return int <code>false</code> if temporary files are deleted after the JVM exits.
+  */
+  public boolean getKeepFiles()
+    {
+    return (keepFiles);
+    }
+  
+  /**
+  * Get temporary directory
+  * @preturn java.io.File tempFileDir the temporary Directory
+  */
+  public java.io.File getTempDir()
+    {
+    return(tempFileDir);
+    }
+  
+  /**
+  * Get the prefix used for generating temporary files
+  */
+  public String getTempFilePrefix()
+    {
+    return (tempFilePrefix);
+    }
+  
+  /**
+  * Get the suffix used for generating temporary files
+  */
+  public String getTempFileSuffix()
+    {
+    return (tempFileSuffix);
+    }
+  /**
+  * Set new file io buffer size
+  * @param int bufferSize A new Buffersize in bytes.
+  */
+  public void setBufferSize(int bufferSize)
+    {
+    this.bufferSize = bufferSize;
+    }
+  
+  /**
+  * Set keepFiles
+  * @param boolean keepFiles Keep generated files after JVM exits
+  */
+  public void setKeepFiles(boolean keepFiles)
+    {
+    this.keepFiles = keepFiles;
+    }
+
+  /**
+  * Set keepLobs
+  * @param boolean keepLobs Keep LOB objects such as CLOB, BLOB and BFILE as LOBS instead of turning them into files on retrieval.
+  * @since 2.0.1505
+  */
+  public void setKeepLobs(boolean keepLobs)
+    {
+    this.keepLobs = keepLobs;
+    }
+
+  /**
+  * SetUseByteArraysForLongsAndLOBS
+  * @param boolean useByteArraysForLongsAndLOBS  flag that specifies whether lobs such as CLOBS, BLOBS and BFILES
+  * and LONG columns will be kept as byte arrays
+  * @since JDBCWizard 5.0.2314
+  */
+  public void setUseByteArraysForLongsAndLOBS(boolean useByteArraysForLongsAndLOBS)
+    {
+    this.useByteArraysForLongsAndLOBS = useByteArraysForLongsAndLOBS;
+    }
+
+  /**
+  * Set storageMode
+  * @param int storageMode How ReadOnlyRowSets created by this statement store their data.
+  * ReadOnlyRowSet.STORAGE_COLUMNAR uses much less memory for large NUMBER and DATE results.
+  * ReadOnlyRowSet.STORAGE_PAGED keeps most rows in a file under the temp directory.
+  * ReadOnlyRowSet.STORAGE_OFF_HEAP keeps cached results out of the garbage collector's way.
+  * ReadOnlyRowSet.STORAGE_LAZY only decodes NUMBER and DATE values when they are read.
+  * @see ReadOnlyRowSet#STORAGE_ROWS
+  * @see ReadOnlyRowSet#STORAGE_COLUMNAR
+  * @see ReadOnlyRowSet#STORAGE_PAGED
+  * @see ReadOnlyRowSet#STORAGE_OFF_HEAP
+  * @see ReadOnlyRowSet#STORAGE_LAZY
+  */
+  public void setStorageMode(int storageMode)
+    {
+    // STORAGE_LAZY needs DATE columns defined differently.
+    if (this.storageMode != storageMode)
+      {
+      forgetColumnTypes();
+      }
+
+    this.storageMode = storageMode;
+    }
+
+  /**
+  * Get storageMode
+  * @return int How ReadOnlyRowSets created by this statement store their data.
+  */
+  public int getStorageMode()
+    {
+    return(storageMode);
+    }
+
+  /**
+  * Get keepLobs
+  * @return boolean keepLobs Keep LOB objects such as CLOB, BLOB and BFILE as LOBS instead of turning them into files on retrieval.
+  * @since 2.0.1505
+  */
+  public boolean getKeepLobs()
+    {
+    return(keepLobs);
+    }
+
+
+  /**
+  * Get keepLobs
+  * @return boolean useByteArraysForLongsAndLOBS flag that specifies whether lobs such as CLOBS, BLOBS and BFILES
+  * and LONG columns will be kept as byte arrays
+  * @since JDBCWizard 5.0.2314
+   */
+  public boolean getUseByteArraysForLongsAndLOBS()
+    {
+    return(useByteArraysForLongsAndLOBS);
+    }
+
+  /**
+  * Set temporary directory
+  * @param java.io.File tempFileDir a new Temporary Directory
+  * @throws CSException if the directory is not viable
+  * @since 2.0.879
+  */
+  public void setTempDir(java.io.File tempFileDir) throws CSException
+    {
+    if (tempFileDir == null)                                   
+      {                                                             
+      throw (new CSException("Attempt made to set tempFileDir to null")); 
+      }                                      
+    else if (! tempFileDir.exists())       
+      {       
+      try    
+        {     
+        theLog.info("Creating temporary directory " + tempFileDir.getAbsolutePath()); 
+        tempFileDir.mkdirs(); 
+        }
+      catch (Exception e) 
+        { 
+        throw (new CSException("tempFileDir " + tempFileDir.getAbsolutePath() + " can not be created"));  
+        } 
+      }  
+    
+    this.tempFileDir = tempFileDir;
+    }
+  
+  /**
+  * Set the prefix used for generating temporary files
+  */
+  public void setTempFilePrefix(String tempFilePrefix)
+    {
+    this.tempFilePrefix = tempFilePrefix;
+    }
+  
+  /**
+  * Set the suffix used for generating temporary files
+  */
+  public void setTempFileSuffix(String tempFileSuffix)
+    {
+    this.tempFileSuffix = tempFileSuffix;
+    }
+
+  /**                                                        
+  * Reset all stats counters to 0. Used to implement StatsInterface    
+  * @see StatsInterface  
+  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
+  */                                                         
+  public void resetStatsCounters()      
+    {                                  
+    parseCount = 0;               
+    executionCount = 0;           
+    parseTimeMilliseconds = 0;               
+    executionTimeMilliseconds = 0;           
+    retrieveTimeMilliseconds = 0;           
+    releaseCount = 0;       
+    errorCount = 0;       
+    }                            
+                             
+  /**                                                        
+  * Return counter containing number of parses. Used to implement StatsInterface    
+  * @see StatsInterface  
+  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
+  */                                                         
+  public long getParses()      
+    {                               
+    return (parseCount);           
+    }                             
+  
+  /**                                                        
+  * Return counter containing time spent parsing in milliseconds. Used to implement StatsInterface    
+  * @see StatsInterface  
+  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
+  */                                                         
+  public long getParseTime()      
+    {                               
+    return (parseTimeMilliseconds);           
+    }                             
+  
+  /**                                                        
+  * Return counter containing number of executions. Used to implement StatsInterface    
+  * @see StatsInterface  
+  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
+  */                                                         
+  public long getExecutions()     
+    {                               
+    return (executionCount);       
+    }                                  
+   
+  /**                                                        
+  * Return counter containing time spent executing statement in milliseconds. Used to implement StatsInterface    
+  * @see StatsInterface  
+  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
+  */                                                         
+  public long getExecutionTime()     
+    {                               
+    return (executionTimeMilliseconds);       
+    }                                  
+   
+  /**                                                        
+  * Return counter containing time spent retrieving data in milliseconds. Used to implement StatsInterface    
+  * @see StatsInterface  
+  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
+  */                                                         
+  public long getRetrievalTime()     
+    {                               
+    return (retrieveTimeMilliseconds);       
+    }                                  
+   
+  /**                                                        
+  * Return counter containing number of releases. Used to implement StatsInterface    
+  * @see StatsInterface  
+  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
+  */                                                         
+  public long getReleases()             
+    {                                
+    return (releaseCount);                
+    }                              
+   
+  /**                                                        
+  * Return counter containing number of errors. Used to implement StatsInterface    
+  * @see StatsInterface  
+  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
+  */                                                         
+  public long getErrors()             
+    {                                
+    return (errorCount);                
+    }                              
+  
+  /**                                          
+  * Start timer used to keep track of parse and execution time - used to implement StatsInterface  
+  * @see StatsInterface  
+  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
+  */                                                       
+  protected void startStatsTimer()      
+    {                                    
+    statsEventTimer = System.currentTimeMillis();
+    }                         
+   
+  /**                                          
+  * Increment counter used to keep track of parses - used to implement StatsInterface  
+  * @see StatsInterface  
+  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
+  */                                                       
+  private void incParseCount()      
+    {                                    
+    parseTimeMilliseconds = parseTimeMilliseconds + (System.currentTimeMillis() - statsEventTimer);
+    statsEventTimer=0;
+    
+    if (parseCount < Long.MAX_VALUE)  
+      {                               
+      parseCount++;                    
+      }                                
+    else 
+      {     
+      theLog.syserror("parse counter is greater than " + parseCount); 
+      }                            
+    }                         
+   
+  /**                                          
+  * Increment counter used to keep track of executions - used to implement StatsInterface  
+  * @see StatsInterface  
+  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
+  */                                                       
+  private void incExecutionCount()   
+    {                               
+    executionTimeMilliseconds = executionTimeMilliseconds + (System.currentTimeMillis() - statsEventTimer);
+    statsEventTimer=0;
+    
+    if (executionCount < Long.MAX_VALUE)  
+      {                                   
+      executionCount++;                   
+      }                                  
+    else  
+      {     
+      theLog.syserror("execution counter is greater than " + executionCount);
+      }                       
+    }                                
+   
+  /**                                          
+  * Increment variable used to keep track of retrieval time - used to implement StatsInterface  
+  * @see StatsInterface  
+  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
+  */                                                       
+  protected void incRetrieveTime()   
+    {                               
+    retrieveTimeMilliseconds = retrieveTimeMilliseconds + (System.currentTimeMillis() - statsEventTimer);
+    statsEventTimer=0;
+    }                                
+   
+  /**                                          
+  * Increment counter used to keep track of releases - used to implement StatsInterface  
+  * @see StatsInterface  
+  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
+  */                                                       
+  private void incReleaseCount()     
+    {                                  
+    if (releaseCount < Long.MAX_VALUE)   
+      {                                   
+      releaseCount++;                  
+      }                                    
+    else  
+      {      
+      theLog.syserror("release counter is greater than " + releaseCount);
+      }                          
+    } 
+   
+  /**                                          
+  * Increment counter used to keep track of errors - used to implement StatsInterface  
+  * @see StatsInterface  
+  * See <a href=http://www.orindasoft.com/public/Librarytwo.php4#staor&pdsrc=GD3145 TARGET=_blank class=news>StatsInterface - a generic set of performance measuring methods</a>
+  */                                                       
+  private void incErrorCount()     
+    {                                  
+    if (errorCount < Long.MAX_VALUE)   
+      {                                   
+      errorCount++;                  
+      }                                    
+    else  
+      {      
+      theLog.syserror("error counter is greater than " + releaseCount);
+      }                          
+    } 
+}
+
+
+
 
@@ -0,0 +1,148 @@
+package com.orindasoft.pub;
+
+// We implement the standard interface for splitting work between threads
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+* A Spliterator over a range of rows in a ReadOnlyRowSet.
+* <p>
+* Each RowSetSpliterator has one RowView of its own. As it moves through its rows it
+* moves the RowView to each row in turn and hands it to the caller, so no objects are
+* created per row. When the range is split the new RowSetSpliterator gets a new
+* RowView, which means the two halves can safely be processed by different threads.
+* <p>
+* Because the same RowView is passed in for every row, callers should read what they
+* need from it during the call rather than keeping a reference to it.
+* <p>
+* <br>(c) Copyright 2003 - 2015 Orinda Software Ltd<p>
+*
+* @see ReadOnlyRowSet#spliterator()
+* @see ReadOnlyRowSet#stream()
+* @version 6.0
+* @author  <a href="http://www.orindasoft.com/?pdsrc=api" target="_blank" class=news>Orinda Software</a>
+*/
+public class RowSetSpliterator implements Spliterator<RowView>
+{
+  /**
+  * Ranges smaller than this are not split. Splitting very small ranges costs
+  * more than it saves.
+  */
+  public static final int MIN_SPLIT_ROWS = 256;
+
+  /**
+  * The ReadOnlyRowSet we are iterating over.
+  */
+  protected ReadOnlyRowSet sourceRowSet = null;
+
+  /**
+  * The next row we will hand out.
+  */
+  protected int nextRow = 0;
+
+  /**
+  * One after the last row we will hand out.
+  */
+  protected int endRow = 0;
+
+  /**
+  * The RowView we hand out. Created when first needed.
+  */
+  protected RowView theRowView = null;
+
+  /**
+  * Create a RowSetSpliterator over rows <tt>startRow</tt> to <tt>endRow - 1</tt>.
+  * @param ReadOnlyRowSet sourceRowSet The ReadOnlyRowSet we are iterating over.
+  * @param int startRow The first row.
+  * @param int endRow One after the last row.
+  */
+  public RowSetSpliterator(ReadOnlyRowSet sourceRowSet, int startRow, int endRow)
+    {
+    this.sourceRowSet = sourceRowSet;
+    this.nextRow = startRow;
+    this.endRow = endRow;
+    }
+
+  /**
+  * Pass the next row to <tt>action</tt>.
+  * @param Consumer action What to do with the row.
+  * @return boolean <tt>true</tt> if there was a row.
+  */
+  public boolean tryAdvance(Consumer<? super RowView> action)
+    {
+    if (nextRow >= endRow)
+      {
+      return(false);
+      }
+
+    action.accept(moveTo(nextRow++));
+    return(true);
+    }
+
+  /**
+  * Pass each remaining row to <tt>action</tt>.
+  * @param Consumer action What to do with each row.
+  */
+  public void forEachRemaining(Consumer<? super RowView> action)
+    {
+    while (nextRow < endRow)
+      {
+      action.accept(moveTo(nextRow++));
+      }
+    }
+
+  /**
+  * Give the first half of our remaining rows to a new RowSetSpliterator.
+  * @return Spliterator a RowSetSpliterator for the first half, or <tt>null</tt> if
+  * there are fewer than MIN_SPLIT_ROWS rows left.
+  */
+  public Spliterator<RowView> trySplit()
+    {
+    int remainingRows = endRow - nextRow;
+
+    if (remainingRows < MIN_SPLIT_ROWS)
+      {
+      return(null);
+      }
+
+    int splitRow = nextRow + (remainingRows / 2);
+    RowSetSpliterator firstHalf = new RowSetSpliterator(sourceRowSet, nextRow, splitRow);
+    nextRow = splitRow;
+
+    return(firstHalf);
+    }
+
+  /**
+  * Return the number of rows left.
+  * @return long the number of rows left.
+  */
+  public long estimateSize()
+    {
+    return(endRow - nextRow);
+    }
+
+  /**
+  * Return the characteristics of this Spliterator. The rows are in order, never
+  * null and never change. The same RowView is re-used so they are not DISTINCT.
+  * @return int ORDERED, SIZED, SUBSIZED, NONNULL and IMMUTABLE
+  */
+  public int characteristics()
+    {
+    return(ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE);
+    }
+
+  /**
+  * Move our RowView to a row, creating it if need be.
+  */
+  private RowView moveTo(int rowNumber)
+    {
+    if (theRowView == null)
+      {
+      theRowView = sourceRowSet.createRowView();
+      }
+
+    theRowView.currentRowNumber = rowNumber;
+    return(theRowView);
+    }
+}
+
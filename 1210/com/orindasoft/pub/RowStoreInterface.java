@@ -0,0 +1,69 @@
+package com.orindasoft.pub;
+
+/**
+* An interface for alternative ways of storing the rows of a ReadOnlyRowSet.
+* <p>
+* By default a ReadOnlyRowSet keeps each row as an array of Object in an ArrayList.
+* Classes that implement this interface hold the same data in some other form
+* and hand it back one value - or one row - at a time. The ReadOnlyRowSet getters
+* do not need to know which form is in use.
+* <p>
+* Under normal circumstances <a href="http://www.orindasoft.com/?adsrc=api" target="_blank class="manual">OrindaBuild</a> users
+* will have no reason to use this interface directly - ReadOnlyRowSet will use it.
+* <p>
+* <br>(c) Copyright 2003 - 2015 Orinda Software Ltd<p>
+*
+* @see ReadOnlyRowSet
+* @version 6.0
+* @author  <a href="http://www.orindasoft.com/?pdsrc=api" target="_blank" class=news>Orinda Software</a>
+*/
+public interface RowStoreInterface
+{
+  /**
+  * Add a row to the end of the store.
+  * @param Object[] theRow An array of Object containing one value per column.
+  * @throws CSException if the row can not be stored.
+  */
+  public void addRow(Object[] theRow) throws CSException;
+
+  /**
+  * Return a row as an array of Object.
+  * @param int rowNumber The row we want. Row numbers start at 0.
+  * @return Object[] A newly built array containing the row.
+  */
+  public Object[] getRow(int rowNumber);
+
+  /**
+  * Return a single value.
+  * @param int rowNumber The row we want. Row numbers start at 0.
+  * @param int columnId The column we want. Column numbers start at 0.
+  * @return Object The value, or <tt>null</tt>.
+  */
+  public Object getValue(int rowNumber, int columnId);
+
+  /**
+  * Return the number of rows in the store.
+  * @return int the number of rows
+  */
+  public int size();
+
+  /**
+  * Called once all the rows have been added so that any spare capacity can be released.
+  */
+  public void trimToSize();
+
+  /**
+  * Return every row as an array of Object arrays.
+  * @return Object[] An array containing one Object[] per row.
+  */
+  public Object[] toArray();
+
+  /**
+  * Estimate how many bytes of memory the store is using for its rows, both on and off
+  * the heap. Rows that are kept on disk do not count.
+  * @return long the estimated size in bytes.
+  * @see SizeEstimator
+  */
+  public long getEstimatedBytes();
+}
+
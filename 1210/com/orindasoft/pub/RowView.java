@@ -0,0 +1,64 @@
+package com.orindasoft.pub;
+
+/**
+* An independent cursor over the rows of a ReadOnlyRowSet.
+* <p>
+* A ReadOnlyRowSet has a single current row, so only one thread can move through it
+* at a time. A RowView shares the rows and column metadata of the ReadOnlyRowSet it
+* was created from but has its own current row, so any number of RowViews can be used
+* on different threads at the same time. Nothing is copied apart from the formatters
+* used to turn dates and numbers into Strings, which are not thread safe.
+* <p>
+* Every getter of ReadOnlyRowSet is available. RowViews are normally obtained from
+* <tt>ReadOnlyRowSet.createRowView()</tt> or from a Stream. As the getters throw checked
+* exceptions it is usually easiest to read each row in a method of your own:
+* <pre>
+* double total = theRowSet.stream().parallel().mapToDouble(MyReport::getAmount).sum();
+* </pre>
+* RowViews are not supported for StreamingRowSet, which only ever has one row, or for
+* a WriteableRowSet that is still being changed.
+* <p>
+* <br>(c) Copyright 2003 - 2015 Orinda Software Ltd<p>
+*
+* @see ReadOnlyRowSet#createRowView()
+* @see RowSetSpliterator
+* @version 6.0
+* @author  <a href="http://www.orindasoft.com/?pdsrc=api" target="_blank" class=news>Orinda Software</a>
+*/
+public class RowView extends ReadOnlyRowSet
+{
+  /**
+  * The ReadOnlyRowSet we are a view of.
+  */
+  protected ReadOnlyRowSet sourceRowSet = null;
+
+  /**
+  * Create a RowView positioned on the current row of <tt>sourceRowSet</tt>.
+  * @param ReadOnlyRowSet sourceRowSet The ReadOnlyRowSet whose rows we want to read.
+  */
+  public RowView(ReadOnlyRowSet sourceRowSet)
+    {
+    super(sourceRowSet);
+    this.sourceRowSet = sourceRowSet;
+    sourceRowSet.addRowView(this);
+    }
+
+  /**
+  * Return the ReadOnlyRowSet this is a view of.
+  * @return ReadOnlyRowSet the ReadOnlyRowSet whose data we share.
+  */
+  public ReadOnlyRowSet getSourceRowSet()
+    {
+    return(sourceRowSet);
+    }
+
+  /**
+  * We never write decoded STORAGE_LAZY values back into rows we share with other threads.
+  * @return boolean <tt>false</tt>
+  */
+  protected boolean canMemoizeLazyValues()
+    {
+    return(false);
+    }
+}
+
@@ -0,0 +1,227 @@
+package com.orindasoft.pub;
+
+// We estimate the size of the types ReadOnlyRowSet stores
+import java.math.BigDecimal;
+import java.io.File;
+
+/**
+* A set of useful static methods for estimating how much memory values use.
+* <p>
+* The estimates assume a 64 bit JVM with compressed object pointers: 12 byte object
+* headers, 4 byte references and everything rounded up to 8 bytes. They are meant
+* for deciding what to keep in a cache, not for exact accounting.
+* <p>
+* <br>(c) Copyright 2003 - 2015 Orinda Software Ltd<p>
+*
+* @see ReadOnlyRowSet#getEstimatedBytes()
+* @version 6.0
+* @author  <a href="http://www.orindasoft.com/?pdsrc=api" target="_blank" class=news>Orinda Software</a>
+*/
+public class SizeEstimator
+{
+  /**
+  * Bytes used by an array before its elements.
+  */
+  public static final int ARRAY_HEADER_BYTES = 16;
+
+  /**
+  * Bytes used by a reference.
+  */
+  public static final int REFERENCE_BYTES = 4;
+
+  /**
+  * Bytes we assume for an object we know nothing about.
+  */
+  public static final int DEFAULT_OBJECT_BYTES = 64;
+
+  /**
+  * Bytes we assume the JDBC driver needs to fetch a number, date or other short fixed length value.
+  */
+  public static final int FETCH_FIXED_BYTES = 22;
+
+  /**
+  * Bytes we assume the JDBC driver needs to fetch a LOB locator, a LONG or a column we know nothing about.
+  */
+  public static final int FETCH_LOCATOR_BYTES = 4000;
+
+  /**
+  * The most bytes we assume the JDBC driver needs to fetch a VARCHAR2 or RAW.
+  */
+  public static final int FETCH_MAX_TEXT_BYTES = 65534;
+
+  /**
+  * SizeEstimator is a set of static methods for estimating memory use.
+  */
+  public SizeEstimator()
+  {
+  }
+
+  /**
+  * Estimate how many bytes a row uses, including the array that holds it.
+  * @param Object[] theRow A row.
+  * @return long the estimated size in bytes.
+  */
+  public static long estimateRowBytes(Object[] theRow)
+    {
+    if (theRow == null)
+      {
+      return(0);
+      }
+
+    long rowBytes = estimateArrayBytes(theRow.length, REFERENCE_BYTES);
+
+    for (int i=0; i < theRow.length; i++)
+      {
+      rowBytes += estimateObjectBytes(theRow[i]);
+      }
+
+    return(rowBytes);
+    }
+
+  /**
+  * Estimate how many bytes a value uses. Values that are shared, such as Boolean.TRUE,
+  * are counted as if they weren't.
+  * @param Object theValue A value, or null.
+  * @return long the estimated size in bytes.
+  */
+  public static long estimateObjectBytes(Object theValue)
+    {
+    if (theValue == null)
+      {
+      return(0);
+      }
+    else if (theValue instanceof String)
+      {
+      // The String and its array. We assume two bytes per character.
+      return(24 + estimateArrayBytes(((String)theValue).length(), 2));
+      }
+    else if (theValue instanceof BigDecimal)
+      {
+      // Values with more than 18 digits need a BigInteger as well.
+      if (((BigDecimal)theValue).precision() > 18)
+        {
+        return(40 + 40 + estimateArrayBytes((((BigDecimal)theValue).precision() / 9) + 1, 4));
+        }
+
+      return(40);
+      }
+    else if (theValue instanceof java.sql.Timestamp)
+      {
+      return(32);
+      }
+    else if (theValue instanceof java.util.Date)
+      {
+      return(24);
+      }
+    else if (theValue instanceof byte[])
+      {
+      return(estimateArrayBytes(((byte[])theValue).length, 1));
+      }
+    else if (theValue instanceof char[])
+      {
+      return(estimateArrayBytes(((char[])theValue).length, 2));
+      }
+    else if (theValue instanceof Object[])
+      {
+      return(estimateRowBytes((Object[])theValue));
+      }
+    else if (theValue instanceof Long || theValue instanceof Double)
+      {
+      return(24);
+      }
+    else if (theValue instanceof Number || theValue instanceof Boolean)
+      {
+      return(16);
+      }
+    else if (theValue instanceof File)
+      {
+      // The contents are on disk. Just the File and its path.
+      return(24 + estimateObjectBytes(((File)theValue).getPath()));
+      }
+    else if (theValue instanceof oracle.sql.Datum)
+      {
+      // The Datum and its bytes
+      return(16 + estimateArrayBytes((int)((oracle.sql.Datum)theValue).getLength(), 1));
+      }
+    else if (theValue instanceof ReadOnlyRowSet)
+      {
+      return(((ReadOnlyRowSet)theValue).getEstimatedBytes());
+      }
+
+    return(DEFAULT_OBJECT_BYTES);
+    }
+
+  /**
+  * Estimate how many bytes an array uses.
+  * @param int length How many elements it has.
+  * @param int elementBytes How many bytes each element uses.
+  * @return long the estimated size in bytes.
+  */
+  public static long estimateArrayBytes(int length, int elementBytes)
+    {
+    return(roundUp(ARRAY_HEADER_BYTES + ((long)length * elementBytes)));
+    }
+
+  /**
+  * Estimate how many bytes of fetch buffer the JDBC driver needs for one row.
+  * Text is held as Java chars, so each character of a VARCHAR2 needs two bytes.
+  * @param int[] underlyingOracleDatatypes The SqlUtils ORACLE_..._DATATYPE of each column.
+  * @param long[] columnLengths The length of each column.
+  * @return long the estimated size in bytes.
+  */
+  public static long estimateFetchRowBytes(int[] underlyingOracleDatatypes, long[] columnLengths)
+    {
+    long rowBytes = 0;
+
+    for (int i=0; i < underlyingOracleDatatypes.length; i++)
+      {
+      if (underlyingOracleDatatypes[i] == SqlUtils.ORACLE_TEXT_DATATYPE
+       || underlyingOracleDatatypes[i] == SqlUtils.ORACLE_BINARY_DATATYPE)
+        {
+        rowBytes += Math.min(Math.max(columnLengths[i], 1) * 2, FETCH_MAX_TEXT_BYTES);
+        }
+      else if (underlyingOracleDatatypes[i] == SqlUtils.ORACLE_NUMBER_DATATYPE
+            || underlyingOracleDatatypes[i] == SqlUtils.ORACLE_DATE_DATATYPE
+            || underlyingOracleDatatypes[i] == SqlUtils.ORACLE_BOOLEAN_DATATYPE
+            || underlyingOracleDatatypes[i] == SqlUtils.ORACLE_INTERVAL_YEAR_TO_MONTH_DATATYPE
+            || underlyingOracleDatatypes[i] == SqlUtils.ORACLE_INTERVAL_DAY_TO_SECOND_DATATYPE)
+        {
+        rowBytes += FETCH_FIXED_BYTES;
+        }
+      else
+        {
+        rowBytes += FETCH_LOCATOR_BYTES;
+        }
+      }
+
+    return(rowBytes);
+    }
+
+  /**
+  * Work out how many rows to fetch per round trip so that the driver's fetch buffer
+  * fits in <tt>fetchBufferBytes</tt>. We never ask for more than <tt>maxRows</tt> + 1,
+  * the extra row being the one that tells us there were more rows than we wanted.
+  * @param int[] underlyingOracleDatatypes The SqlUtils ORACLE_..._DATATYPE of each column.
+  * @param long[] columnLengths The length of each column.
+  * @param int maxRows The most rows that will be read.
+  * @param long fetchBufferBytes How much memory the fetch buffer can use.
+  * @return int a fetch size of at least 1.
+  */
+  public static int estimateFetchSize(int[] underlyingOracleDatatypes, long[] columnLengths
+                                     ,int maxRows, long fetchBufferBytes)
+    {
+    long rowBytes = Math.max(estimateFetchRowBytes(underlyingOracleDatatypes, columnLengths), 1);
+    long fetchSize = Math.min(fetchBufferBytes / rowBytes, (long)maxRows + 1);
+
+    return((int)Math.max(fetchSize, 1));
+    }
+
+  /**
+  * Round a size up to the next multiple of 8, as the JVM does.
+  */
+  private static long roundUp(long rawBytes)
+    {
+    return((rawBytes + 7) & ~7L);
+    }
+}
+
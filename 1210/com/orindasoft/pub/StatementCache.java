@@ -0,0 +1,359 @@
+package com.orindasoft.pub;
+
+// We are working with JDBC
+import java.sql.*;
+
+// We keep one cache per connection, each in least recently used order
+import java.util.WeakHashMap;
+import java.util.LinkedHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+// Neither the connections nor their statements are kept alive by us
+import java.lang.ref.WeakReference;
+
+/**
+* A cache of open PreparedStatements for one Connection, keyed by SQL text.
+* <p>
+* When a DmlStatement that has had <tt>setUseStatementCache(true)</tt> called gives up its connection
+* it puts its PreparedStatement here instead of closing it. The next DmlStatement with the same SQL on the same connection takes it out again instead of
+* preparing a new one, which saves a parse. A statement is only ever used by one DmlStatement at a
+* time. While it is taken out, other DmlStatements with the same SQL prepare their own.
+* <p>
+* Each connection's cache holds up to <tt>getMaxStatements()</tt> statements. When it is full the
+* least recently used statement is closed. Each cached statement keeps a cursor open, so the database's
+* OPEN_CURSORS limit needs to allow for them as well as those the application has in use.
+* <p>
+* Caches are held against their connection weakly, and hold their statements weakly too. A connection
+* keeps its own open statements, as it has to close them when it is closed, so they stay cached for as long
+* as the connection is in use. A connection that is thrown away without being closed can be garbage
+* collected along with its cache. Caches for connections that have been closed are thrown away the next time
+* a cache is created for a new connection.
+* <p>
+* <br>(c) Copyright 2003 - 2015 Orinda Software Ltd<p>
+*
+* @version 6.0
+* @author  <a href="http://www.orindasoft.com/?pdsrc=api" target="_blank" class=news>Orinda Software</a>
+* @since 6.0
+*/
+public class StatementCache
+{
+  /**
+  * The default number of statements cached for each connection.
+  */
+  public static final int DEFAULT_MAX_STATEMENTS = 20;
+
+  /**
+  * The cache for each Connection we have seen. JDBC connections don't override equals(), so this
+  * behaves like an IdentityHashMap that lets go of connections nobody else is using.
+  */
+  private static WeakHashMap connectionCaches = new WeakHashMap();
+
+  /**
+  * The number of statements new caches will hold.
+  */
+  private static int defaultMaxStatements = DEFAULT_MAX_STATEMENTS;
+
+  /**
+  * The most statements we hold.
+  */
+  int maxStatements = DEFAULT_MAX_STATEMENTS;
+
+  /**
+  * WeakReferences to statements that aren't in use, keyed by SQL text, least recently used first.
+  */
+  LinkedHashMap idleStatements = null;
+
+  /**
+  * Number of times a statement was found in the cache.
+  */
+  long hitCount = 0;
+
+  /**
+  * Number of times a statement wasn't found in the cache.
+  */
+  long missCount = 0;
+
+  /**
+  * Number of statements closed because the cache was full.
+  */
+  long evictionCount = 0;
+
+  /**
+  * Create a cache for a connection. It mustn't refer to the connection, or the connection
+  * could never be garbage collected.
+  * @param int maxStatements The most statements to hold.
+  */
+  StatementCache(int maxStatements)
+    {
+    this.maxStatements = maxStatements;
+
+    idleStatements = new LinkedHashMap(16, 0.75f, true)
+      {
+      protected boolean removeEldestEntry(Map.Entry eldest)
+        {
+        if (size() > StatementCache.this.maxStatements)
+          {
+          closeQuietly((WeakReference)eldest.getValue());
+          evictionCount++;
+          return(true);
+          }
+
+        return(false);
+        }
+      };
+    }
+
+  /**
+  * Return the cache for a connection, creating it if need be.
+  * @param Connection theConnection
+  * @return StatementCache the cache for theConnection.
+  */
+  public static synchronized StatementCache getStatementCache(Connection theConnection)
+    {
+    StatementCache theCache = (StatementCache)connectionCaches.get(theConnection);
+
+    if (theCache == null)
+      {
+      // Connections come and go, so this is a good time to forget the ones that have gone.
+      removeClosedConnections();
+
+      theCache = new StatementCache(defaultMaxStatements);
+      connectionCaches.put(theConnection, theCache);
+      }
+
+    return(theCache);
+    }
+
+  /**
+  * Close all the cached statements for a connection and forget about it. Call this
+  * before closing a connection you have finished with.
+  * @param Connection theConnection
+  */
+  public static void closeStatementCache(Connection theConnection)
+    {
+    StatementCache theCache = null;
+
+    synchronized(StatementCache.class)
+      {
+      theCache = (StatementCache)connectionCaches.remove(theConnection);
+      }
+
+    if (theCache != null)
+      {
+      theCache.clear();
+      }
+    }
+
+  /**
+  * Forget caches whose connection has been closed. Their statements were closed with it.
+  */
+  private static void removeClosedConnections()
+    {
+    Iterator it = connectionCaches.keySet().iterator();
+
+    while (it.hasNext())
+      {
+      Connection cachedConnection = (Connection)it.next();
+      boolean isClosed = true;
+
+      try
+        {
+        isClosed = cachedConnection.isClosed();
+        }
+      catch (SQLException e)
+        {
+        // Treat it as closed.
+        }
+
+      if (isClosed)
+        {
+        it.remove();
+        }
+      }
+    }
+
+  /**
+  * Set how many statements caches created from now on will hold for each connection.
+  * @param int newMaxStatements 0 turns caching off for new connections.
+  */
+  public static synchronized void setDefaultMaxStatements(int newMaxStatements)
+    {
+    if (newMaxStatements >= 0)
+      {
+      defaultMaxStatements = newMaxStatements;
+      }
+    }
+
+  /**
+  * Return how many statements new caches will hold for each connection.
+  * @return int defaultMaxStatements
+  */
+  public static synchronized int getDefaultMaxStatements()
+    {
+    return(defaultMaxStatements);
+    }
+
+  /**
+  * Take a statement out of the cache. It must be given back with
+  * <tt>returnStatement()</tt> or closed.
+  * @param String sqlText The SQL it was prepared with.
+  * @return PreparedStatement an open statement or null if we don't have one that is still open.
+  */
+  public synchronized PreparedStatement borrowStatement(String sqlText)
+    {
+    WeakReference cachedReference = (WeakReference)idleStatements.remove(sqlText);
+    PreparedStatement cachedStatement = null;
+
+    if (cachedReference != null)
+      {
+      cachedStatement = (PreparedStatement)cachedReference.get();
+      }
+
+    try
+      {
+      if (cachedStatement != null && ! cachedStatement.isClosed())
+        {
+        hitCount++;
+        return(cachedStatement);
+        }
+      }
+    catch (SQLException e)
+      {
+      // It isn't usable.
+      }
+
+    missCount++;
+    return(null);
+    }
+
+  /**
+  * Put a statement back in the cache so it can be used again. If we already have one
+  * for the same SQL, or caching is turned off, it is closed instead.
+  * @param String sqlText The SQL it was prepared with.
+  * @param PreparedStatement theStatement An open statement that nothing else is using.
+  */
+  public synchronized void returnStatement(String sqlText, PreparedStatement theStatement)
+    {
+    WeakReference cachedReference = (WeakReference)idleStatements.get(sqlText);
+
+    if (maxStatements == 0 || (cachedReference != null && cachedReference.get() != null))
+      {
+      closeQuietly(theStatement);
+      return;
+      }
+
+    idleStatements.put(sqlText, new WeakReference(theStatement));
+    }
+
+  /**
+  * Close all the cached statements.
+  */
+  public synchronized void clear()
+    {
+    Iterator it = idleStatements.values().iterator();
+
+    while (it.hasNext())
+      {
+      closeQuietly((WeakReference)it.next());
+      }
+
+    idleStatements.clear();
+    }
+
+  /**
+  * Set how many statements this cache holds. Any over the new limit are closed.
+  * @param int newMaxStatements 0 turns caching off for this connection.
+  */
+  public synchronized void setMaxStatements(int newMaxStatements)
+    {
+    if (newMaxStatements >= 0)
+      {
+      maxStatements = newMaxStatements;
+
+      Iterator it = idleStatements.values().iterator();
+
+      while (idleStatements.size() > maxStatements && it.hasNext())
+        {
+        closeQuietly((WeakReference)it.next());
+        it.remove();
+        evictionCount++;
+        }
+      }
+    }
+
+  /**
+  * Return how many statements this cache holds.
+  * @return int maxStatements
+  */
+  public synchronized int getMaxStatements()
+    {
+    return(maxStatements);
+    }
+
+  /**
+  * Return how many statements are in the cache.
+  * @return int
+  */
+  public synchronized int size()
+    {
+    return(idleStatements.size());
+    }
+
+  /**
+  * Return how many times a statement was found in the cache.
+  * @return long hitCount
+  */
+  public synchronized long getHitCount()
+    {
+    return(hitCount);
+    }
+
+  /**
+  * Return how many times a statement wasn't found in the cache.
+  * @return long missCount
+  */
+  public synchronized long getMissCount()
+    {
+    return(missCount);
+    }
+
+  /**
+  * Return how many statements were closed because the cache was full.
+  * @return long evictionCount
+  */
+  public synchronized long getEvictionCount()
+    {
+    return(evictionCount);
+    }
+
+  /**
+  * Close a cached statement, if it hasn't already been garbage collected along with its connection.
+  * @param WeakReference statementReference
+  */
+  static void closeQuietly(WeakReference statementReference)
+    {
+    PreparedStatement theStatement = (PreparedStatement)statementReference.get();
+
+    if (theStatement != null)
+      {
+      closeQuietly(theStatement);
+      }
+    }
+
+  /**
+  * Close a statement, ignoring any errors.
+  * @param PreparedStatement theStatement
+  */
+  static void closeQuietly(PreparedStatement theStatement)
+    {
+    try
+      {
+      theStatement.close();
+      }
+    catch (SQLException e)
+      {
+      // Nothing we can do. It will go when its connection does.
+      }
+    }
+}
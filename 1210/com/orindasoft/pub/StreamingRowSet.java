@@ -0,0 +1,413 @@
+package com.orindasoft.pub;
+
+// We're working with JDBC
+import java.sql.*;
+
+// We turn Longs and Clobs into files
+import java.io.File;
+
+// We have to say we don't support RowViews, Spliterators and Streams
+import java.util.Spliterator;
+import java.util.stream.Stream;
+
+/**
+* A forward only version of ReadOnlyRowSet that reads rows from a ResultSet one at a time.
+* <p>
+* A ReadOnlyRowSet reads every row into memory before it is handed back. This is
+* fine for the small and medium sized queries it was designed for but means a large
+* query needs all its rows on the heap at once. A StreamingRowSet only ever holds
+* the current row. Each call to <tt>nextRow()</tt> fetches the next row from the
+* underlying ResultSet, so rows become available as soon as the driver returns them.
+* <p>
+* All the getters of ReadOnlyRowSet work as normal. The differences are:
+* <ul>
+* <li>You can only move forwards. <tt>prevRow()</tt> and attempts to go back to an earlier
+* row return <tt>false</tt> and leave you on the current row.
+* <li><tt>size()</tt> returns the number of rows read so far, not the total.
+* <li><tt>last()</tt> reads through to the end of the ResultSet.
+* <li>The ResultSet stays open until the last row has been read or <tt>releaseResources()</tt> is called.
+* As with any JDBC ResultSet it is closed if the statement that created it is re-executed or closed.
+* <li>Results are never cached.
+* <li><tt>createRowView()</tt>, <tt>spliterator()</tt> and <tt>stream()</tt> throw IllegalStateException,
+* as there are no stored rows for them to look at.
+* </ul>
+* <p>
+* Errors that happen while moving to the next row can not be thrown by <tt>nextRow()</tt>. They
+* are logged, the ResultSet is closed and the error is available from <tt>getFetchException()</tt>.
+* <p>
+* <br>(c) Copyright 2003 - 2015 Orinda Software Ltd<p>
+*
+* @see QueryStatement#executeStreaming()
+* @version 6.0
+* @author  <a href="http://www.orindasoft.com/?pdsrc=api" target="_blank" class=news>Orinda Software</a>
+*/
+public class StreamingRowSet extends ReadOnlyRowSet implements OracleResourceUser
+{
+  /**
+  * The ResultSet we are reading from. Null once it has been closed.
+  */
+  protected ResultSet theResultSet = null;
+
+  /**
+  * The row we are currently on.
+  */
+  protected Object[] currentRow = null;
+
+  /**
+  * Maximum number of rows that will be read.
+  */
+  protected int maxRows = 0;
+
+  /**
+  * The SQLException that stopped us reading rows, if there was one.
+  */
+  protected SQLException fetchException = null;
+
+  /**
+  * Create a StreamingRowSet that is based on a ResultSet. When this constructor returns
+  * we will be on the first row, if there is one.
+  *
+  * @param ResultSet theResultSet
+  * @param String theQuery
+  * @param int maxRows Maximum number of rows that will be read.
+  * @param LogInterface theLog
+  * @param File A directory where downloaded CLOBS and BLOBS will be stored.
+  * @param boolean keepFiles Whether generated files are kept or deleted when the JVM exits
+  * @param String tempFilePrefix Prefix for generated temporary files.
+  * @param String tempFileSuffix Suffix for generated temporary files.
+  * @param boolean keepLobs Whether lobs suchs as CLOBS and BLOBS are turned into Files on retrieval
+  * @param boolean useByteArraysForLongsAndLOBS Whether LONG and LOB columns are kept as byte arrays
+  * @throws CSException
+  */
+  public StreamingRowSet(ResultSet theResultSet
+                        ,String theQuery
+                        ,int maxRows
+                        ,LogInterface theLog
+                        ,File downloadedFileDir
+                        ,boolean keepFiles
+                        ,String tempFilePrefix
+                        ,String tempFileSuffix
+                        ,boolean keepLobs
+                        ,boolean useByteArraysForLongsAndLOBS) throws CSException
+    {
+    this(theResultSet,theQuery,maxRows,theLog,downloadedFileDir,keepFiles
+        ,tempFilePrefix,tempFileSuffix,keepLobs,useByteArraysForLongsAndLOBS
+        ,0,DEFAULT_FETCH_BUFFER_BYTES);
+    }
+
+  /**
+  * Create a StreamingRowSet that is based on a ResultSet. When this constructor returns
+  * we will be on the first row, if there is one.
+  *
+  * @param ResultSet theResultSet
+  * @param String theQuery
+  * @param int maxRows Maximum number of rows that will be read.
+  * @param LogInterface theLog
+  * @param File A directory where downloaded CLOBS and BLOBS will be stored.
+  * @param boolean keepFiles Whether generated files are kept or deleted when the JVM exits
+  * @param String tempFilePrefix Prefix for generated temporary files.
+  * @param String tempFileSuffix Suffix for generated temporary files.
+  * @param boolean keepLobs Whether lobs suchs as CLOBS and BLOBS are turned into Files on retrieval
+  * @param boolean useByteArraysForLongsAndLOBS Whether LONG and LOB columns are kept as byte arrays
+  * @param int fetchSize How many rows to fetch per round trip, or 0 to work it out from the columns.
+  * @param long fetchBufferBytes How much memory the fetch buffer can use when we work out the fetch size.
+  * @throws CSException
+  * @since 6.0
+  */
+  public StreamingRowSet(ResultSet theResultSet
+                        ,String theQuery
+                        ,int maxRows
+                        ,LogInterface theLog
+                        ,File downloadedFileDir
+                        ,boolean keepFiles
+                        ,String tempFilePrefix
+                        ,String tempFileSuffix
+                        ,boolean keepLobs
+                        ,boolean useByteArraysForLongsAndLOBS
+                        ,int fetchSize
+                        ,long fetchBufferBytes) throws CSException
+    {
+    super();
+
+    if (theResultSet == null)
+      {
+      throw new CSDBNullObjectException();
+      }
+
+    this.theResultSet = theResultSet;
+    this.maxRows = maxRows;
+    this.theLog = theLog;
+    this.downloadedFileDir = downloadedFileDir;
+    this.keepFiles = keepFiles;
+    this.tempFilePrefix = tempFilePrefix;
+    this.tempFileSuffix = tempFileSuffix;
+    this.keepLobs  = keepLobs;
+    this.useByteArraysForLongsAndLOBS  = useByteArraysForLongsAndLOBS;
+
+    // Will throw CSException if the directory isn't there and can't be created.
+    createDownloadedFileDir();
+
+    try
+      {
+      readMetaData(theResultSet);
+      applyFetchSize(theResultSet, maxRows, fetchSize, fetchBufferBytes);
+      }
+    catch (SQLException e)
+      {
+      releaseResources();
+      throw new CSException("Unable to retrieve data:" +  e.getMessage());
+      }
+
+    // Move to the first row, if there is one.
+    fetchNextRow();
+
+    if (fetchException != null)
+      {
+      throw new CSException("Unable to retrieve data:" +  fetchException.getMessage());
+      }
+    }
+
+  /**
+  * Read the next row from the ResultSet and make it the current row.
+  * @return <tt>true</tt> if there was another row.
+  * @return <tt>false</tt> if we ran out of rows, hit maxRows or had an error.
+  */
+  protected boolean fetchNextRow()
+    {
+    if (theResultSet == null)
+      {
+      return(false);
+      }
+
+    try
+      {
+      if (theResultSet.next())
+        {
+        if (rowCount >= maxRows)
+          {
+          hitRowLimit = true;
+          }
+        else
+          {
+          rowCount++;
+          currentRow = unloadRow(theResultSet);
+          currentRowNumber = rowCount - 1;
+          return(true);
+          }
+        }
+      }
+    catch (SQLException e)
+      {
+      theLog.syserror("Unable to retrieve row " + (rowCount + 1) + ":" + e.getMessage());
+      fetchException = e;
+      }
+
+    // We've reached the end one way or another.
+    releaseResources();
+    return(false);
+    }
+
+  /**
+  * Move forwards to a specific row of the RowSet.
+  * @param int newCurrentRowNumber the new row number.
+  * @return <tt>true</tt> if we are now on newCurrentRowNumber
+  * @return <tt>false</tt> if newCurrentRowNumber is before the current row or
+  * after the last row. In the latter case we will be on the last row.
+  */
+  public boolean setCurrentRowNumber(int newCurrentRowNumber)
+    {
+    if (newCurrentRowNumber < 0 || newCurrentRowNumber < currentRowNumber)
+      {
+      // We can't go backwards.
+      return(false);
+      }
+
+    while (currentRowNumber < newCurrentRowNumber)
+      {
+      if (! fetchNextRow())
+        {
+        return(false);
+        }
+      }
+
+    return(true);
+    }
+
+  /**
+  * Read through to the last row of the ResultSet.
+  * @return <tt>true</tt> if the RowSet has 1 or more rows
+  */
+  public boolean last()
+    {
+    while (fetchNextRow())
+      {
+      }
+
+    return(rowCount > 0);
+    }
+
+  /**
+  * Return current row as an array of Object
+  * @return Object[] A one dimensional Object array containing the current row.
+  * @throws CSNoDataInRowSetException if no rows have been read.
+  */
+  public Object[] getCurrentRow() throws CSNoDataInRowSetException
+    {
+    checkRows();
+    return(currentRow);
+    }
+
+  /**
+  * Return a stored row without moving to it. We only have the current row.
+  * @param int rowNumber The row we want. Row numbers start at 0.
+  * @return Object[] The row, or <tt>null</tt> if it isn't the current row.
+  */
+  protected Object[] getStoredRow(int rowNumber)
+    {
+    if (rowNumber == currentRowNumber)
+      {
+      return(currentRow);
+      }
+
+    return(null);
+    }
+
+  /**
+  * Return a single value from the current row.
+  * @param int columnId The id of the column.
+  * @return Object The value of column #columnId in the current row.
+  * @throws CSNoDataInRowSetException if no rows have been read.
+  */
+  protected Object getCurrentValue(int columnId) throws CSNoDataInRowSetException
+    {
+    checkRows();
+    return(currentRow[columnId]);
+    }
+
+  /**
+  * Return <tt>true</tt> if there may be more rows to read.
+  * @return boolean <tt>true</tt> if the ResultSet is still open.
+  */
+  public boolean isOpen()
+    {
+    return(theResultSet != null);
+    }
+
+  /**
+  * Return the SQLException that stopped us reading rows.
+  * @return SQLException The exception, or <tt>null</tt> if nothing went wrong.
+  */
+  public SQLException getFetchException()
+    {
+    return(fetchException);
+    }
+
+  /**
+  * Used to tell if the object is using Oracle resources.
+  * @return <tt>true</tt> if the ResultSet is still open.
+  */
+  public boolean hasResources()
+    {
+    return(theResultSet != null);
+    }
+
+  /**
+  * Close the ResultSet. No more rows can be read once this has been called.
+  * @return <tt>true</tt> if the ResultSet was open.
+  */
+  public boolean releaseResources()
+    {
+    if (theResultSet == null)
+      {
+      return(false);
+      }
+
+    try
+      {
+      theResultSet.close();
+      }
+    catch (SQLException e)
+      {
+      theLog.syserror("Unable to close ResultSet:" + e.getMessage());
+      }
+
+    theResultSet = null;
+    return(true);
+    }
+
+  /**
+  * Return a WriteableRowSet containing a copy of the current row.
+  * @return WriteableRowSet A WriteableRowSet with zero or one rows.
+  */
+  public WriteableRowSet getWriteableRowSet()
+    {
+    Object[] allRows = new Object[0];
+
+    if (currentRow != null)
+      {
+      allRows = new Object[] {currentRow.clone()};
+      }
+
+    WriteableRowSet tempWriteableRowSet
+      = new WriteableRowSet(allRows
+                           ,columnNames
+                           ,columnOracleDatatypeNames
+                           ,underlyingOracleDatatypes
+                           ,columnJavaDatatypes
+                           ,columnLengths
+                           ,columnDecimalPlaces
+                           ,theLog
+                           ,downloadedFileDir
+                           ,keepFiles);
+
+    return(tempWriteableRowSet);
+    }
+
+  /**
+  * RowViews aren't supported because we only ever hold the current row.
+  * @throws IllegalStateException always.
+  */
+  public RowView createRowView()
+    {
+    throw new IllegalStateException("RowViews are not supported for StreamingRowSet");
+    }
+
+  /**
+  * Spliterators aren't supported because we only ever hold the current row.
+  * @throws IllegalStateException always.
+  */
+  public Spliterator<RowView> spliterator()
+    {
+    throw new IllegalStateException("Spliterators are not supported for StreamingRowSet");
+    }
+
+  /**
+  * Streams aren't supported because we only ever hold the current row. Use <tt>nextRow()</tt> instead.
+  * @throws IllegalStateException always.
+  */
+  public Stream<RowView> stream()
+    {
+    throw new IllegalStateException("Streams are not supported for StreamingRowSet - use nextRow()");
+    }
+
+  /**
+  * Return a String representation of the current row. Unlike ReadOnlyRowSet
+  * this does not move through the rows.
+  * @return A newline and colon deliminated String containing the column names and the current row.
+  */
+  public String toString()
+    {
+    String thisRowSet = this.getColumnNamesAsString(":");
+
+    try
+      {
+      thisRowSet = thisRowSet + "\n" + this.getRowAsString(":","?");
+      }
+    catch(CSNoDataInRowSetException e)
+      {
+      }
+
+    return(thisRowSet);
+    }
+}
+